@@ -1,9 +1,21 @@
 package com.example.categoryservice.application.port.in;
 
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFlatTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryPathResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategorySearchHitResponse;
+import com.example.categoryservice.application.port.out.CategorySuggestionResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.application.port.out.VersionedCategoryTreeResponse;
 import com.example.categoryservice.domain.model.CategoryId;
 
+import java.util.List;
+import java.util.Map;
+
 public interface CategoryUseCase {
 
     /**
@@ -21,11 +33,21 @@ public interface CategoryUseCase {
      */
     void deleteCategory(CategoryId categoryId);
 
+    /**
+     * 카테고리와 모든 하위 카테고리를 한 트랜잭션에서 삭제하고 삭제된 개수를 반환합니다.
+     */
+    int deleteCategorySubtree(CategoryId categoryId);
+
     /**
      * 특정 카테고리를 조회합니다.
      */
     CategoryResponse getCategory(CategoryId categoryId);
 
+    /**
+     * 여러 카테고리를 한 번에 조회합니다. 요청 순서를 유지하며 존재하지 않는 ID는 제외됩니다.
+     */
+    List<CategoryResponse> getCategories(List<CategoryId> categoryIds);
+
     /**
      * 모든 카테고리를 트리 구조로 조회합니다.
      */
@@ -35,4 +57,79 @@ public interface CategoryUseCase {
      * 특정 카테고리를 루트로 하는 트리를 조회합니다.
      */
     CategoryTreeResponse getCategoryTree(CategoryId rootCategoryId);
+
+    /**
+     * 지정된 카탈로그 버전의 전체 트리를 조회합니다. version 이 null 이면 현재 버전을 조회합니다.
+     */
+    VersionedCategoryTreeResponse getAllCategoriesAtVersion(Long version);
+
+    /**
+     * 지정된 카탈로그 버전에서 특정 카테고리를 루트로 하는 트리를 조회합니다. version 이 null 이면 현재 버전을 조회합니다.
+     */
+    VersionedCategoryTreeResponse getCategoryTreeAtVersion(CategoryId rootCategoryId, Long version);
+
+    /**
+     * 두 카탈로그 버전 사이의 트리 차이를 조회합니다. toVersion 이 null 이면 현재 버전과 비교합니다.
+     */
+    CategoryTreeDiffResponse getTreeDiff(long fromVersion, Long toVersion);
+
+    /**
+     * 모든 카테고리를 ID와 이름만 담은 간략 트리로 조회합니다.
+     */
+    CategoryCompactTreeResponse getAllCategoriesCompact(boolean includeChildCount);
+
+    /**
+     * 특정 카테고리를 루트로 하는 간략 트리를 조회합니다.
+     */
+    CategoryCompactTreeResponse getCategoryTreeCompact(CategoryId rootCategoryId, boolean includeChildCount);
+
+    /**
+     * 모든 카테고리를 ID/이름/부모 위치 배열로 구성된 평면 트리로 조회합니다.
+     */
+    CategoryFlatTreeResponse getAllCategoriesFlat();
+
+    /**
+     * 특정 카테고리를 루트로 하는 평면 트리를 조회합니다.
+     */
+    CategoryFlatTreeResponse getCategoryTreeFlat(CategoryId rootCategoryId);
+
+    /**
+     * 루트부터 해당 카테고리까지의 경로(breadcrumb)를 조회합니다.
+     */
+    CategoryPathResponse getAncestors(CategoryId categoryId);
+
+    /**
+     * 여러 카테고리의 경로를 한 번에 조회합니다. 존재하지 않는 ID는 제외됩니다.
+     */
+    List<CategoryPathResponse> getAncestorPaths(List<CategoryId> categoryIds);
+
+    /**
+     * ancestorId 카테고리가 descendantId 카테고리 자신이거나 그 조상인지 확인합니다.
+     */
+    boolean isAncestorOrSelf(CategoryId ancestorId, CategoryId descendantId);
+
+    /**
+     * 주어진 카테고리들과 그 조상만으로 구성된 최소 트리를 조회합니다. counts 는 노드별로 그대로 전달됩니다.
+     */
+    CategoryFacetTreeResponse getCoveringTree(List<CategoryId> categoryIds, Map<Long, Long> counts);
+
+    /**
+     * 이름이 접두어로 시작하는 카테고리를 얕은 깊이 순으로 최대 limit 개 조회합니다.
+     */
+    List<CategorySuggestionResponse> suggestCategories(String query, int limit);
+
+    /**
+     * 이름과 설명을 전문 검색합니다. 공백은 AND, 대문자 OR 는 OR 로 해석합니다.
+     */
+    List<CategorySearchHitResponse> searchCategories(String query, int limit);
+
+    /**
+     * 루트부터의 이름 경로(예: 전자제품/스마트폰/안드로이드)로 카테고리를 조회합니다.
+     */
+    CategoryResponse getCategoryByPath(List<String> names);
+
+    /**
+     * 시퀀스가 since 보다 큰 변경 로그를 순서대로 최대 limit 개 조회합니다.
+     */
+    CategoryChangeFeedResponse getChanges(long since, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.categoryservice.application.port.out;
+
+import java.util.List;
+
+/**
+ * 변경 피드 한 페이지. 다음 요청은 nextSince 를 since 로 전달하면 됩니다.
+ */
+public record CategoryChangeFeedResponse(
+    List<CategoryChangeResponse> changes,
+    long nextSince,
+    boolean hasMore
+) {
+}
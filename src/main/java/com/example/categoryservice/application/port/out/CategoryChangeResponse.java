@@ -0,0 +1,16 @@
+package com.example.categoryservice.application.port.out;
+
+import java.time.LocalDateTime;
+
+public record CategoryChangeResponse(
+    Long sequence,
+    // 변경이 속한 카탈로그 버전 (트리 응답의 X-Catalog-Version, 스트림 이벤트 ID 와 같은 값)
+    long catalogVersion,
+    String type,
+    Long categoryId,
+    String name,
+    String description,
+    Long parentId,
+    LocalDateTime changedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.categoryservice.application.port.out;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public record CategoryCompactNodeResponse(
+    Long id,
+    String name,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Integer childCount,
+    List<CategoryCompactNodeResponse> children
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.categoryservice.application.port.out;
+
+public record CategoryContainmentResponse(
+    Long ancestorId,
+    Long descendantId,
+    boolean contains
+) {
+}
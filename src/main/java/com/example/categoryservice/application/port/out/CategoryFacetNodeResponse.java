@@ -0,0 +1,11 @@
+package com.example.categoryservice.application.port.out;
+
+import java.util.List;
+
+public record CategoryFacetNodeResponse(
+    Long id,
+    String name,
+    Long count,
+    List<CategoryFacetNodeResponse> children
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.categoryservice.application.port.out;
+
+/**
+ * 열 지향(column-oriented) 카테고리 트리
+ * 같은 위치의 원소가 한 카테고리를 이루며, 전위 순회 순서라 부모가 항상 자식보다 앞에 옵니다.
+ * parentIndexes 는 부모의 배열 위치이며 루트는 -1 입니다.
+ */
+public record CategoryFlatTreeResponse(
+    long[] ids,
+    String[] names,
+    int[] parentIndexes
+) {
+}
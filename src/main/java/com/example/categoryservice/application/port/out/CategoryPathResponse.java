@@ -0,0 +1,9 @@
+package com.example.categoryservice.application.port.out;
+
+import java.util.List;
+
+public record CategoryPathResponse(
+    Long id,
+    List<CategorySummaryResponse> path
+) {
+}
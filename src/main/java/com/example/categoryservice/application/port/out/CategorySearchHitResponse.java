@@ -0,0 +1,11 @@
+package com.example.categoryservice.application.port.out;
+
+import java.util.List;
+
+public record CategorySearchHitResponse(
+    Long id,
+    String name,
+    String description,
+    List<CategorySummaryResponse> path
+) {
+}
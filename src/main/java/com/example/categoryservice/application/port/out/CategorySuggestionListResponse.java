@@ -0,0 +1,8 @@
+package com.example.categoryservice.application.port.out;
+
+import java.util.List;
+
+public record CategorySuggestionListResponse(
+    List<CategorySuggestionResponse> suggestions
+) {
+}
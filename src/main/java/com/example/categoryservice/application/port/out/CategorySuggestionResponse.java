@@ -0,0 +1,9 @@
+package com.example.categoryservice.application.port.out;
+
+public record CategorySuggestionResponse(
+    Long id,
+    String name,
+    Long parentId,
+    int depth
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.categoryservice.application.port.out;
+
+public record CategorySummaryResponse(
+    Long id,
+    String name
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.categoryservice.application.port.out;
+
+/**
+ * 트리 차이 항목. 종류는 변경 피드와 같으며(CREATED/UPDATED/MOVED/DELETED), 삭제 외에는 변경 후 상태를 담습니다.
+ */
+public record CategoryTreeDiffEntryResponse(
+    String type,
+    Long categoryId,
+    String name,
+    String description,
+    Long parentId
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.categoryservice.application.port.out;
+
+import java.util.List;
+
+/**
+ * 두 카탈로그 버전 사이의 트리 차이
+ * 항목은 생성(부모 먼저), 이동, 수정, 삭제 순이며 이 순서대로 반영하면 from 버전 트리가 to 버전 트리가 됩니다.
+ */
+public record CategoryTreeDiffResponse(
+    long fromVersion,
+    long toVersion,
+    List<CategoryTreeDiffEntryResponse> changes
+) {
+}
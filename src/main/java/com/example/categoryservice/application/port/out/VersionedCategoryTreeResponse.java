@@ -0,0 +1,10 @@
+package com.example.categoryservice.application.port.out;
+
+/**
+ * 특정 카탈로그 버전의 카테고리 트리
+ */
+public record VersionedCategoryTreeResponse(
+    long version,
+    CategoryTreeResponse tree
+) {
+}
@@ -0,0 +1,212 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryChangeType;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 간 로컬 캐시 일관성 유지
+ * 쓰기 트랜잭션마다 catalog_version 을 올리고, 주기적으로 변경 로그를 마지막으로 읽은 시퀀스부터 이어 읽어
+ * 다른 노드가 커밋한 변경의 카테고리만 로컬 캐시와 인메모리 인덱스에서 갱신합니다.
+ * 이 노드가 커밋한 버전의 변경은 커밋 시 이미 반영되어 있으므로 건너뜁니다.
+ * 읽은 변경은 노드와 관계없이 모두 변경 스트림 구독자에게 시퀀스 순으로 전달합니다.
+ * 공유(L2) 캐시는 쓴 노드가 커밋 시 이미 갱신하므로 이 노드의 로컬(L1) 캐시만 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionTracker {
+
+    static final int PAGE_SIZE = 1000;
+    // 한 번에 따라잡을 최대 변경 수. 넘으면 항목별 반영 대신 로컬 상태를 비우고 최신 위치로 건너뜀
+    static final int MAX_DELTA = 10_000;
+    private static final String CATEGORY_TREE_CACHE = "categoryTree";
+    private static final long UNINITIALIZED = -1L;
+
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CategoryChangeLogRepository categoryChangeLogRepository;
+    private final CacheManager cacheManager;
+    private final CategoryTreeReadModel categoryTreeReadModel;
+    private final CategoryNameSuggestIndex categoryNameSuggestIndex;
+    private final CategorySearchIndex categorySearchIndex;
+    private final CategoryNegativeLookupCache categoryNegativeLookupCache;
+    private final CategoryChangeBroadcaster categoryChangeBroadcaster;
+
+    // 커밋했지만 아직 변경 로그에서 확인하지 않은 이 노드의 버전
+    private final Set<Long> localVersions = ConcurrentHashMap.newKeySet();
+    private volatile long lastSequence = UNINITIALIZED;
+
+    /**
+     * 현재 쓰기 트랜잭션에서 카탈로그 버전을 올리고 올린 값을 반환합니다. 커밋되면 이 노드의 쓰기로 기록됩니다.
+     */
+    public long bump() {
+        long version = catalogVersionRepository.increment();
+        TransactionCallbacks.afterCommit(() -> localVersions.add(version));
+        return version;
+    }
+
+    /**
+     * 마지막으로 읽은 이후의 변경 로그를 읽어 구독자에게 전달하고, 다른 노드의 변경을 로컬 캐시와 인덱스에 반영합니다.
+     *
+     * @return 다른 노드의 변경을 반영했으면 true
+     */
+    public synchronized boolean refresh() {
+        if (lastSequence == UNINITIALIZED) {
+            // 시작 직후의 로컬 상태는 비어 있어 DB 에서 적재되므로 이후 변경부터 따라감
+            lastSequence = categoryChangeLogRepository.latestSequence();
+            return false;
+        }
+
+        List<CategoryChange> changes = readSince(lastSequence);
+        if (changes == null) {
+            log.debug("More than {} category changes since sequence {}, evicting local caches", MAX_DELTA, lastSequence);
+            lastSequence = categoryChangeLogRepository.latestSequence();
+            localVersions.clear();
+            evictLocalState();
+            categoryChangeBroadcaster.resyncAll();
+            return true;
+        }
+        if (changes.isEmpty()) {
+            return false;
+        }
+
+        CategoryChange last = changes.get(changes.size() - 1);
+        lastSequence = last.getSequence();
+        List<CategoryChange> foreign = changes.stream()
+            .filter(change -> !localVersions.contains(change.getCatalogVersion()))
+            .toList();
+        // 확인한 시퀀스까지의 버전은 모두 커밋되어 있으므로 더 기억할 필요 없음
+        localVersions.removeIf(version -> version <= last.getCatalogVersion());
+
+        if (!foreign.isEmpty()) {
+            log.debug("Applying {} category changes from other nodes up to sequence {}", foreign.size(), lastSequence);
+            applyForeign(foreign);
+        }
+        // 구독자가 이벤트를 받고 이 노드를 조회했을 때 반영된 상태를 보도록 로컬 반영 후에 전달
+        categoryChangeBroadcaster.publish(changes);
+        return !foreign.isEmpty();
+    }
+
+    /**
+     * 마지막으로 읽은 변경 로그 시퀀스. 아직 읽지 않았으면 -1 입니다.
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    // since 이후의 변경을 시퀀스 순으로 모두 읽음. MAX_DELTA 를 넘으면 null
+    private List<CategoryChange> readSince(long since) {
+        List<CategoryChange> changes = new ArrayList<>();
+        long cursor = since;
+        while (true) {
+            List<CategoryChange> page = categoryChangeLogRepository.findSince(cursor, PAGE_SIZE);
+            changes.addAll(page);
+            if (changes.size() > MAX_DELTA) {
+                return null;
+            }
+            if (page.size() < PAGE_SIZE) {
+                return changes;
+            }
+            cursor = page.get(page.size() - 1).getSequence();
+        }
+    }
+
+    private void applyForeign(List<CategoryChange> changes) {
+        Cache categories = cacheManager.getCache(CategoryService.CATEGORIES_CACHE);
+        for (CategoryChange change : changes) {
+            Long id = change.getCategoryId();
+            if (categories != null) {
+                evictLocal(categories, id);
+            }
+            if (change.getType() == CategoryChangeType.DELETED) {
+                categoryNameSuggestIndex.removeAll(List.of(id));
+                categorySearchIndex.removeAll(List.of(id));
+            } else {
+                categoryNameSuggestIndex.put(id, change.getName());
+                categorySearchIndex.put(id, change.getName(), change.getDescription());
+            }
+            if (change.getType() == CategoryChangeType.CREATED) {
+                // 다른 노드가 생성한 카테고리가 없는 ID 로 남아 있지 않도록 함
+                categoryNegativeLookupCache.remove(id);
+            }
+        }
+
+        // 간략 트리 항목은 트리 전체를 담으므로 변경이 있으면 모두 영향을 받음
+        // 트리 인덱스는 읽기 모델의 게시된 버전에서 만들어지므로 읽기 모델 반영만으로 따라옴
+        Cache trees = cacheManager.getCache(CATEGORY_TREE_CACHE);
+        if (trees != null) {
+            clearLocal(trees);
+        }
+        applyToReadModel(changes);
+    }
+
+    // 버전별로 묶어 읽기 모델에 순서대로 반영. 각 버전은 변경 로그 항목이 담은 그 버전의 상태로만 만듦
+    // (현재 상태를 다시 읽으면 중간 버전이 이후 버전의 데이터를 담게 됨)
+    private void applyToReadModel(List<CategoryChange> changes) {
+        Map<Long, List<CategoryChange>> byVersion = new TreeMap<>();
+        for (CategoryChange change : changes) {
+            byVersion.computeIfAbsent(change.getCatalogVersion(), version -> new ArrayList<>()).add(change);
+        }
+        for (Map.Entry<Long, List<CategoryChange>> entry : byVersion.entrySet()) {
+            long version = entry.getKey();
+            List<CategoryChange> versionChanges = entry.getValue();
+            List<CategoryView> upserts = new ArrayList<>();
+            List<Long> removedIds = new ArrayList<>();
+            for (CategoryChange change : versionChanges) {
+                if (change.getType() == CategoryChangeType.DELETED) {
+                    removedIds.add(change.getCategoryId());
+                    continue;
+                }
+                CategoryView view = change.toView();
+                if (view == null) {
+                    // 생성/수정 일시 없이 기록된 항목은 그 버전의 상태를 만들 수 없으므로 다음 조회 때 다시 적재
+                    log.debug("Category change {} has no row state, rebuilding the tree read model", change.getSequence());
+                    categoryTreeReadModel.invalidate();
+                    return;
+                }
+                upserts.add(view);
+            }
+            categoryTreeReadModel.applyChanges(version, upserts, removedIds);
+        }
+    }
+
+    private void evictLocalState() {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                clearLocal(cache);
+            }
+        }
+        categoryTreeReadModel.invalidate();
+        categoryNameSuggestIndex.invalidate();
+        categorySearchIndex.invalidate();
+        categoryNegativeLookupCache.invalidate();
+    }
+
+    private static void evictLocal(Cache cache, Object key) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> local) {
+            local.invalidate(key);
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    // 2단계 캐시의 네이티브 캐시는 L1 이므로 다른 노드가 쓰는 L2 는 그대로 둠
+    private static void clearLocal(Cache cache) {
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> local) {
+            local.invalidateAll();
+        } else {
+            cache.clear();
+        }
+    }
+}
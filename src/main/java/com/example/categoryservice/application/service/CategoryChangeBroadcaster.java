@@ -0,0 +1,145 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 커밋된 카테고리 변경을 구독자에게 전달하는 허브
+ * 변경은 CatalogVersionTracker 가 변경 로그를 이어 읽을 때 시퀀스 순으로 전달되므로,
+ * 어느 노드에서 커밋된 쓰기든 모든 노드의 구독자가 같은 순서로 받습니다.
+ * 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 넘친 구독자는 구독을 끊고 재동기화 대상으로 표시합니다.
+ * 한 번에 전달하는 변경은 카탈로그 버전 단위로 완결되어 있으며, 버퍼에서 꺼낼 때도 전달 단위가 나뉘지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryChangeBroadcaster {
+
+    private final CategoryChangeLogRepository categoryChangeLogRepository;
+    private final CategoryMapper categoryMapper;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 구독을 등록합니다. 새 이벤트가 버퍼에 들어오면 onAvailable 이 호출되며, 호출 스레드를 막지 않아야 합니다.
+     */
+    public Subscription subscribe(int capacity, Runnable onAvailable) {
+        Subscription subscription = new Subscription(capacity, onAvailable);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * 변경 로그에서 읽은 변경을 시퀀스 순으로 구독자에게 전달합니다.
+     */
+    public void publish(List<CategoryChange> changes) {
+        if (subscriptions.isEmpty() || changes.isEmpty()) {
+            return;
+        }
+
+        List<CategoryChangeResponse> events = changes.stream()
+            .map(categoryMapper::toChangeResponse)
+            .toList();
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.offer(events);
+            } catch (RuntimeException e) {
+                // 한 구독자의 문제로 변경 로그 반영이 중단되지 않도록 함
+                log.warn("Failed to notify category change subscriber", e);
+                subscription.close();
+            }
+        }
+    }
+
+    /**
+     * 변경 로그를 건너뛰어 전달하지 못한 변경이 생겼을 때 모든 구독자를 재동기화 대상으로 표시합니다.
+     */
+    public void resyncAll() {
+        for (Subscription subscription : subscriptions) {
+            subscription.overflow();
+        }
+    }
+
+    /**
+     * 변경 로그의 최신 카탈로그 버전. 재동기화 시 클라이언트가 이어 받을 위치로 안내합니다.
+     */
+    public long latestCatalogVersion() {
+        return categoryChangeLogRepository.latestCatalogVersion();
+    }
+
+    /**
+     * 카탈로그 버전 catalogVersion 까지 반영한 클라이언트가 이어 읽을 변경 로그 시퀀스
+     */
+    public long sequenceAtVersion(long catalogVersion) {
+        return categoryChangeLogRepository.sequenceAtVersion(catalogVersion);
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * 구독자 하나의 이벤트 버퍼
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final BlockingQueue<CategoryChangeResponse> buffer;
+        private final Runnable onAvailable;
+        private volatile boolean overflowed;
+
+        private Subscription(int capacity, Runnable onAvailable) {
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+            this.onAvailable = onAvailable;
+        }
+
+        private synchronized void offer(List<CategoryChangeResponse> events) {
+            for (CategoryChangeResponse event : events) {
+                if (!buffer.offer(event)) {
+                    // 일부만 전달하면 순서가 어긋나므로 버퍼를 비우고 재동기화하도록 함
+                    overflow();
+                    return;
+                }
+            }
+            onAvailable.run();
+        }
+
+        private synchronized void overflow() {
+            overflowed = true;
+            buffer.clear();
+            close();
+            onAvailable.run();
+        }
+
+        /**
+         * 버퍼가 넘쳐 이벤트가 누락되었는지 여부. true 이면 구독자는 전체 트리를 다시 받아야 합니다.
+         */
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        /**
+         * 버퍼에 쌓인 이벤트를 순서대로 꺼냅니다. 전달 도중에는 꺼내지 않으므로 마지막 이벤트는 항상 버전의 끝입니다.
+         */
+        public synchronized List<CategoryChangeResponse> drain() {
+            List<CategoryChangeResponse> events = new ArrayList<>(buffer.size());
+            buffer.drainTo(events);
+            return events;
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
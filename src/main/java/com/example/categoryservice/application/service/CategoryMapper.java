@@ -1,10 +1,16 @@
 package com.example.categoryservice.application.service;
 
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
 import com.example.categoryservice.application.port.out.CategoryNodeResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
 import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryChange;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -24,17 +30,51 @@ public class CategoryMapper {
         );
     }
 
+    public CategoryResponse toResponse(CategoryView category) {
+        return new CategoryResponse(
+            category.id(),
+            category.name(),
+            category.description(),
+            category.parentId(),
+            category.createdAt(),
+            category.updatedAt()
+        );
+    }
+
+    public CategoryChangeResponse toChangeResponse(CategoryChange change) {
+        return new CategoryChangeResponse(
+            change.getSequence(),
+            change.getCatalogVersion(),
+            change.getType().name(),
+            change.getCategoryId(),
+            change.getName(),
+            change.getDescription(),
+            change.getParentId(),
+            change.getChangedAt()
+        );
+    }
+
     public CategoryTreeResponse toCategoryTree(List<Category> categories) {
         return toCategoryTree(categories, null);
     }
 
     public CategoryTreeResponse toCategoryTree(List<Category> categories, CategoryId rootCategoryId) {
-        Map<CategoryId, List<Category>> categoryMap = new HashMap<>();
+        List<CategoryView> views = categories.stream()
+            .map(CategoryView::from)
+            .collect(Collectors.toList());
+        return toViewTree(views, rootCategoryId);
+    }
+
+    public CategoryTreeResponse toViewTree(List<CategoryView> categories) {
+        return toViewTree(categories, null);
+    }
+
+    public CategoryTreeResponse toViewTree(List<CategoryView> categories, CategoryId rootCategoryId) {
+        Map<Long, List<CategoryView>> categoryMap = new HashMap<>();
 
         // 카테고리를 부모 ID별로 그룹핑 (null 키 허용)
-        for (Category category : categories) {
-            CategoryId parentId = category.getParentId();
-            categoryMap.computeIfAbsent(parentId, k -> new ArrayList<>()).add(category);
+        for (CategoryView category : categories) {
+            categoryMap.computeIfAbsent(category.parentId(), k -> new ArrayList<>()).add(category);
         }
 
         List<CategoryNodeResponse> roots;
@@ -46,8 +86,8 @@ public class CategoryMapper {
                 .collect(Collectors.toList());
         } else {
             // 특정 카테고리를 루트로 하는 트리 조회
-            Category rootCategory = categories.stream()
-                .filter(c -> c.getId().equals(rootCategoryId))
+            CategoryView rootCategory = categories.stream()
+                .filter(c -> c.id().equals(rootCategoryId.getValue()))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Root category not found: " + rootCategoryId.getValue()));
 
@@ -57,18 +97,62 @@ public class CategoryMapper {
         return new CategoryTreeResponse(roots);
     }
 
-    private CategoryNodeResponse buildCategoryNode(Category category, Map<CategoryId, List<Category>> categoryMap) {
-        List<CategoryNodeResponse> children = categoryMap.getOrDefault(category.getId(), Collections.emptyList())
+    private CategoryNodeResponse buildCategoryNode(CategoryView category, Map<Long, List<CategoryView>> categoryMap) {
+        // 노드는 전체 트리와 하위 트리 응답이 공유하므로 변경 불가 리스트로 생성
+        List<CategoryNodeResponse> children = categoryMap.getOrDefault(category.id(), Collections.emptyList())
             .stream()
             .map(child -> buildCategoryNode(child, categoryMap))
-            .collect(Collectors.toList());
+            .toList();
 
         return new CategoryNodeResponse(
-            category.getId().getValue(),
-            category.getName(),
-            category.getDescription(),
-            category.getCreatedAt(),
-            category.getUpdatedAt(),
+            category.id(),
+            category.name(),
+            category.description(),
+            category.createdAt(),
+            category.updatedAt(),
+            children
+        );
+    }
+
+    public CategoryCompactTreeResponse toCompactTree(List<CategoryNodeView> categories, CategoryId rootCategoryId,
+                                                     boolean includeChildCount) {
+        Map<Long, List<CategoryNodeView>> categoryMap = new HashMap<>();
+
+        // 카테고리를 부모 ID별로 그룹핑 (null 키 허용)
+        for (CategoryNodeView category : categories) {
+            categoryMap.computeIfAbsent(category.parentId(), k -> new ArrayList<>()).add(category);
+        }
+
+        List<CategoryCompactNodeResponse> roots;
+        if (rootCategoryId == null) {
+            roots = categoryMap.getOrDefault(null, Collections.emptyList())
+                .stream()
+                .map(category -> buildCompactNode(category, categoryMap, includeChildCount))
+                .collect(Collectors.toList());
+        } else {
+            CategoryNodeView rootCategory = categories.stream()
+                .filter(c -> c.id().equals(rootCategoryId.getValue()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Root category not found: " + rootCategoryId.getValue()));
+
+            roots = List.of(buildCompactNode(rootCategory, categoryMap, includeChildCount));
+        }
+
+        return new CategoryCompactTreeResponse(roots);
+    }
+
+    private CategoryCompactNodeResponse buildCompactNode(CategoryNodeView category,
+                                                         Map<Long, List<CategoryNodeView>> categoryMap,
+                                                         boolean includeChildCount) {
+        List<CategoryCompactNodeResponse> children = categoryMap.getOrDefault(category.id(), Collections.emptyList())
+            .stream()
+            .map(child -> buildCompactNode(child, categoryMap, includeChildCount))
+            .collect(Collectors.toList());
+
+        return new CategoryCompactNodeResponse(
+            category.id(),
+            category.name(),
+            includeChildCount ? children.size() : null,
             children
         );
     }
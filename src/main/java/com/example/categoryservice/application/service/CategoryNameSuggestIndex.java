@@ -0,0 +1,118 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 카테고리 이름 접두어 자동완성 인덱스
+ * 정규화된 이름으로 정렬된 skip list 에서 접두어 구간만 탐색하며, 쓰기 커밋 시 증분 갱신됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryNameSuggestIndex {
+
+    // 같은 이름을 가진 카테고리를 구분하기 위한 구분자 (정규화된 이름에는 등장하지 않음)
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char PREFIX_UPPER_BOUND = Character.MAX_VALUE;
+
+    private final CategoryRepository categoryRepository;
+
+    private final ConcurrentSkipListMap<String, Long> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * 접두어에 일치하는 카테고리 중 order 기준 상위 limit 개의 ID를 반환합니다.
+     */
+    public List<Long> suggest(String query, int limit, Comparator<Long> order) {
+        ensureLoaded();
+
+        String prefix = CategoryNameNormalizer.normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // order 의 역순 힙으로 상위 limit 개만 유지
+        PriorityQueue<Long> top = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Long id : entries.subMap(prefix, true, prefix + PREFIX_UPPER_BOUND, true).values()) {
+            top.offer(id);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(top);
+        result.sort(order);
+        return result;
+    }
+
+    /**
+     * 카테고리 이름을 등록하거나 갱신합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void put(Long id, String name) {
+        TransactionCallbacks.afterCommit(() -> apply(id, name));
+    }
+
+    /**
+     * 카테고리들을 인덱스에서 제거합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void removeAll(Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        TransactionCallbacks.afterCommit(() -> removed.forEach(id -> apply(id, null)));
+    }
+
+    /**
+     * 인덱스를 비우고 다음 조회 시 DB에서 다시 적재합니다.
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+        entries.clear();
+        keysById.clear();
+    }
+
+    private synchronized void apply(Long id, String name) {
+        // 아직 적재 전이면 최초 적재 시 DB에서 반영됨
+        if (!loaded) {
+            return;
+        }
+
+        String previousKey = keysById.remove(id);
+        if (previousKey != null) {
+            entries.remove(previousKey);
+        }
+        if (name != null) {
+            String key = CategoryNameNormalizer.normalize(name) + KEY_SEPARATOR + id;
+            entries.put(key, id);
+            keysById.put(id, key);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            // ID 와 이름만 필요하므로 엔티티 대신 프로젝션으로 적재
+            for (CategoryNodeView category : categoryRepository.findAllNodeViews()) {
+                Long id = category.id();
+                String key = CategoryNameNormalizer.normalize(category.name()) + KEY_SEPARATOR + id;
+                entries.put(key, id);
+                keysById.put(id, key);
+            }
+            loaded = true;
+            log.debug("Category name suggest index loaded: {} entries", entries.size());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.categoryservice.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 존재하지 않는 카테고리 ID 의 짧은 부정 캐시
+ * 없는 ID 조회는 예외로 끝나 @Cacheable 에 남지 않으므로, 최근 없다고 확인된 ID 를 크기와 TTL 한도 안에서 기억해
+ * 연속된 ID 를 훑는 요청이 매번 DB 를 조회하지 않도록 합니다.
+ * 카테고리가 생성되면 해당 ID 를 지우고, 조회 도중 생성이 반영되었으면 그 조회 결과는 기록하지 않습니다.
+ */
+@Component
+public class CategoryNegativeLookupCache {
+
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+    static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final Cache<Long, Boolean> missingIds;
+    // 생성/무효화마다 증가. 조회 시작 이후 바뀌었으면 부정 결과를 기록하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryNegativeLookupCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL, Ticker.systemTicker());
+    }
+
+    @Autowired
+    public CategoryNegativeLookupCache(@Value("${app.category-lookup.negative-cache-size:10000}") long maximumSize,
+                                       @Value("${app.category-lookup.negative-cache-ttl:PT30S}") Duration ttl) {
+        this(maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CategoryNegativeLookupCache(long maximumSize, Duration ttl, Ticker ticker) {
+        this.missingIds = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .build();
+    }
+
+    public boolean isMissing(Long id) {
+        return missingIds.getIfPresent(id) != null;
+    }
+
+    /**
+     * 조회를 시작하기 전에 읽어 두었다가 markMissing 에 넘깁니다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void markMissing(Long id, long observedGeneration) {
+        if (generation.get() != observedGeneration) {
+            return;
+        }
+        missingIds.put(id, Boolean.TRUE);
+        // 기록하는 사이에 생성이 반영되었으면 되돌림
+        if (generation.get() != observedGeneration) {
+            missingIds.invalidate(id);
+        }
+    }
+
+    public void remove(Long id) {
+        generation.incrementAndGet();
+        missingIds.invalidate(id);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        missingIds.invalidateAll();
+    }
+
+    public long size() {
+        return missingIds.estimatedSize();
+    }
+
+    void cleanUp() {
+        missingIds.cleanUp();
+    }
+}
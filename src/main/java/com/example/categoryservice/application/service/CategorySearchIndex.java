@@ -0,0 +1,257 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 카테고리 이름/설명 전문 검색용 역색인
+ * 토큰마다 내부 문서 번호(int)의 압축 posting list 를 보관하며, 쓰기 커밋 시 증분 갱신됩니다.
+ * 질의는 공백으로 구분된 단어의 AND 이며, 대문자 OR 로 AND 그룹들을 합칩니다. (예: "red shoes OR boots")
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategorySearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String OR_OPERATOR = "OR";
+
+    private final CategoryRepository categoryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, byte[]> postings = new HashMap<>();
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final Map<Integer, Set<String>> tokensByDoc = new HashMap<>();
+    private long[] categoryIdsByDoc = new long[1024];
+    private int nextDocId;
+    private volatile boolean loaded;
+
+    /**
+     * 질의에 일치하는 카테고리 ID를 문서 등록 순으로 최대 limit 개 반환합니다.
+     */
+    public List<Long> search(String query, int limit) {
+        ensureLoaded();
+
+        List<List<String>> clauses = parse(query);
+        if (clauses.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] matched = new int[0];
+            for (List<String> clause : clauses) {
+                matched = PostingList.union(matched, matchAll(clause));
+            }
+
+            int count = Math.min(limit, matched.length);
+            List<Long> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(categoryIdsByDoc[matched[i]]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리를 색인하거나 다시 색인합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void put(Long id, String name, String description) {
+        TransactionCallbacks.afterCommit(() -> applyIfLoaded(() -> index(id, name, description)));
+    }
+
+    /**
+     * 카테고리들을 색인에서 제거합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void removeAll(Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        TransactionCallbacks.afterCommit(() -> applyIfLoaded(() -> removed.forEach(this::unindex)));
+    }
+
+    /**
+     * 색인을 비우고 다음 검색 시 DB에서 다시 적재합니다.
+     */
+    public synchronized void invalidate() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+            postings.clear();
+            docIds.clear();
+            tokensByDoc.clear();
+            nextDocId = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private synchronized void applyIfLoaded(Runnable change) {
+        // 아직 적재 전이면 최초 적재 시 DB에서 반영됨
+        if (loaded) {
+            change.run();
+        }
+    }
+
+    private int[] matchAll(List<String> terms) {
+        int[] matched = null;
+        for (String term : terms) {
+            byte[] posting = postings.get(term);
+            if (posting == null) {
+                return new int[0];
+            }
+            int[] docs = PostingList.decode(posting);
+            matched = matched == null ? docs : PostingList.intersect(matched, docs);
+            if (matched.length == 0) {
+                break;
+            }
+        }
+        return matched != null ? matched : new int[0];
+    }
+
+    private void index(Long id, String name, String description) {
+        lock.writeLock().lock();
+        try {
+            Set<String> tokens = tokenize(name);
+            tokens.addAll(tokenize(description));
+
+            Integer docId = docIds.get(id);
+            if (docId == null) {
+                docId = assignDocId(id);
+            }
+
+            Set<String> previous = tokensByDoc.getOrDefault(docId, Set.of());
+            for (String token : previous) {
+                if (!tokens.contains(token)) {
+                    removePosting(token, docId);
+                }
+            }
+            for (String token : tokens) {
+                if (!previous.contains(token)) {
+                    postings.put(token, PostingList.add(postings.getOrDefault(token, PostingList.EMPTY), docId));
+                }
+            }
+            tokensByDoc.put(docId, tokens);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIds.remove(id);
+            if (docId == null) {
+                return;
+            }
+            for (String token : tokensByDoc.remove(docId)) {
+                removePosting(token, docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePosting(String token, int docId) {
+        byte[] updated = PostingList.remove(postings.getOrDefault(token, PostingList.EMPTY), docId);
+        if (updated.length == 0) {
+            postings.remove(token);
+        } else {
+            postings.put(token, updated);
+        }
+    }
+
+    private int assignDocId(Long id) {
+        int docId = nextDocId++;
+        if (docId == categoryIdsByDoc.length) {
+            categoryIdsByDoc = Arrays.copyOf(categoryIdsByDoc, categoryIdsByDoc.length * 2);
+        }
+        categoryIdsByDoc[docId] = id;
+        docIds.put(id, docId);
+        return docId;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            // 엔티티 대신 조회 전용 프로젝션으로 적재
+            load(categoryRepository.findAllViews());
+            loaded = true;
+            log.debug("Category search index loaded: {} documents, {} tokens", docIds.size(), postings.size());
+        }
+    }
+
+    private void load(List<CategoryView> categories) {
+        lock.writeLock().lock();
+        try {
+            // 문서 번호를 적재 순서대로 매기므로 토큰별 목록이 이미 정렬되어 있음. 토큰마다 한 번만 압축
+            Map<String, PostingList.Builder> builders = new HashMap<>();
+            for (CategoryView category : categories) {
+                if (docIds.containsKey(category.id())) {
+                    continue;
+                }
+                Set<String> tokens = tokenize(category.name());
+                tokens.addAll(tokenize(category.description()));
+
+                int docId = assignDocId(category.id());
+                for (String token : tokens) {
+                    builders.computeIfAbsent(token, key -> new PostingList.Builder()).add(docId);
+                }
+                tokensByDoc.put(docId, tokens);
+            }
+            builders.forEach((token, builder) -> postings.put(token, builder.build()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<List<String>> parse(String query) {
+        List<List<String>> clauses = new ArrayList<>();
+        if (query == null) {
+            return clauses;
+        }
+
+        List<String> current = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (OR_OPERATOR.equals(word)) {
+                if (!current.isEmpty()) {
+                    clauses.add(current);
+                }
+                current = new ArrayList<>();
+            } else {
+                current.addAll(tokenize(word));
+            }
+        }
+        if (!current.isEmpty()) {
+            clauses.add(current);
+        }
+        return clauses;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(CategoryNameNormalizer.normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
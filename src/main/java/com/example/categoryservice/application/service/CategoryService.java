@@ -3,31 +3,73 @@ package com.example.categoryservice.application.service;
 import com.example.categoryservice.application.port.in.CategoryUseCase;
 import com.example.categoryservice.application.port.in.CreateCategoryCommand;
 import com.example.categoryservice.application.port.in.UpdateCategoryCommand;
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFlatTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryPathResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategorySearchHitResponse;
+import com.example.categoryservice.application.port.out.CategorySuggestionResponse;
+import com.example.categoryservice.application.port.out.CategorySummaryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.application.port.out.VersionedCategoryTreeResponse;
 import com.example.categoryservice.domain.exception.CategoryHasChildrenException;
 import com.example.categoryservice.domain.exception.CategoryNotFoundException;
 import com.example.categoryservice.domain.exception.CircularReferenceException;
+import com.example.categoryservice.domain.exception.DuplicateCategoryNameException;
 import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryChangeType;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
 import com.example.categoryservice.domain.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Supplier;
 
+/**
+ * 조회 메서드는 기본적으로 읽기 전용 트랜잭션(flush 생략, 읽기 전용 커넥션)에서 실행되며,
+ * 쓰기 메서드만 @Transactional 로 읽기-쓰기 트랜잭션을 엽니다.
+ */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CategoryService implements CategoryUseCase {
 
+    static final String CATEGORIES_CACHE = "categories";
+    static final int MAX_BULK_IDS = 1000;
+    static final int MAX_SUGGESTIONS = 50;
+    static final int MAX_SEARCH_HITS = 100;
+    static final int MAX_CHANGES = 1000;
+
     private final CategoryRepository categoryRepository;
+    private final CategoryChangeLogRepository categoryChangeLogRepository;
     private final CategoryMapper categoryMapper;
+    private final CacheManager cacheManager;
+    private final CategoryTreeIndex categoryTreeIndex;
+    private final CategoryTreeReadModel categoryTreeReadModel;
+    private final CatalogVersionTracker catalogVersionTracker;
+    private final CategoryNameSuggestIndex categoryNameSuggestIndex;
+    private final CategorySearchIndex categorySearchIndex;
+    private final CategoryNegativeLookupCache categoryNegativeLookupCache;
 
     @Override
+    @Transactional
+    @CacheEvict(value = {"categories", "categoryTree"}, allEntries = true)
     public CategoryResponse createCategory(CreateCategoryCommand command) {
         // 1. 부모 카테고리 존재 검증
         CategoryId parentId = null;
@@ -35,6 +77,7 @@ public class CategoryService implements CategoryUseCase {
             parentId = new CategoryId(command.parentId());
             validateParentExists(parentId);
         }
+        validateUniqueSiblingName(parentId, command.name(), null);
 
         // 2. 새 ID 생성
         Long newId = categoryRepository.generateNextId();
@@ -45,16 +88,24 @@ public class CategoryService implements CategoryUseCase {
             ? Category.create(categoryId, command.name(), command.description(), parentId)
             : Category.createRoot(categoryId, command.name(), command.description());
 
-        // 4. 저장
+        // 4. 저장 (변경 로그도 같은 트랜잭션에서 기록)
         Category savedCategory = categoryRepository.save(category);
+        long catalogVersion = recordChanges(() -> List.of(CategoryChange.of(CategoryChangeType.CREATED, savedCategory)));
 
-        // 5. 캐시 무효화
-        evictCaches();
+        // 5. 인덱스 갱신
+        categoryTreeReadModel.upsert(savedCategory, catalogVersion);
+        categoryNameSuggestIndex.put(savedCategory.getId().getValue(), savedCategory.getName());
+        categorySearchIndex.put(savedCategory.getId().getValue(), savedCategory.getName(), savedCategory.getDescription());
+        // 커밋 전에 없다고 확인한 조회가 남긴 부정 캐시도 지우도록 커밋 후 한 번 더 제거
+        categoryNegativeLookupCache.remove(newId);
+        TransactionCallbacks.afterCommit(() -> categoryNegativeLookupCache.remove(newId));
 
         return categoryMapper.toResponse(savedCategory);
     }
 
     @Override
+    @Transactional
+    @CacheEvict(value = {"categories", "categoryTree"}, allEntries = true)
     public CategoryResponse updateCategory(UpdateCategoryCommand command) {
         CategoryId categoryId = new CategoryId(command.id());
 
@@ -68,21 +119,28 @@ public class CategoryService implements CategoryUseCase {
             newParentId = new CategoryId(command.parentId());
             validateParentChange(categoryId, newParentId);
         }
+        validateUniqueSiblingName(newParentId, command.name(), categoryId);
 
         // 3. 카테고리 업데이트
+        boolean moved = !Objects.equals(category.getParentId(), newParentId);
         category.updateInfo(command.name(), command.description());
         category.changeParent(newParentId);
 
-        // 4. 저장
+        // 4. 저장 (변경 로그도 같은 트랜잭션에서 기록)
         Category savedCategory = categoryRepository.save(category);
+        long catalogVersion = recordChanges(() -> List.of(
+            CategoryChange.of(moved ? CategoryChangeType.MOVED : CategoryChangeType.UPDATED, savedCategory)));
 
-        // 5. 캐시 무효화
-        evictCaches();
+        // 5. 인덱스 갱신
+        categoryTreeReadModel.upsert(savedCategory, catalogVersion);
+        categoryNameSuggestIndex.put(savedCategory.getId().getValue(), savedCategory.getName());
+        categorySearchIndex.put(savedCategory.getId().getValue(), savedCategory.getName(), savedCategory.getDescription());
 
         return categoryMapper.toResponse(savedCategory);
     }
 
     @Override
+    @Transactional
     @CacheEvict(value = {"categories", "categoryTree"}, allEntries = true)
     public void deleteCategory(CategoryId categoryId) {
         // 1. 카테고리 존재 검증
@@ -95,36 +153,424 @@ public class CategoryService implements CategoryUseCase {
             throw new CategoryHasChildrenException(categoryId);
         }
 
-        // 3. 삭제
+        // 3. 삭제 (변경 로그도 같은 트랜잭션에서 기록)
         categoryRepository.deleteById(categoryId);
+        long catalogVersion = recordChanges(() -> List.of(CategoryChange.deleted(categoryId)));
+        categoryTreeReadModel.remove(categoryId, catalogVersion);
+        categoryNameSuggestIndex.removeAll(List.of(categoryId.getValue()));
+        categorySearchIndex.removeAll(List.of(categoryId.getValue()));
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = {"categories", "categoryTree"}, allEntries = true)
+    public int deleteCategorySubtree(CategoryId categoryId) {
+        // 1. 하위 트리 ID 수집 (재귀 쿼리 1회, 루트 포함)
+        List<CategoryId> subtreeIds = categoryRepository.findSubtreeIds(categoryId);
+        if (subtreeIds.isEmpty()) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+
+        // 2. 배치 삭제 (하위 카테고리마다 변경 로그를 같은 트랜잭션에서 기록)
+        int deleted = categoryRepository.deleteAllById(subtreeIds);
+        long catalogVersion = recordChanges(() -> subtreeIds.stream().map(CategoryChange::deleted).toList());
+        categoryTreeReadModel.remove(categoryId, catalogVersion);
+        List<Long> deletedIds = subtreeIds.stream().map(CategoryId::getValue).toList();
+        categoryNameSuggestIndex.removeAll(deletedIds);
+        categorySearchIndex.removeAll(deletedIds);
+        return deleted;
     }
 
     @Override
     @Cacheable(value = "categories", key = "#categoryId.value")
     public CategoryResponse getCategory(CategoryId categoryId) {
-        Category category = categoryRepository.findById(categoryId)
-            .orElseThrow(() -> new CategoryNotFoundException(categoryId));
+        // 최근 없다고 확인된 ID 는 DB 를 다시 조회하지 않음
+        Long id = categoryId.getValue();
+        if (categoryNegativeLookupCache.isMissing(id)) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+
+        long generation = categoryNegativeLookupCache.generation();
+        Optional<CategoryView> category = categoryRepository.findViewById(categoryId);
+        if (category.isEmpty()) {
+            categoryNegativeLookupCache.markMissing(id, generation);
+            throw new CategoryNotFoundException(categoryId);
+        }
+
+        return categoryMapper.toResponse(category.get());
+    }
+
+    @Override
+    public List<CategoryResponse> getCategories(List<CategoryId> categoryIds) {
+        if (categoryIds.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("Too many category ids requested: " + categoryIds.size()
+                + " (max " + MAX_BULK_IDS + ")");
+        }
+
+        List<Long> keys = categoryIds.stream()
+            .map(CategoryId::getValue)
+            .distinct()
+            .toList();
 
-        return categoryMapper.toResponse(category);
+        Map<Object, Object> found = lookupCategories(keys);
+
+        return keys.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .map(CategoryResponse.class::cast)
+            .toList();
     }
 
     @Override
-    @Cacheable(value = "categoryTree", key = "'all'")
     public CategoryTreeResponse getAllCategories() {
-        List<Category> allCategories = categoryRepository.findAll();
-        return categoryMapper.toCategoryTree(allCategories);
+        return categoryTreeReadModel.current().tree();
     }
 
     @Override
-    @Cacheable(value = "categoryTree", key = "#rootCategoryId.value")
     public CategoryTreeResponse getCategoryTree(CategoryId rootCategoryId) {
+        // 전체 트리 안의 노드를 그대로 사용하므로 루트별 캐시 항목이 따로 없음
+        CategoryTreeResponse subtree = categoryTreeReadModel.current().subtree(rootCategoryId.getValue());
+        if (subtree == null) {
+            throw new CategoryNotFoundException(rootCategoryId);
+        }
+        return subtree;
+    }
+
+    @Override
+    public VersionedCategoryTreeResponse getAllCategoriesAtVersion(Long version) {
+        PersistentCategoryTree tree = categoryTreeReadModel.version(version);
+        return new VersionedCategoryTreeResponse(tree.version(), tree.tree());
+    }
+
+    @Override
+    public VersionedCategoryTreeResponse getCategoryTreeAtVersion(CategoryId rootCategoryId, Long version) {
+        PersistentCategoryTree tree = categoryTreeReadModel.version(version);
+        CategoryTreeResponse subtree = tree.subtree(rootCategoryId.getValue());
+        if (subtree == null) {
+            throw new CategoryNotFoundException(rootCategoryId);
+        }
+        return new VersionedCategoryTreeResponse(tree.version(), subtree);
+    }
+
+    @Override
+    public CategoryTreeDiffResponse getTreeDiff(long fromVersion, Long toVersion) {
+        // to 를 생략하면 현재 버전과 비교
+        PersistentCategoryTree target = categoryTreeReadModel.version(toVersion);
+        PersistentCategoryTree source = categoryTreeReadModel.version(fromVersion);
+        return new CategoryTreeDiffResponse(source.version(), target.version(), CategoryTreeDiff.between(source, target));
+    }
+
+    @Override
+    @Cacheable(value = "categoryTree", key = "'compact:' + #includeChildCount")
+    public CategoryCompactTreeResponse getAllCategoriesCompact(boolean includeChildCount) {
+        return categoryMapper.toCompactTree(categoryRepository.findAllNodeViews(), null, includeChildCount);
+    }
+
+    @Override
+    @Cacheable(value = "categoryTree", key = "'compact:' + #rootCategoryId.value + ':' + #includeChildCount")
+    public CategoryCompactTreeResponse getCategoryTreeCompact(CategoryId rootCategoryId, boolean includeChildCount) {
         // 루트 카테고리 존재 검증
         if (!categoryRepository.existsById(rootCategoryId)) {
             throw new CategoryNotFoundException(rootCategoryId);
         }
 
-        List<Category> allCategories = categoryRepository.findAll();
-        return categoryMapper.toCategoryTree(allCategories, rootCategoryId);
+        return categoryMapper.toCompactTree(categoryRepository.findAllNodeViews(), rootCategoryId, includeChildCount);
+    }
+
+    @Override
+    public CategoryFlatTreeResponse getAllCategoriesFlat() {
+        return toFlatTree(categoryTreeIndex.snapshot(), CategoryTreeSnapshot.NO_PARENT);
+    }
+
+    @Override
+    public CategoryFlatTreeResponse getCategoryTreeFlat(CategoryId rootCategoryId) {
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        int root = tree.indexOf(rootCategoryId);
+        if (root < 0) {
+            throw new CategoryNotFoundException(rootCategoryId);
+        }
+        return toFlatTree(tree, root);
+    }
+
+    @Override
+    public CategoryResponse getCategoryByPath(List<String> names) {
+        // 경로 세그먼트마다 (부모, 이름) 해시 조회 1회
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        int index = tree.resolvePath(names);
+        if (index < 0) {
+            throw new CategoryNotFoundException("Category path not found: " + String.join("/", names));
+        }
+
+        Long id = tree.idAt(index);
+        CategoryResponse category = (CategoryResponse) lookupCategories(List.of(id)).get(id);
+        if (category == null) {
+            throw new CategoryNotFoundException(new CategoryId(id));
+        }
+        return category;
+    }
+
+    @Override
+    public CategoryPathResponse getAncestors(CategoryId categoryId) {
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        int index = tree.indexOf(categoryId);
+        if (index < 0) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+        return toPathResponse(tree, index);
+    }
+
+    @Override
+    public List<CategoryPathResponse> getAncestorPaths(List<CategoryId> categoryIds) {
+        if (categoryIds.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("Too many category ids requested: " + categoryIds.size()
+                + " (max " + MAX_BULK_IDS + ")");
+        }
+
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        return categoryIds.stream()
+            .distinct()
+            .mapToInt(tree::indexOf)
+            .filter(index -> index >= 0)
+            .mapToObj(index -> toPathResponse(tree, index))
+            .toList();
+    }
+
+    @Override
+    public boolean isAncestorOrSelf(CategoryId ancestorId, CategoryId descendantId) {
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        int ancestor = tree.indexOf(ancestorId);
+        if (ancestor < 0) {
+            throw new CategoryNotFoundException(ancestorId);
+        }
+        int descendant = tree.indexOf(descendantId);
+        if (descendant < 0) {
+            throw new CategoryNotFoundException(descendantId);
+        }
+        return tree.isAncestorOrSelf(ancestor, descendant);
+    }
+
+    @Override
+    public CategoryFacetTreeResponse getCoveringTree(List<CategoryId> categoryIds, Map<Long, Long> counts) {
+        if (categoryIds.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("Too many category ids requested: " + categoryIds.size()
+                + " (max " + MAX_BULK_IDS + ")");
+        }
+
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        Map<Long, Long> nodeCounts = counts != null ? counts : Map.of();
+
+        // 1. 요청 노드와 조상 수집 - 이미 포함된 조상을 만나면 그 위는 모두 포함되어 있으므로 중단 (O(k·depth))
+        Set<Integer> included = new HashSet<>();
+        for (CategoryId categoryId : categoryIds) {
+            int index = tree.indexOf(categoryId);
+            if (index < 0 || !included.add(index)) {
+                continue;
+            }
+            int[] ancestors = tree.ancestorsOf(index);
+            for (int i = ancestors.length - 1; i >= 0; i--) {
+                if (!included.add(ancestors[i])) {
+                    break;
+                }
+            }
+        }
+
+        // 2. 전위 순회 역순으로 자식부터 노드를 만들어 부모에 연결
+        Integer[] ordered = included.toArray(new Integer[0]);
+        Arrays.sort(ordered, Comparator.comparingInt(tree::preorderOf));
+
+        Map<Integer, List<CategoryFacetNodeResponse>> pendingChildren = new HashMap<>();
+        List<CategoryFacetNodeResponse> roots = new ArrayList<>();
+        for (int i = ordered.length - 1; i >= 0; i--) {
+            int index = ordered[i];
+            List<CategoryFacetNodeResponse> children = pendingChildren.remove(index);
+            if (children == null) {
+                children = List.of();
+            } else {
+                Collections.reverse(children);
+            }
+
+            long id = tree.idAt(index);
+            CategoryFacetNodeResponse node = new CategoryFacetNodeResponse(id, tree.nameAt(index), nodeCounts.get(id), children);
+
+            int parent = tree.parentOf(index);
+            if (parent == CategoryTreeSnapshot.NO_PARENT || !included.contains(parent)) {
+                roots.add(node);
+            } else {
+                pendingChildren.computeIfAbsent(parent, key -> new ArrayList<>()).add(node);
+            }
+        }
+        Collections.reverse(roots);
+
+        return new CategoryFacetTreeResponse(roots);
+    }
+
+    @Override
+    public List<CategorySuggestionResponse> suggestCategories(String query, int limit) {
+        if (limit <= 0 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Suggestion limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+
+        // 얕은 카테고리 우선, 같은 깊이는 ID 순 (인덱스에 아직 없는 카테고리는 뒤로)
+        Comparator<Long> byDepth = Comparator
+            .comparingInt((Long id) -> {
+                int index = tree.indexOf(id);
+                return index >= 0 ? tree.depthOf(index) : Integer.MAX_VALUE;
+            })
+            .thenComparing(Comparator.naturalOrder());
+
+        List<CategorySuggestionResponse> suggestions = new ArrayList<>();
+        for (Long id : categoryNameSuggestIndex.suggest(query, limit, byDepth)) {
+            int index = tree.indexOf(id);
+            if (index < 0) {
+                continue;
+            }
+            int parent = tree.parentOf(index);
+            suggestions.add(new CategorySuggestionResponse(
+                id,
+                tree.nameAt(index),
+                parent != CategoryTreeSnapshot.NO_PARENT ? tree.idAt(parent) : null,
+                tree.depthOf(index)));
+        }
+        return suggestions;
+    }
+
+    @Override
+    public List<CategorySearchHitResponse> searchCategories(String query, int limit) {
+        if (limit <= 0 || limit > MAX_SEARCH_HITS) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_SEARCH_HITS);
+        }
+
+        List<Long> matchedIds = categorySearchIndex.search(query, limit);
+        if (matchedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 설명은 categories 캐시에서 일괄 조회, 경로는 트리 인덱스에서 구성
+        CategoryTreeSnapshot tree = categoryTreeIndex.snapshot();
+        Map<Object, Object> categories = lookupCategories(matchedIds);
+
+        List<CategorySearchHitResponse> hits = new ArrayList<>(matchedIds.size());
+        for (Long id : matchedIds) {
+            CategoryResponse category = (CategoryResponse) categories.get(id);
+            int index = tree.indexOf(id);
+            if (category == null || index < 0) {
+                continue;
+            }
+            hits.add(new CategorySearchHitResponse(id, category.name(), category.description(),
+                toPathResponse(tree, index).path()));
+        }
+        return hits;
+    }
+
+    @Override
+    public CategoryChangeFeedResponse getChanges(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Change sequence must not be negative: " + since);
+        }
+        if (limit <= 0 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException("Change limit must be between 1 and " + MAX_CHANGES);
+        }
+
+        // 한 건 더 조회해 다음 페이지 존재 여부를 판단
+        List<CategoryChange> changes = categoryChangeLogRepository.findSince(since, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        List<CategoryChangeResponse> page = changes.stream()
+            .limit(limit)
+            .map(categoryMapper::toChangeResponse)
+            .toList();
+        long nextSince = page.isEmpty() ? since : page.get(page.size() - 1).sequence();
+        return new CategoryChangeFeedResponse(page, nextSince, hasMore);
+    }
+
+    // 변경 로그는 현재 트랜잭션에서 기록. 구독자에게는 변경 로그를 이어 읽을 때 전달됨. 이 쓰기의 카탈로그 버전을 반환
+    private long recordChanges(Supplier<List<CategoryChange>> changes) {
+        // 카탈로그 버전 행 잠금을 먼저 잡아 변경 로그 시퀀스가 커밋 순서와 같아지도록 함
+        long catalogVersion = catalogVersionTracker.bump();
+        // 항목은 bump 의 flush 로 생성/수정 일시가 채워진 뒤에 만들어야 변경 후 상태를 그대로 담음
+        categoryChangeLogRepository.appendAll(catalogVersion, changes.get());
+        return catalogVersion;
+    }
+
+    private CategoryFlatTreeResponse toFlatTree(CategoryTreeSnapshot tree, int root) {
+        // 트리 인덱스의 전위 순회 결과를 그대로 열 배열로 옮김 (중첩 객체 생성 없음)
+        int[] order = tree.preorder(root);
+        int[] positions = new int[tree.size()];
+        long[] ids = new long[order.length];
+        String[] names = new String[order.length];
+        int[] parentIndexes = new int[order.length];
+
+        for (int i = 0; i < order.length; i++) {
+            int node = order[i];
+            int parent = tree.parentOf(node);
+            positions[node] = i;
+            ids[i] = tree.idAt(node);
+            names[i] = tree.nameAt(node);
+            parentIndexes[i] = node == root || parent == CategoryTreeSnapshot.NO_PARENT ? -1 : positions[parent];
+        }
+        return new CategoryFlatTreeResponse(ids, names, parentIndexes);
+    }
+
+    private CategoryPathResponse toPathResponse(CategoryTreeSnapshot tree, int index) {
+        int[] ancestors = tree.ancestorsOf(index);
+        List<CategorySummaryResponse> path = new ArrayList<>(ancestors.length + 1);
+        for (int ancestor : ancestors) {
+            path.add(new CategorySummaryResponse(tree.idAt(ancestor), tree.nameAt(ancestor)));
+        }
+        path.add(new CategorySummaryResponse(tree.idAt(index), tree.nameAt(index)));
+        return new CategoryPathResponse(tree.idAt(index), path);
+    }
+
+    private Map<Object, Object> lookupCategories(List<Long> keys) {
+        Cache cache = cacheManager.getCache(CATEGORIES_CACHE);
+
+        // L1 이 Caffeine 인 캐시(Caffeine 캐시, 2단계 캐시): hit 은 네이티브 캐시에서 한 번에 꺼내고 miss 만 모아 적재
+        // 2단계 캐시의 L1 miss 는 L2 를 먼저 확인하고, L2 에도 없는 키만 IN 쿼리 한 번으로 적재해 L2 에도 씀
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            @SuppressWarnings("unchecked")
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache;
+            return local.getAll(keys, missing -> cache instanceof CaffeineCache
+                ? loadCategories(missing)
+                : loadThrough(cache, missing));
+        }
+        return loadThrough(cache, keys);
+    }
+
+    // 캐시 API 로 키마다 조회하고, 없는 키만 IN 쿼리 한 번으로 적재해 캐시에 씀
+    private Map<Object, Object> loadThrough(Cache cache, Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> misses = new ArrayList<>();
+        for (Object key : keys) {
+            CategoryResponse cached = cache != null ? cache.get(key, CategoryResponse.class) : null;
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, CategoryResponse> loaded = loadCategories(misses);
+            if (cache != null) {
+                loaded.forEach(cache::put);
+            }
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    private Map<Long, CategoryResponse> loadCategories(Collection<?> keys) {
+        List<CategoryId> ids = keys.stream()
+            .map(key -> new CategoryId((Long) key))
+            .toList();
+
+        Map<Long, CategoryResponse> loaded = new HashMap<>();
+        for (CategoryView category : categoryRepository.findViewsByIds(ids)) {
+            loaded.put(category.id(), categoryMapper.toResponse(category));
+        }
+        return loaded;
     }
 
     private void validateParentExists(CategoryId parentId) {
@@ -133,6 +579,13 @@ public class CategoryService implements CategoryUseCase {
         }
     }
 
+    private void validateUniqueSiblingName(CategoryId parentId, String name, CategoryId excludedId) {
+        // (부모, 정규화된 이름) 유니크 인덱스 조회 1회로 형제 이름 중복 검사 (동시 요청은 DB 유니크 제약이 보완)
+        if (categoryRepository.existsByParentIdAndNameKey(parentId, CategoryNameNormalizer.normalize(name), excludedId)) {
+            throw new DuplicateCategoryNameException(parentId, name);
+        }
+    }
+
     private void validateParentChange(CategoryId categoryId, CategoryId newParentId) {
         // 1. 새 부모 카테고리 존재 검증
         validateParentExists(newParentId);
@@ -144,26 +597,18 @@ public class CategoryService implements CategoryUseCase {
     }
 
     private boolean wouldCreateCircularReference(CategoryId categoryId, CategoryId newParentId) {
-        CategoryId currentParentId = newParentId;
-
-        while (currentParentId != null) {
-            if (currentParentId.equals(categoryId)) {
-                return true;
-            }
-
-            Category parentCategory = categoryRepository.findById(currentParentId).orElse(null);
-            if (parentCategory == null) {
-                break;
+        // 새 부모가 자기 자신이거나 자신의 하위 카테고리이면 순환 참조
+        // 최신 카탈로그 버전의 인덱스가 있으면 enter/exit 비교로 O(1) 판별 (쓰기 트랜잭션에서 인덱스를 새로 만들지 않음)
+        CategoryTreeSnapshot tree = categoryTreeIndex.currentSnapshot();
+        if (tree != null) {
+            int category = tree.indexOf(categoryId);
+            int newParent = tree.indexOf(newParentId);
+            if (category >= 0 && newParent >= 0) {
+                return tree.isAncestorOrSelf(category, newParent);
             }
-
-            currentParentId = parentCategory.getParentId();
         }
 
-        return false;
-    }
-
-    @CacheEvict(value = {"categories", "categoryTree"}, allEntries = true)
-    private void evictCaches() {
-        // 캐시 무효화를 위한 메서드
+        // 인덱스가 없거나 뒤처졌으면 새 부모의 조상 체인을 재귀 쿼리 1회로 조회
+        return categoryRepository.findAncestorIds(newParentId).contains(categoryId);
     }
-}
\ No newline at end of file
+}
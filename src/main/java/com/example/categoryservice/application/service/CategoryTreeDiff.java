@@ -0,0 +1,90 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffEntryResponse;
+import com.example.categoryservice.domain.model.CategoryChangeType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 두 트리 버전 사이의 최소 차이 계산
+ * 경로 복사로 만든 버전들은 바뀌지 않은 하위 트리의 노드 인스턴스를 공유하므로,
+ * 같은 인스턴스를 만나면 그 하위 전체를 건너뛰어 변경된 경로 주변만 비교합니다.
+ */
+final class CategoryTreeDiff {
+
+    private CategoryTreeDiff() {
+    }
+
+    static List<CategoryTreeDiffEntryResponse> between(PersistentCategoryTree from, PersistentCategoryTree to) {
+        List<CategoryTreeDiffEntryResponse> created = new ArrayList<>();
+        List<CategoryTreeDiffEntryResponse> moved = new ArrayList<>();
+        List<CategoryTreeDiffEntryResponse> updated = new ArrayList<>();
+        List<CategoryTreeDiffEntryResponse> deleted = new ArrayList<>();
+
+        // to 버전을 전위 순회하며 생성/이동/수정 수집 (생성은 부모가 먼저 나옴)
+        Deque<Visit> stack = new ArrayDeque<>();
+        pushChildren(stack, to.tree().categories(), null);
+        while (!stack.isEmpty()) {
+            Visit visit = stack.pop();
+            CategoryNodeResponse node = visit.node();
+            CategoryNodeResponse previous = from.node(node.id());
+            if (previous == node) {
+                continue;
+            }
+
+            if (previous == null) {
+                created.add(entry(CategoryChangeType.CREATED, node, visit.parentId()));
+            } else if (!Objects.equals(from.parentOf(node.id()), visit.parentId())) {
+                moved.add(entry(CategoryChangeType.MOVED, node, visit.parentId()));
+            } else if (!Objects.equals(previous.name(), node.name())
+                    || !Objects.equals(previous.description(), node.description())) {
+                updated.add(entry(CategoryChangeType.UPDATED, node, visit.parentId()));
+            }
+            pushChildren(stack, node.children(), node.id());
+        }
+
+        // from 버전을 순회하며 삭제된 하위 트리의 최상위 노드만 수집 (밖으로 이동한 하위 노드는 이동으로 이미 포함됨)
+        pushChildren(stack, from.tree().categories(), null);
+        while (!stack.isEmpty()) {
+            CategoryNodeResponse node = stack.pop().node();
+            CategoryNodeResponse next = to.node(node.id());
+            if (next == node) {
+                continue;
+            }
+
+            if (next == null) {
+                deleted.add(new CategoryTreeDiffEntryResponse(
+                    CategoryChangeType.DELETED.name(), node.id(), null, null, null));
+            } else {
+                pushChildren(stack, node.children(), node.id());
+            }
+        }
+
+        List<CategoryTreeDiffEntryResponse> changes =
+            new ArrayList<>(created.size() + moved.size() + updated.size() + deleted.size());
+        changes.addAll(created);
+        changes.addAll(moved);
+        changes.addAll(updated);
+        changes.addAll(deleted);
+        return changes;
+    }
+
+    // 형제 순서대로 꺼내도록 역순으로 넣음
+    private static void pushChildren(Deque<Visit> stack, List<CategoryNodeResponse> children, Long parentId) {
+        for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push(new Visit(children.get(i), parentId));
+        }
+    }
+
+    private static CategoryTreeDiffEntryResponse entry(CategoryChangeType type, CategoryNodeResponse node, Long parentId) {
+        return new CategoryTreeDiffEntryResponse(type.name(), node.id(), node.name(), node.description(), parentId);
+    }
+
+    private record Visit(CategoryNodeResponse node, Long parentId) {
+    }
+}
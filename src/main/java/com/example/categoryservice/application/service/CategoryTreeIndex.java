@@ -0,0 +1,34 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리의 메모리 인덱스
+ * 읽기 모델이 게시한 트리 버전에서 만들어지므로 별도로 DB를 읽거나 커밋마다 무효화하지 않습니다.
+ * 인덱스는 버전마다 처음 조회될 때 한 번 만들어지고, 그 버전이 게시되어 있는 동안 재사용됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeIndex {
+
+    private final CategoryTreeReadModel categoryTreeReadModel;
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    public CategoryTreeSnapshot snapshot() {
+        return categoryTreeReadModel.current().index();
+    }
+
+    /**
+     * 커밋된 최신 카탈로그 버전의 트리에서 이미 만든 인덱스가 있으면 반환합니다.
+     * 없거나 뒤처졌으면 null 을 반환하며, 인덱스나 트리를 새로 만들지 않으므로 쓰기 트랜잭션에서 사용할 수 있습니다.
+     */
+    public CategoryTreeSnapshot currentSnapshot() {
+        PersistentCategoryTree tree = categoryTreeReadModel.published();
+        if (tree == null || tree.version() != catalogVersionRepository.current()) {
+            return null;
+        }
+        return tree.builtIndex();
+    }
+}
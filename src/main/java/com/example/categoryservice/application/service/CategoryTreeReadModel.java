@@ -0,0 +1,318 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.domain.exception.CatalogVersionExpiredException;
+import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 전체 카테고리 트리 읽기 모델
+ * 최초 조회 시 DB에서 한 번 만들고, 이후 쓰기 커밋마다 경로 복사로 새 버전을 만들어 원자적으로 게시합니다.
+ * DB에서 만들 때는 트리를 읽기 전후의 카탈로그 버전이 같은 경우에만 그 버전으로 게시하므로, 게시된 트리는 항상 버전과 일치합니다.
+ * 트리 버전은 카탈로그 버전과 같으며, 변경은 카탈로그 버전 순서대로만 반영합니다.
+ * 커밋 후 콜백은 트랜잭션 간 순서가 보장되지 않으므로, 이미 반영된 버전은 건너뛰고 중간 버전이 빠졌으면 DB에서 다시 만듭니다.
+ * 조회는 잠금 없이 현재 버전을 읽으므로 쓰기가 몰려도 항상 일관된 트리를 봅니다.
+ * 최근 게시된 버전들은 개수와 보존 시간 한도 안에서 유지되어 버전을 지정한 조회에 사용됩니다.
+ * 보존 시간은 다음 버전이 게시되어 현재 버전에서 밀려난 시점부터 셉니다.
+ * DB에서 만든 전체 트리는 카탈로그 버전을 키로 categoryTreeSnapshot 캐시에 저장하므로,
+ * 공유 L2 를 켜면 같은 버전을 만드는 다른 노드는 DB 대신 L2 에서 트리를 받습니다.
+ */
+@Slf4j
+@Component
+public class CategoryTreeReadModel {
+
+    static final int DEFAULT_RETAINED_VERSIONS = 8;
+    static final Duration DEFAULT_VERSION_TTL = Duration.ofMinutes(10);
+    static final String TREE_SNAPSHOT_CACHE = "categoryTreeSnapshot";
+    // 트리를 읽는 동안 카탈로그 버전이 계속 바뀔 때 다시 읽는 최대 횟수
+    static final int MAX_BUILD_ATTEMPTS = 5;
+
+    private final CategoryRepository categoryRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CategoryMapper categoryMapper;
+    private final CacheManager cacheManager;
+    private final int retainedVersions;
+    private final Duration versionTtl;
+    private final Clock clock;
+
+    private final ConcurrentNavigableMap<Long, RetainedVersion> retained = new ConcurrentSkipListMap<>();
+    private volatile PersistentCategoryTree current;
+
+    public CategoryTreeReadModel(CategoryRepository categoryRepository, CatalogVersionRepository catalogVersionRepository,
+                                 CategoryMapper categoryMapper, CacheManager cacheManager) {
+        this(categoryRepository, catalogVersionRepository, categoryMapper, cacheManager,
+            DEFAULT_RETAINED_VERSIONS, DEFAULT_VERSION_TTL, Clock.systemUTC());
+    }
+
+    @Autowired
+    public CategoryTreeReadModel(CategoryRepository categoryRepository,
+                                 CatalogVersionRepository catalogVersionRepository,
+                                 CategoryMapper categoryMapper,
+                                 CacheManager cacheManager,
+                                 @Value("${app.category-tree.retained-versions:8}") int retainedVersions,
+                                 @Value("${app.category-tree.version-ttl:PT10M}") Duration versionTtl) {
+        this(categoryRepository, catalogVersionRepository, categoryMapper, cacheManager, retainedVersions, versionTtl,
+            Clock.systemUTC());
+    }
+
+    CategoryTreeReadModel(CategoryRepository categoryRepository, CatalogVersionRepository catalogVersionRepository,
+                          CategoryMapper categoryMapper, CacheManager cacheManager, int retainedVersions, Duration versionTtl,
+                          Clock clock) {
+        if (retainedVersions < 1) {
+            throw new IllegalArgumentException("Retained versions must be at least 1: " + retainedVersions);
+        }
+        this.categoryRepository = categoryRepository;
+        this.catalogVersionRepository = catalogVersionRepository;
+        this.categoryMapper = categoryMapper;
+        this.cacheManager = cacheManager;
+        this.retainedVersions = retainedVersions;
+        this.versionTtl = versionTtl;
+        this.clock = clock;
+    }
+
+    public PersistentCategoryTree current() {
+        PersistentCategoryTree tree = current;
+        if (tree != null) {
+            return tree;
+        }
+
+        synchronized (this) {
+            if (current != null) {
+                return current;
+            }
+
+            PersistentCategoryTree built = build();
+            log.debug("Category tree read model built: version {}, {} nodes", built.version(), built.size());
+            publish(built);
+            return built;
+        }
+    }
+
+    /**
+     * 지정된 버전의 트리를 반환합니다. null 이면 현재 버전을 반환합니다.
+     *
+     * @throws CatalogVersionExpiredException 보존 기간이 지나 더 이상 유지하지 않는 버전
+     * @throws IllegalArgumentException 아직 게시되지 않은 버전
+     */
+    public PersistentCategoryTree version(Long version) {
+        PersistentCategoryTree latest = current();
+        if (version == null || version == latest.version()) {
+            return latest;
+        }
+
+        RetainedVersion found = retained.get(version);
+        if (found != null && !isExpired(found, latest)) {
+            return found.tree();
+        }
+        // 다른 노드에서 커밋되어 이 노드가 아직 따라오지 못한 버전이면 다시 만들어 확인
+        if (version > latest.version() && catalogVersionRepository.current() >= version) {
+            latest = rebuild();
+            if (version == latest.version()) {
+                return latest;
+            }
+        }
+        if (version > latest.version()) {
+            throw new IllegalArgumentException("Unknown catalog version: " + version);
+        }
+        throw new CatalogVersionExpiredException(version);
+    }
+
+    /**
+     * 현재 보존 중인 버전 수 (현재 버전 포함)
+     */
+    public int retainedVersionCount() {
+        return retained.size();
+    }
+
+    /**
+     * 보존 중인 버전들의 노드 수 합계. 버전 간 공유 노드도 각각 세므로 메모리 사용량의 상한 지표입니다.
+     */
+    public long retainedNodeCount() {
+        return retained.values().stream()
+            .mapToLong(version -> version.tree().size())
+            .sum();
+    }
+
+    /**
+     * 게시된 최신 버전. 아직 만들어지지 않았으면 null 을 반환하며, DB에서 새로 만들지 않습니다.
+     */
+    PersistentCategoryTree published() {
+        return current;
+    }
+
+    /**
+     * 게시된 최신 버전 번호. 아직 만들어지지 않았으면 0 입니다.
+     */
+    public long currentVersion() {
+        PersistentCategoryTree tree = current;
+        return tree != null ? tree.version() : 0L;
+    }
+
+    /**
+     * 카탈로그 버전 catalogVersion 에서 커밋된 카테고리 추가/수정을 반영합니다. 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void upsert(Category category, long catalogVersion) {
+        TransactionCallbacks.afterCommit(() -> {
+            CategoryView view = CategoryView.from(category);
+            apply(catalogVersion, tree -> tree.upsert(view, catalogVersion));
+        });
+    }
+
+    /**
+     * 카탈로그 버전 catalogVersion 에서 커밋된 카테고리와 그 하위 전체의 삭제를 반영합니다.
+     * 트랜잭션 안에서는 커밋 이후에 반영됩니다.
+     */
+    public void remove(CategoryId categoryId, long catalogVersion) {
+        Long id = categoryId.getValue();
+        TransactionCallbacks.afterCommit(() -> apply(catalogVersion, tree -> tree.remove(id, catalogVersion)));
+    }
+
+    /**
+     * 다른 노드가 카탈로그 버전 catalogVersion 에서 커밋한 변경을 바로 반영합니다.
+     * upserts 는 변경된 카테고리의 현재 상태, removedIds 는 삭제된 카테고리 ID 입니다.
+     */
+    public void applyChanges(long catalogVersion, List<CategoryView> upserts, List<Long> removedIds) {
+        apply(catalogVersion, tree -> {
+            PersistentCategoryTree next = tree;
+            for (Long id : removedIds) {
+                next = next.remove(id, catalogVersion);
+            }
+            for (CategoryView view : upserts) {
+                next = next.upsert(view, catalogVersion);
+                if (next == null) {
+                    return null;
+                }
+            }
+            return next;
+        });
+    }
+
+    /**
+     * 읽기 모델을 버리고 다음 조회 시 DB에서 다시 만듭니다.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::clear);
+    }
+
+    private synchronized void apply(long catalogVersion, UnaryOperator<PersistentCategoryTree> change) {
+        // 아직 만들어지지 않았다면 최초 조회 시 DB에서 반영됨
+        PersistentCategoryTree tree = current;
+        if (tree == null || catalogVersion <= tree.version()) {
+            return;
+        }
+        if (catalogVersion != tree.version() + 1) {
+            log.debug("Category tree read model missed versions {}..{}, rebuilding", tree.version() + 1, catalogVersion - 1);
+            current = null;
+            return;
+        }
+
+        PersistentCategoryTree next = change.apply(tree);
+        if (next == null) {
+            log.debug("Category tree read model could not apply change to version {}, rebuilding", tree.version());
+            current = null;
+        } else {
+            // 트리가 바뀌지 않은 변경도 버전은 게시해 다음 버전과 이어지도록 함
+            publish(next.withVersion(catalogVersion));
+        }
+    }
+
+    synchronized void clear() {
+        current = null;
+    }
+
+    private synchronized PersistentCategoryTree rebuild() {
+        current = null;
+        return current();
+    }
+
+    // 트리를 읽기 전후의 카탈로그 버전이 같을 때만 그 버전의 트리로 인정. 그 사이 커밋이 있었으면 다시 읽음
+    // 다른 노드가 같은 버전을 이미 만들었으면 L2 에서 받고, 없으면 DB에서 만들어 저장
+    private PersistentCategoryTree build() {
+        Cache snapshots = cacheManager.getCache(TREE_SNAPSHOT_CACHE);
+        long catalogVersion = catalogVersionRepository.current();
+        for (int attempt = 1; ; attempt++) {
+            CategoryTreeResponse shared = snapshots != null
+                ? snapshots.get(catalogVersion, CategoryTreeResponse.class)
+                : null;
+            if (shared != null) {
+                log.debug("Category tree read model loaded version {} from tree snapshot cache", catalogVersion);
+                return PersistentCategoryTree.of(catalogVersion, shared);
+            }
+
+            CategoryTreeResponse tree = categoryMapper.toViewTree(categoryRepository.findAllViews());
+            long after = catalogVersionRepository.current();
+            if (after == catalogVersion) {
+                // 롤백될 수 있는 변경을 볼 수 있는 쓰기 트랜잭션 안에서 만든 트리는 공유하지 않음
+                if (snapshots != null && !inWriteTransaction()) {
+                    snapshots.put(catalogVersion, tree);
+                }
+                return PersistentCategoryTree.of(catalogVersion, tree);
+            }
+            if (attempt == MAX_BUILD_ATTEMPTS) {
+                throw new IllegalStateException(
+                    "Catalog version kept changing while loading the category tree: " + catalogVersion + " -> " + after);
+            }
+            log.debug("Catalog version moved from {} to {} while loading the category tree, reloading", catalogVersion, after);
+            catalogVersion = after;
+        }
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private void publish(PersistentCategoryTree tree) {
+        Instant now = clock.instant();
+        // 이전 현재 버전(초기화 후 재빌드라면 그 이전 버전 포함)은 지금부터 보존 시간을 셈
+        retained.replaceAll((version, entry) -> entry.supersededAt() == null ? entry.supersede(now) : entry);
+        current = tree;
+        retained.put(tree.version(), new RetainedVersion(tree, null));
+        pruneRetained(tree);
+    }
+
+    // 개수 한도를 넘거나 보존 시간이 지난 이전 버전을 해제
+    private void pruneRetained(PersistentCategoryTree latest) {
+        while (retained.size() > retainedVersions) {
+            retained.pollFirstEntry();
+        }
+        for (Map.Entry<Long, RetainedVersion> entry : retained.headMap(latest.version()).entrySet()) {
+            if (isExpired(entry.getValue(), latest)) {
+                retained.remove(entry.getKey());
+            }
+        }
+    }
+
+    private boolean isExpired(RetainedVersion version, PersistentCategoryTree latest) {
+        return version.tree() != latest
+            && version.supersededAt() != null
+            && version.supersededAt().plus(versionTtl).isBefore(clock.instant());
+    }
+
+    // supersededAt 은 현재 버전인 동안 null. 같은 버전을 다시 빌드하면 새 항목으로 교체됨
+    private record RetainedVersion(PersistentCategoryTree tree, Instant supersededAt) {
+
+        RetainedVersion supersede(Instant at) {
+            return new RetainedVersion(tree, at);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리의 불변 스냅샷
+ * 노드를 0..n-1 의 조밀한 인덱스로 표현하고, 부모/자식/깊이/조상 경로를 배열로 미리 계산해 둡니다.
+ * 전위/후위 순회 번호(enter/exit)를 함께 보관하여 조상-자손 관계를 정수 비교 두 번으로 판별합니다.
+ * (부모, 정규화된 이름) 키로 형제 노드를 해시 조회할 수 있습니다.
+ * 반환되는 배열은 공유되므로 호출자가 수정해서는 안 됩니다.
+ */
+public final class CategoryTreeSnapshot {
+
+    public static final int NO_PARENT = -1;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final long[] ids;
+    private final String[] names;
+    private final int[] parents;
+    private final int[][] children;
+    private final int[] depths;
+    private final int[][] ancestors;
+    private final int[] enter;
+    private final int[] exit;
+    private final int[] roots;
+    private final Map<Long, Integer> positions;
+    private final Map<SiblingKey, Integer> siblingsByName;
+
+    private CategoryTreeSnapshot(long[] ids, String[] names, int[] parents, int[][] children,
+                                 int[] depths, int[][] ancestors, int[] enter, int[] exit, int[] roots,
+                                 Map<Long, Integer> positions, Map<SiblingKey, Integer> siblingsByName) {
+        this.ids = ids;
+        this.names = names;
+        this.parents = parents;
+        this.children = children;
+        this.depths = depths;
+        this.ancestors = ancestors;
+        this.enter = enter;
+        this.exit = exit;
+        this.roots = roots;
+        this.positions = positions;
+        this.siblingsByName = siblingsByName;
+    }
+
+    public static CategoryTreeSnapshot build(List<CategoryNodeView> categories) {
+        int size = categories.size();
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        Map<Long, Integer> positions = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+
+        for (int i = 0; i < size; i++) {
+            CategoryNodeView category = categories.get(i);
+            ids[i] = category.id();
+            names[i] = category.name();
+            positions.put(ids[i], i);
+        }
+
+        // 부모 인덱스 계산 (부모가 없거나 존재하지 않는 부모를 가리키면 루트로 취급)
+        int[] parents = new int[size];
+        int[] childCounts = new int[size];
+        int rootCount = 0;
+        for (int i = 0; i < size; i++) {
+            Long parentId = categories.get(i).parentId();
+            Integer parent = parentId != null ? positions.get(parentId) : null;
+            parents[i] = parent != null ? parent : NO_PARENT;
+            if (parent != null) {
+                childCounts[parent]++;
+            } else {
+                rootCount++;
+            }
+        }
+
+        // 자식 배열 구성 (입력 순서 유지)
+        int[][] children = new int[size][];
+        int[] fill = new int[size];
+        int[] roots = new int[rootCount];
+        int rootFill = 0;
+        for (int i = 0; i < size; i++) {
+            children[i] = childCounts[i] == 0 ? EMPTY : new int[childCounts[i]];
+        }
+        for (int i = 0; i < size; i++) {
+            int parent = parents[i];
+            if (parent == NO_PARENT) {
+                roots[rootFill++] = i;
+            } else {
+                children[parent][fill[parent]++] = i;
+            }
+        }
+
+        // 루트부터 내려가며 깊이와 조상 경로 계산
+        int[] depths = new int[size];
+        int[][] ancestors = new int[size][];
+        Deque<Integer> stack = new ArrayDeque<>();
+        for (int root : roots) {
+            ancestors[root] = EMPTY;
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            int node = stack.pop();
+            int[] path = Arrays.copyOf(ancestors[node], ancestors[node].length + 1);
+            path[path.length - 1] = node;
+            for (int child : children[node]) {
+                depths[child] = depths[node] + 1;
+                ancestors[child] = path;
+                stack.push(child);
+            }
+        }
+        // 순환 참조 등으로 루트에서 도달할 수 없는 노드
+        for (int i = 0; i < size; i++) {
+            if (ancestors[i] == null) {
+                ancestors[i] = EMPTY;
+            }
+        }
+
+        // 오일러 투어 번호 부여
+        int[] enter = new int[size];
+        int[] exit = new int[size];
+        numberEulerTour(roots, children, enter, exit);
+
+        // (부모, 정규화된 이름) → 노드 인덱스 (중복 이름은 먼저 등록된 노드 우선)
+        Map<SiblingKey, Integer> siblingsByName = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            siblingsByName.putIfAbsent(new SiblingKey(parents[i], CategoryNameNormalizer.normalize(names[i])), i);
+        }
+
+        return new CategoryTreeSnapshot(ids, names, parents, children, depths, ancestors, enter, exit, roots,
+            positions, siblingsByName);
+    }
+
+    private static void numberEulerTour(int[] roots, int[][] children, int[] enter, int[] exit) {
+        int size = children.length;
+        Arrays.fill(enter, -1);
+
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+        int clock = 0;
+
+        for (int root : roots) {
+            int top = 0;
+            stack[0] = root;
+            nextChild[root] = 0;
+            enter[root] = clock++;
+
+            while (top >= 0) {
+                int node = stack[top];
+                if (nextChild[node] < children[node].length) {
+                    int child = children[node][nextChild[node]++];
+                    nextChild[child] = 0;
+                    enter[child] = clock++;
+                    stack[++top] = child;
+                } else {
+                    exit[node] = clock++;
+                    top--;
+                }
+            }
+        }
+
+        // 루트에서 도달할 수 없는 노드는 자기 자신만 포함하는 구간으로 둠
+        for (int i = 0; i < size; i++) {
+            if (enter[i] < 0) {
+                enter[i] = clock++;
+                exit[i] = clock++;
+            }
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * ID에 해당하는 노드 인덱스를 반환합니다. 없으면 -1 을 반환합니다.
+     */
+    public int indexOf(long id) {
+        Integer position = positions.get(id);
+        return position != null ? position : -1;
+    }
+
+    public int indexOf(CategoryId id) {
+        return indexOf(id.getValue());
+    }
+
+    public boolean contains(CategoryId id) {
+        return indexOf(id) >= 0;
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public int parentOf(int index) {
+        return parents[index];
+    }
+
+    public int depthOf(int index) {
+        return depths[index];
+    }
+
+    public int[] childrenOf(int index) {
+        return children[index];
+    }
+
+    public int[] roots() {
+        return roots;
+    }
+
+    /**
+     * 루트부터 부모까지의 조상 인덱스 경로를 반환합니다. (자기 자신 제외)
+     */
+    public int[] ancestorsOf(int index) {
+        return ancestors[index];
+    }
+
+    /**
+     * ancestor 가 descendant 자신이거나 그 조상인지 판별합니다. (O(1))
+     */
+    public boolean isAncestorOrSelf(int ancestor, int descendant) {
+        return enter[ancestor] <= enter[descendant] && exit[descendant] <= exit[ancestor];
+    }
+
+    /**
+     * 부모 노드 아래에서 이름이 같은 자식 노드의 인덱스를 반환합니다. 루트는 parent 에 NO_PARENT 를 사용합니다.
+     * 없으면 -1 을 반환합니다.
+     */
+    public int childByName(int parent, String name) {
+        Integer child = siblingsByName.get(new SiblingKey(parent, CategoryNameNormalizer.normalize(name)));
+        return child != null ? child : -1;
+    }
+
+    /**
+     * 이름 경로(루트부터의 이름 목록)에 해당하는 노드 인덱스를 반환합니다. 없으면 -1 을 반환합니다.
+     */
+    public int resolvePath(List<String> names) {
+        int current = NO_PARENT;
+        for (String name : names) {
+            current = childByName(current, name);
+            if (current < 0) {
+                return -1;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * root 를 루트로 하는 하위 트리의 노드 인덱스를 전위 순회 순서로 반환합니다.
+     * root 에 NO_PARENT 를 주면 전체 트리(모든 루트)를 순회합니다. 부모는 항상 자식보다 앞에 옵니다.
+     */
+    public int[] preorder(int root) {
+        int[] starts = root == NO_PARENT ? roots : new int[]{root};
+        int[] order = new int[root == NO_PARENT ? ids.length : subtreeSize(root)];
+        int count = 0;
+
+        int[] stack = new int[ids.length];
+        for (int start : starts) {
+            int top = 0;
+            stack[0] = start;
+            // 순환 참조로 루트에서 도달할 수 없는 노드는 자기 자신만 포함 (order 길이로 제한)
+            while (top >= 0 && count < order.length) {
+                int node = stack[top--];
+                order[count++] = node;
+                int[] nodeChildren = children[node];
+                // 형제 순서를 유지하도록 역순으로 push
+                for (int i = nodeChildren.length - 1; i >= 0; i--) {
+                    stack[++top] = nodeChildren[i];
+                }
+            }
+        }
+        return count == order.length ? order : Arrays.copyOf(order, count);
+    }
+
+    private int subtreeSize(int root) {
+        // 오일러 투어에서 진입/이탈 번호가 각 노드마다 2씩 증가
+        return (exit[root] - enter[root] + 1) / 2;
+    }
+
+    /**
+     * 전위 순회 순서 번호를 반환합니다. 형제 노드 간의 원래 순서를 복원할 때 사용합니다.
+     */
+    public int preorderOf(int index) {
+        return enter[index];
+    }
+
+    private record SiblingKey(int parent, String normalizedName) {
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 카테고리 트리 읽기 모델의 한 버전 (불변)
+ * ID → 노드는 HAMT 로, 자식 목록은 변경 불가 리스트로 보관합니다.
+ * 변경은 바뀐 노드에서 루트까지의 경로만 복사한 새 버전을 만들며, 나머지 노드는 이전 버전과 공유합니다.
+ * 배열 기반 트리 인덱스(CategoryTreeSnapshot)는 버전마다 처음 필요할 때 노드에서 한 번 만들어 함께 보관합니다.
+ */
+public final class PersistentCategoryTree {
+
+    private final long version;
+    private final PersistentHashMap<Long, Node> nodes;
+    private final List<CategoryNodeResponse> roots;
+    private final CategoryTreeResponse tree;
+
+    // 하위 트리 응답 래퍼는 노드 하나만 감싸므로 같은 인스턴스를 재사용 (응답 바이트 캐시와 연계)
+    private final Map<Long, CategoryTreeResponse> subtrees = new ConcurrentHashMap<>();
+
+    // 이 버전의 트리에서 만든 인덱스. 아직 조회되지 않았으면 null
+    private volatile CategoryTreeSnapshot index;
+
+    private PersistentCategoryTree(long version, PersistentHashMap<Long, Node> nodes, List<CategoryNodeResponse> roots) {
+        this(version, nodes, roots, null);
+    }
+
+    private PersistentCategoryTree(long version, PersistentHashMap<Long, Node> nodes, List<CategoryNodeResponse> roots,
+                                   CategoryTreeSnapshot index) {
+        this.version = version;
+        this.nodes = nodes;
+        this.roots = roots;
+        this.tree = new CategoryTreeResponse(roots);
+        this.index = index;
+    }
+
+    /**
+     * 전체 트리 응답으로부터 첫 버전을 만듭니다.
+     */
+    public static PersistentCategoryTree of(long version, CategoryTreeResponse tree) {
+        PersistentHashMap<Long, Node> nodes = PersistentHashMap.empty();
+        Deque<Node> stack = new ArrayDeque<>();
+        tree.categories().forEach(root -> stack.push(new Node(root, null)));
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            nodes = nodes.put(node.response().id(), node);
+            for (CategoryNodeResponse child : node.response().children()) {
+                stack.push(new Node(child, node.response().id()));
+            }
+        }
+        return new PersistentCategoryTree(version, nodes, List.copyOf(tree.categories()));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 같은 트리에 버전 번호만 바꾼 인스턴스를 반환합니다.
+     */
+    public PersistentCategoryTree withVersion(long newVersion) {
+        // 트리가 같으므로 이미 만든 인덱스도 그대로 넘김
+        return newVersion == version ? this : new PersistentCategoryTree(newVersion, nodes, roots, index);
+    }
+
+    public CategoryTreeResponse tree() {
+        return tree;
+    }
+
+    public boolean contains(Long id) {
+        return nodes.containsKey(id);
+    }
+
+    /**
+     * 지정된 카테고리를 루트로 하는 하위 트리. 없으면 null 을 반환합니다.
+     */
+    public CategoryTreeResponse subtree(Long rootId) {
+        Node root = nodes.get(rootId);
+        if (root == null) {
+            return null;
+        }
+        return subtrees.computeIfAbsent(rootId, id -> new CategoryTreeResponse(List.of(root.response())));
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 이 버전의 트리 인덱스. 처음 호출될 때 노드를 전위 순회해 만들며, 이후에는 같은 인스턴스를 반환합니다.
+     * 형제 순서는 이 버전의 트리 응답과 같습니다.
+     */
+    CategoryTreeSnapshot index() {
+        CategoryTreeSnapshot built = index;
+        if (built != null) {
+            return built;
+        }
+        synchronized (this) {
+            if (index == null) {
+                index = buildIndex();
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 이미 만들어진 트리 인덱스. 아직 만들지 않았으면 null 을 반환합니다.
+     */
+    CategoryTreeSnapshot builtIndex() {
+        return index;
+    }
+
+    private CategoryTreeSnapshot buildIndex() {
+        List<CategoryNodeView> views = new ArrayList<>(nodes.size());
+        Deque<Node> stack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(new Node(roots.get(i), null));
+        }
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            CategoryNodeResponse response = node.response();
+            views.add(new CategoryNodeView(response.id(), response.name(), node.parentId()));
+            // 형제 순서를 유지하도록 역순으로 push
+            List<CategoryNodeResponse> children = response.children();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(new Node(children.get(i), response.id()));
+            }
+        }
+        return CategoryTreeSnapshot.build(views);
+    }
+
+    /**
+     * 지정된 카테고리의 노드. 없으면 null 을 반환합니다.
+     */
+    CategoryNodeResponse node(Long id) {
+        Node node = nodes.get(id);
+        return node != null ? node.response() : null;
+    }
+
+    /**
+     * 지정된 카테고리의 부모 ID. 루트이거나 없으면 null 을 반환합니다.
+     */
+    Long parentOf(Long id) {
+        Node node = nodes.get(id);
+        return node != null ? node.parentId() : null;
+    }
+
+    /**
+     * 카테고리를 추가하거나 이름/설명/부모를 반영한 새 버전을 반환합니다.
+     * 부모가 트리에 없거나 이동 결과 순환이 생기면 null 을 반환하며, 호출자는 전체 재구성으로 대체해야 합니다.
+     */
+    public PersistentCategoryTree upsert(CategoryView category, long newVersion) {
+        Long parentId = category.parentId();
+        if (parentId != null && !nodes.containsKey(parentId)) {
+            return null;
+        }
+
+        Node existing = nodes.get(category.id());
+        Edit edit = new Edit(nodes, roots);
+
+        if (existing == null) {
+            CategoryNodeResponse created = toNode(category, List.of());
+            edit.nodes = edit.nodes.put(category.id(), new Node(created, parentId));
+            edit.changeChildren(parentId, children -> insertSorted(children, created));
+            return edit.publish(newVersion);
+        }
+
+        CategoryNodeResponse updated = toNode(category, existing.response().children());
+        if (Objects.equals(existing.parentId(), parentId)) {
+            edit.nodes = edit.nodes.put(category.id(), new Node(updated, parentId));
+            edit.changeChildren(parentId, children -> replace(children, updated));
+            return edit.publish(newVersion);
+        }
+
+        // 자기 하위로 이동하면 순환이 생기므로 반영하지 않음
+        if (isDescendantOrSelf(parentId, category.id())) {
+            return null;
+        }
+        edit.changeChildren(existing.parentId(), children -> without(children, category.id()));
+        edit.nodes = edit.nodes.put(category.id(), new Node(updated, parentId));
+        edit.changeChildren(parentId, children -> insertSorted(children, updated));
+        return edit.publish(newVersion);
+    }
+
+    /**
+     * 카테고리와 그 하위 전체를 제거한 새 버전을 반환합니다. 없는 카테고리면 현재 버전을 그대로 반환합니다.
+     */
+    public PersistentCategoryTree remove(Long id, long newVersion) {
+        Node target = nodes.get(id);
+        if (target == null) {
+            return this;
+        }
+
+        Edit edit = new Edit(nodes, roots);
+        edit.changeChildren(target.parentId(), children -> without(children, id));
+
+        Deque<CategoryNodeResponse> stack = new ArrayDeque<>();
+        stack.push(target.response());
+        while (!stack.isEmpty()) {
+            CategoryNodeResponse node = stack.pop();
+            edit.nodes = edit.nodes.remove(node.id());
+            node.children().forEach(stack::push);
+        }
+        return edit.publish(newVersion);
+    }
+
+    private boolean isDescendantOrSelf(Long candidateId, Long ancestorId) {
+        for (Long current = candidateId; current != null; current = nodes.get(current).parentId()) {
+            if (current.equals(ancestorId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CategoryNodeResponse toNode(CategoryView category, List<CategoryNodeResponse> children) {
+        return new CategoryNodeResponse(
+            category.id(),
+            category.name(),
+            category.description(),
+            category.createdAt(),
+            category.updatedAt(),
+            children
+        );
+    }
+
+    // 형제는 ID 순으로 유지 (전체 재구성 결과와 동일한 순서)
+    private static List<CategoryNodeResponse> insertSorted(List<CategoryNodeResponse> children, CategoryNodeResponse node) {
+        List<CategoryNodeResponse> copy = new ArrayList<>(children.size() + 1);
+        boolean inserted = false;
+        for (CategoryNodeResponse child : children) {
+            if (!inserted && child.id() > node.id()) {
+                copy.add(node);
+                inserted = true;
+            }
+            copy.add(child);
+        }
+        if (!inserted) {
+            copy.add(node);
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static List<CategoryNodeResponse> replace(List<CategoryNodeResponse> children, CategoryNodeResponse node) {
+        List<CategoryNodeResponse> copy = new ArrayList<>(children);
+        for (int i = 0; i < copy.size(); i++) {
+            if (copy.get(i).id().equals(node.id())) {
+                copy.set(i, node);
+                break;
+            }
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    private static List<CategoryNodeResponse> without(List<CategoryNodeResponse> children, Long id) {
+        return children.stream()
+            .filter(child -> !child.id().equals(id))
+            .toList();
+    }
+
+    /**
+     * 노드와 부모 ID. 응답 노드에는 부모 정보가 없으므로 경로 복사 시 위로 올라가는 데 사용합니다.
+     */
+    private record Node(CategoryNodeResponse response, Long parentId) {
+    }
+
+    /**
+     * 새 버전을 만드는 동안의 작업 상태
+     */
+    private static final class Edit {
+
+        PersistentHashMap<Long, Node> nodes;
+        List<CategoryNodeResponse> roots;
+
+        Edit(PersistentHashMap<Long, Node> nodes, List<CategoryNodeResponse> roots) {
+            this.nodes = nodes;
+            this.roots = roots;
+        }
+
+        /**
+         * parentId 의 자식 목록을 바꾸고, 루트까지 올라가며 조상 노드를 복사합니다. parentId 가 null 이면 루트 목록을 바꿉니다.
+         */
+        void changeChildren(Long parentId, UnaryOperator<List<CategoryNodeResponse>> change) {
+            Long current = parentId;
+            UnaryOperator<List<CategoryNodeResponse>> pending = change;
+            while (current != null) {
+                Node node = nodes.get(current);
+                CategoryNodeResponse previous = node.response();
+                CategoryNodeResponse copied = new CategoryNodeResponse(
+                    previous.id(),
+                    previous.name(),
+                    previous.description(),
+                    previous.createdAt(),
+                    previous.updatedAt(),
+                    pending.apply(previous.children())
+                );
+                nodes = nodes.put(current, new Node(copied, node.parentId()));
+                pending = children -> replace(children, copied);
+                current = node.parentId();
+            }
+            roots = pending.apply(roots);
+        }
+
+        PersistentCategoryTree publish(long version) {
+            return new PersistentCategoryTree(version, nodes, roots);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.categoryservice.application.service;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 불변 해시 배열 매핑 트라이(HAMT)
+ * put/remove 는 루트부터 바뀐 칸까지의 경로만 복사한 새 맵을 반환하고, 나머지 노드는 이전 버전과 공유합니다.
+ */
+final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentHashMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        int hash = hash(key);
+        Object slot = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (slot instanceof BitmapNode node) {
+                int bit = bit(hash, shift);
+                if ((node.bitmap & bit) == 0) {
+                    return null;
+                }
+                slot = node.slots[node.index(bit)];
+            } else if (slot instanceof Entry entry) {
+                return entry.hash == hash && entry.key.equals(key) ? (V) entry.value : null;
+            } else {
+                return (V) ((Collision) slot).find(key);
+            }
+        }
+    }
+
+    PersistentHashMap<K, V> put(K key, V value) {
+        Objects.requireNonNull(value, "value");
+        boolean exists = containsKey(key);
+        BitmapNode newRoot = (BitmapNode) put(root, 0, new Entry(hash(key), key, value));
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, exists ? size : size + 1);
+    }
+
+    PersistentHashMap<K, V> remove(K key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        Object newRoot = remove(root, 0, hash(key), key);
+        return new PersistentHashMap<>(newRoot == null ? BitmapNode.EMPTY : (BitmapNode) newRoot, size - 1);
+    }
+
+    private static Object put(Object slot, int shift, Entry entry) {
+        if (slot instanceof BitmapNode node) {
+            int bit = bit(entry.hash, shift);
+            int index = node.index(bit);
+            if ((node.bitmap & bit) == 0) {
+                return node.insert(bit, index, entry);
+            }
+            Object child = node.slots[index];
+            Object updated = put(child, shift + BITS, entry);
+            return updated == child ? node : node.replace(index, updated);
+        }
+        if (slot instanceof Entry existing) {
+            if (existing.hash == entry.hash && existing.key.equals(entry.key)) {
+                return existing.value == entry.value ? existing : entry;
+            }
+            return merge(shift, existing, existing.hash, entry);
+        }
+        Collision collision = (Collision) slot;
+        if (collision.hash == entry.hash) {
+            return collision.put(entry);
+        }
+        return merge(shift, collision, collision.hash, entry);
+    }
+
+    // 해시가 같은 위치까지 겹치는 두 칸을 하위 노드로 분리
+    private static Object merge(int shift, Object existing, int existingHash, Entry entry) {
+        if (existingHash == entry.hash) {
+            return ((existing instanceof Collision collision) ? collision : new Collision((Entry) existing)).put(entry);
+        }
+        int existingBit = bit(existingHash, shift);
+        int entryBit = bit(entry.hash, shift);
+        if (existingBit == entryBit) {
+            return new BitmapNode(existingBit, new Object[]{merge(shift + BITS, existing, existingHash, entry)});
+        }
+        Object[] slots = Integer.compareUnsigned(existingBit, entryBit) < 0
+            ? new Object[]{existing, entry}
+            : new Object[]{entry, existing};
+        return new BitmapNode(existingBit | entryBit, slots);
+    }
+
+    // 키가 존재함이 보장된 상태에서 호출되며, 칸이 비게 되면 null 을 반환
+    private static Object remove(Object slot, int shift, int hash, Object key) {
+        if (slot instanceof BitmapNode node) {
+            int bit = bit(hash, shift);
+            int index = node.index(bit);
+            Object updated = remove(node.slots[index], shift + BITS, hash, key);
+            if (updated != null) {
+                return node.replace(index, updated);
+            }
+            return node.bitmap == bit ? null : node.delete(bit, index);
+        }
+        if (slot instanceof Entry) {
+            return null;
+        }
+        return ((Collision) slot).remove(key);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private record Entry(int hash, Object key, Object value) {
+    }
+
+    private static final class BitmapNode {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        BitmapNode insert(int bit, int index, Object slot) {
+            Object[] copy = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            copy[index] = slot;
+            System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+            return new BitmapNode(bitmap | bit, copy);
+        }
+
+        BitmapNode replace(int index, Object slot) {
+            Object[] copy = slots.clone();
+            copy[index] = slot;
+            return new BitmapNode(bitmap, copy);
+        }
+
+        BitmapNode delete(int bit, int index) {
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, copy);
+        }
+    }
+
+    // 32비트 해시까지 완전히 같은 키들의 목록
+    private static final class Collision {
+
+        final int hash;
+        final Entry[] entries;
+
+        Collision(Entry entry) {
+            this(entry.hash, new Entry[]{entry});
+        }
+
+        private Collision(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        Object find(Object key) {
+            for (Entry entry : entries) {
+                if (entry.key.equals(key)) {
+                    return entry.value;
+                }
+            }
+            return null;
+        }
+
+        Collision put(Entry entry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(entry.key)) {
+                    Entry[] copy = entries.clone();
+                    copy[i] = entry;
+                    return new Collision(hash, copy);
+                }
+            }
+            Entry[] copy = Arrays.copyOf(entries, entries.length + 1);
+            copy[entries.length] = entry;
+            return new Collision(hash, copy);
+        }
+
+        Object remove(Object key) {
+            Entry[] remaining = Arrays.stream(entries)
+                .filter(entry -> !entry.key.equals(key))
+                .toArray(Entry[]::new);
+            if (remaining.length == 0) {
+                return null;
+            }
+            return remaining.length == 1 ? remaining[0] : new Collision(hash, remaining);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.categoryservice.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * 정렬된 문서 번호 목록을 delta + varint 로 압축한 posting list 헬퍼
+ */
+final class PostingList {
+
+    static final byte[] EMPTY = new byte[0];
+
+    private PostingList() {
+    }
+
+    static byte[] encode(int[] docIds, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length * 2);
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+            int delta = docIds[i] - previous;
+            previous = docIds[i];
+            while ((delta & ~0x7F) != 0) {
+                out.write((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            out.write(delta);
+        }
+        return out.toByteArray();
+    }
+
+    static int[] decode(byte[] encoded) {
+        int[] docIds = new int[encoded.length];
+        int count = 0;
+        int previous = 0;
+        int position = 0;
+        while (position < encoded.length) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = encoded[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            previous += delta;
+            docIds[count++] = previous;
+        }
+        return Arrays.copyOf(docIds, count);
+    }
+
+    /**
+     * 증분 갱신용. 목록 전체를 풀었다가 다시 압축하므로 일괄 적재에는 Builder 를 사용합니다.
+     */
+    static byte[] add(byte[] encoded, int docId) {
+        int[] docIds = decode(encoded);
+        int position = Arrays.binarySearch(docIds, docId);
+        if (position >= 0) {
+            return encoded;
+        }
+        int insertAt = -position - 1;
+        int[] updated = new int[docIds.length + 1];
+        System.arraycopy(docIds, 0, updated, 0, insertAt);
+        updated[insertAt] = docId;
+        System.arraycopy(docIds, insertAt, updated, insertAt + 1, docIds.length - insertAt);
+        return encode(updated, updated.length);
+    }
+
+    static byte[] remove(byte[] encoded, int docId) {
+        int[] docIds = decode(encoded);
+        int position = Arrays.binarySearch(docIds, docId);
+        if (position < 0) {
+            return encoded;
+        }
+        int[] updated = new int[docIds.length - 1];
+        System.arraycopy(docIds, 0, updated, 0, position);
+        System.arraycopy(docIds, position + 1, updated, position, docIds.length - position - 1);
+        return encode(updated, updated.length);
+    }
+
+    /**
+     * 오름차순으로 추가된 문서 번호를 모아 마지막에 한 번만 압축합니다.
+     */
+    static final class Builder {
+
+        private int[] docIds = new int[4];
+        private int length;
+
+        void add(int docId) {
+            if (length > 0 && docIds[length - 1] >= docId) {
+                throw new IllegalArgumentException("Doc ids must be added in ascending order: " + docId);
+            }
+            if (length == docIds.length) {
+                docIds = Arrays.copyOf(docIds, length * 2);
+            }
+            docIds[length++] = docId;
+        }
+
+        byte[] build() {
+            return encode(docIds, length);
+        }
+    }
+
+    static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    static int[] union(int[] left, int[] right) {
+        int[] result = new int[left.length + right.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            if (j >= right.length || (i < left.length && left[i] < right[j])) {
+                result[count++] = left[i++];
+            } else if (i >= left.length || right[j] < left[i]) {
+                result[count++] = right[j++];
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.categoryservice.domain.exception;
+
+public class CatalogVersionExpiredException extends RuntimeException {
+
+    public CatalogVersionExpiredException(long version) {
+        super("Catalog version is no longer retained: " + version);
+    }
+
+    public CatalogVersionExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.categoryservice.domain.exception;
+
+import com.example.categoryservice.domain.model.CategoryId;
+
+public class DuplicateCategoryNameException extends RuntimeException {
+
+    public DuplicateCategoryNameException(CategoryId parentId, String name) {
+        super("Category name already exists under " + (parentId != null ? "parent " + parentId.getValue() : "root")
+            + ": " + name);
+    }
+
+    public DuplicateCategoryNameException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.categoryservice.domain.model;
+
+import jakarta.persistence.*;
+
+/**
+ * 카탈로그 전체의 변경 버전 (단일 행)
+ * 행은 스키마 생성 시 import.sql 로 버전 0 으로 만들어 두며, 애플리케이션은 UPDATE 로만 증가시킵니다.
+ * 모든 쓰기 트랜잭션에서 증가하며, 각 노드는 이 값을 주기적으로 확인해 로컬 캐시를 무효화합니다.
+ */
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersion {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long version;
+
+    protected CatalogVersion() {
+        // JPA용 기본 생성자
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
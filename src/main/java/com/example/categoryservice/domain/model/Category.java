@@ -8,15 +8,27 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "categories")
+@Table(
+    name = "categories",
+    uniqueConstraints = @UniqueConstraint(name = Category.SIBLING_NAME_CONSTRAINT, columnNames = {"parent_key", "name_key"})
+)
 public class Category {
 
+    // 같은 부모 아래 정규화된 이름 중복을 막는 유니크 제약 (루트끼리도 parent_key 0 으로 걸러짐)
+    public static final String SIBLING_NAME_CONSTRAINT = "uk_categories_parent_name";
+    // 루트 카테고리의 parent_key
+    public static final long ROOT_PARENT_KEY = 0L;
+
     @EmbeddedId
     private CategoryId id;
 
     @Column(nullable = false, length = 100)
     private String name;
 
+    // 형제 간 이름 중복 검사용 정규화 이름 (대소문자/악센트/공백 무시)
+    @Column(name = "name_key", nullable = false, length = 100)
+    private String nameKey;
+
     @Column(length = 500)
     private String description;
 
@@ -24,6 +36,10 @@ public class Category {
     @AttributeOverride(name = "value", column = @Column(name = "parent_id"))
     private CategoryId parentId;
 
+    // 유니크 제약용 부모 키. parent_id 를 0 으로 채운 값 (NULL 끼리는 유니크 제약에서 충돌하지 않음)
+    @Column(name = "parent_key", nullable = false)
+    private long parentKey;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -41,8 +57,10 @@ public class Category {
         validateDescription(description);
         this.id = id;
         this.name = name;
+        this.nameKey = CategoryNameNormalizer.normalize(name);
         this.description = description;
         this.parentId = parentId;
+        this.parentKey = parentKeyOf(parentId);
     }
 
     public static Category create(CategoryId id, String name, String description, CategoryId parentId) {
@@ -62,6 +80,7 @@ public class Category {
         validateName(name);
         validateDescription(description);
         this.name = name;
+        this.nameKey = CategoryNameNormalizer.normalize(name);
         this.description = description;
     }
 
@@ -70,6 +89,11 @@ public class Category {
             throw new IllegalArgumentException("Category cannot be its own parent");
         }
         this.parentId = newParentId;
+        this.parentKey = parentKeyOf(newParentId);
+    }
+
+    public static long parentKeyOf(CategoryId parentId) {
+        return parentId != null ? parentId.getValue() : ROOT_PARENT_KEY;
     }
 
     private void validateName(String name) {
@@ -96,6 +120,10 @@ public class Category {
         return name;
     }
 
+    public String getNameKey() {
+        return nameKey;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -0,0 +1,159 @@
+package com.example.categoryservice.domain.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리 변경 로그 항목
+ * 생성/수정/이동 항목은 변경 후 상태 전체를 담으므로 소비자는 순서대로 덮어쓰기만 하면 됩니다.
+ * 삭제 항목은 카테고리 ID만 담습니다.
+ * 같은 쓰기 트랜잭션의 항목은 같은 카탈로그 버전을 가집니다.
+ */
+@Entity
+@Table(
+    name = "category_change_log",
+    // 카탈로그 버전으로 스트림을 이어 받을 위치(시퀀스)를 찾는 데 사용
+    indexes = @Index(name = "idx_category_change_log_version", columnList = "catalog_version, seq")
+)
+public class CategoryChange {
+
+    // 변경 순서를 나타내는 단조 증가 시퀀스
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private CategoryChangeType type;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(name = "catalog_version", nullable = false)
+    private long catalogVersion;
+
+    // 추가/수정 항목의 변경 후 생성/수정 일시. 다른 노드가 DB를 다시 읽지 않고 이 버전의 상태를 만드는 데 사용
+    @Column(name = "category_created_at")
+    private LocalDateTime categoryCreatedAt;
+
+    @Column(name = "category_updated_at")
+    private LocalDateTime categoryUpdatedAt;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    protected CategoryChange() {
+        // JPA용 기본 생성자
+    }
+
+    private CategoryChange(CategoryChangeType type, Long categoryId, String name, String description, Long parentId,
+                           LocalDateTime categoryCreatedAt, LocalDateTime categoryUpdatedAt) {
+        this.type = type;
+        this.categoryId = categoryId;
+        this.name = name;
+        this.description = description;
+        this.parentId = parentId;
+        this.categoryCreatedAt = categoryCreatedAt;
+        this.categoryUpdatedAt = categoryUpdatedAt;
+    }
+
+    /**
+     * 카테고리의 현재 상태로 항목을 만듭니다. 생성/수정 일시가 채워지도록 flush 이후에 호출해야 합니다.
+     */
+    public static CategoryChange of(CategoryChangeType type, Category category) {
+        if (type == CategoryChangeType.DELETED) {
+            return deleted(category.getId());
+        }
+        return new CategoryChange(
+            type,
+            category.getId().getValue(),
+            category.getName(),
+            category.getDescription(),
+            category.getParentId() != null ? category.getParentId().getValue() : null,
+            category.getCreatedAt(),
+            category.getUpdatedAt()
+        );
+    }
+
+    public static CategoryChange deleted(CategoryId categoryId) {
+        return new CategoryChange(CategoryChangeType.DELETED, categoryId.getValue(), null, null, null, null, null);
+    }
+
+    /**
+     * 추가/수정 항목이 기록한 변경 후 상태. 삭제 항목이거나 생성/수정 일시가 없는 항목이면 null 을 반환합니다.
+     */
+    public CategoryView toView() {
+        if (type == CategoryChangeType.DELETED || categoryCreatedAt == null || categoryUpdatedAt == null) {
+            return null;
+        }
+        return new CategoryView(categoryId, name, description, parentId, categoryCreatedAt, categoryUpdatedAt);
+    }
+
+    // Getters
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public CategoryChangeType getType() {
+        return type;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public LocalDateTime getCategoryCreatedAt() {
+        return categoryCreatedAt;
+    }
+
+    public LocalDateTime getCategoryUpdatedAt() {
+        return categoryUpdatedAt;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryChange{" +
+                "sequence=" + sequence +
+                ", type=" + type +
+                ", categoryId=" + categoryId +
+                ", name='" + name + '\'' +
+                ", parentId=" + parentId +
+                ", catalogVersion=" + catalogVersion +
+                ", categoryUpdatedAt=" + categoryUpdatedAt +
+                ", changedAt=" + changedAt +
+                '}';
+    }
+}
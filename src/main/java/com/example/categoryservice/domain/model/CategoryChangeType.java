@@ -0,0 +1,11 @@
+package com.example.categoryservice.domain.model;
+
+/**
+ * 변경 로그에 기록되는 카테고리 변경 종류
+ */
+public enum CategoryChangeType {
+    CREATED,
+    UPDATED,
+    MOVED,
+    DELETED
+}
@@ -0,0 +1,28 @@
+package com.example.categoryservice.domain.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 카테고리 이름 비교용 정규화
+ * 대소문자와 악센트(결합 문자)를 무시하고 연속 공백을 하나로 줄입니다.
+ */
+public final class CategoryNameNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private CategoryNameNormalizer() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        String recomposed = Normalizer.normalize(stripped, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(recomposed).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
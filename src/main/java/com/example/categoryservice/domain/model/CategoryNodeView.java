@@ -0,0 +1,19 @@
+package com.example.categoryservice.domain.model;
+
+/**
+ * 트리 구조 구성에 필요한 최소 컬럼(ID, 이름, 부모 ID)만 담은 조회 전용 프로젝션
+ */
+public record CategoryNodeView(
+    Long id,
+    String name,
+    Long parentId
+) {
+
+    public static CategoryNodeView from(Category category) {
+        return new CategoryNodeView(
+            category.getId().getValue(),
+            category.getName(),
+            category.getParentId() != null ? category.getParentId().getValue() : null
+        );
+    }
+}
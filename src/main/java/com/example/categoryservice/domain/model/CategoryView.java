@@ -0,0 +1,32 @@
+package com.example.categoryservice.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 카테고리 프로젝션
+ * 영속성 컨텍스트에 등록되지 않으므로 스냅샷/더티 체킹 비용이 없습니다.
+ */
+public record CategoryView(
+    Long id,
+    String name,
+    String description,
+    Long parentId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    public static CategoryView from(Category category) {
+        return new CategoryView(
+            category.getId().getValue(),
+            category.getName(),
+            category.getDescription(),
+            category.getParentId() != null ? category.getParentId().getValue() : null,
+            category.getCreatedAt(),
+            category.getUpdatedAt()
+        );
+    }
+
+    public boolean isRoot() {
+        return parentId == null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.categoryservice.domain.repository;
+
+public interface CatalogVersionRepository {
+
+    /**
+     * 현재 트랜잭션에서 카탈로그 버전을 1 증가시키고 증가된 값을 반환합니다.
+     * 커밋될 때까지 행 잠금을 유지하므로 동시 쓰기 트랜잭션은 순서대로 버전을 받습니다.
+     */
+    long increment();
+
+    /**
+     * 커밋된 최신 카탈로그 버전을 반환합니다. 아직 쓰기가 없었으면 0 입니다.
+     */
+    long current();
+}
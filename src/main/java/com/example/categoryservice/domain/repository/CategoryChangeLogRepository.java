@@ -0,0 +1,34 @@
+package com.example.categoryservice.domain.repository;
+
+import com.example.categoryservice.domain.model.CategoryChange;
+
+import java.util.List;
+
+public interface CategoryChangeLogRepository {
+
+    /**
+     * 한 쓰기 트랜잭션의 변경 로그 항목들을 그 트랜잭션의 카탈로그 버전으로 순서대로 추가합니다.
+     */
+    void appendAll(long catalogVersion, List<CategoryChange> changes);
+
+    /**
+     * 시퀀스가 since 보다 큰 항목을 시퀀스 순으로 최대 limit 개 조회합니다.
+     */
+    List<CategoryChange> findSince(long since, int limit);
+
+    /**
+     * 가장 최근 항목의 시퀀스를 반환합니다. 항목이 없으면 0 입니다.
+     */
+    long latestSequence();
+
+    /**
+     * 카탈로그 버전이 catalogVersion 이하인 마지막 항목의 시퀀스를 반환합니다. 항목이 없으면 0 입니다.
+     * 이 시퀀스 이후를 읽으면 catalogVersion 보다 새 버전의 변경만 받습니다.
+     */
+    long sequenceAtVersion(long catalogVersion);
+
+    /**
+     * 가장 최근 항목의 카탈로그 버전을 반환합니다. 항목이 없으면 0 입니다.
+     */
+    long latestCatalogVersion();
+}
@@ -2,7 +2,10 @@ package com.example.categoryservice.domain.repository;
 
 import com.example.categoryservice.domain.model.Category;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,11 +21,31 @@ public interface CategoryRepository {
      */
     Optional<Category> findById(CategoryId id);
 
+    /**
+     * 여러 ID의 카테고리를 조회 전용 프로젝션으로 한 번에 조회합니다. 존재하지 않는 ID는 결과에서 제외됩니다.
+     */
+    List<CategoryView> findViewsByIds(Collection<CategoryId> ids);
+
     /**
      * 모든 카테고리를 조회합니다.
      */
     List<Category> findAll();
 
+    /**
+     * ID로 조회 전용 카테고리 프로젝션을 조회합니다.
+     */
+    Optional<CategoryView> findViewById(CategoryId id);
+
+    /**
+     * 모든 카테고리를 조회 전용 프로젝션으로 조회합니다.
+     */
+    List<CategoryView> findAllViews();
+
+    /**
+     * 모든 카테고리의 ID, 이름, 부모 ID만 조회합니다.
+     */
+    List<CategoryNodeView> findAllNodeViews();
+
     /**
      * 특정 부모 ID를 가진 카테고리들을 조회합니다.
      */
@@ -43,6 +66,26 @@ public interface CategoryRepository {
      */
     void deleteById(CategoryId id);
 
+    /**
+     * 여러 카테고리를 배치 단위로 삭제하고 삭제된 개수를 반환합니다.
+     */
+    int deleteAllById(Collection<CategoryId> ids);
+
+    /**
+     * 특정 카테고리와 그 하위 카테고리 전체의 ID를 조회합니다. (존재하지 않으면 빈 목록)
+     */
+    List<CategoryId> findSubtreeIds(CategoryId rootId);
+
+    /**
+     * 특정 카테고리부터 루트까지의 ID를 조회합니다. (자신 포함, 존재하지 않으면 빈 목록)
+     */
+    List<CategoryId> findAncestorIds(CategoryId id);
+
+    /**
+     * 같은 부모 아래에 정규화된 이름이 같은 카테고리가 있는지 확인합니다. (parentId 가 null 이면 루트 카테고리, excludedId 는 제외)
+     */
+    boolean existsByParentIdAndNameKey(CategoryId parentId, String nameKey, CategoryId excludedId);
+
     /**
      * 특정 카테고리가 하위 카테고리를 가지고 있는지 확인합니다.
      */
@@ -0,0 +1,31 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.example.categoryservice.application.service.CatalogVersionTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 로그를 주기적으로 이어 읽어 다른 노드의 쓰기를 로컬 캐시에 반영합니다.
+ * 별도 메시지 브로커 없이 DB 만으로 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.catalog-version.polling-enabled", havingValue = "true", matchIfMissing = true)
+public class CatalogVersionPoller {
+
+    private final CatalogVersionTracker catalogVersionTracker;
+
+    @Scheduled(fixedDelayString = "${app.catalog-version.poll-interval:PT0.5S}")
+    public void poll() {
+        try {
+            catalogVersionTracker.refresh();
+        } catch (RuntimeException e) {
+            // DB 일시 장애 시 다음 주기에 다시 확인
+            log.warn("Catalog version poll failed: {}", e.getMessage());
+        }
+    }
+}
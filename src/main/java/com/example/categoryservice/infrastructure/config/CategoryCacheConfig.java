@@ -2,6 +2,8 @@ package com.example.categoryservice.infrastructure.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -10,7 +12,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
-import java.time.Duration;
+import java.nio.file.Path;
 
 @Slf4j
 @Configuration
@@ -19,9 +21,21 @@ import java.time.Duration;
 public class CategoryCacheConfig {
 
     private final CategoryCacheProperties cacheProperties;
+    // 직접 등록한 L2 저장소 (없으면 기본 파일 저장소)
+    private final SharedCacheStore sharedCacheStore;
 
     public CategoryCacheConfig(CategoryCacheProperties cacheProperties) {
+        this(cacheProperties, (SharedCacheStore) null);
+    }
+
+    @Autowired
+    public CategoryCacheConfig(CategoryCacheProperties cacheProperties, ObjectProvider<SharedCacheStore> sharedCacheStore) {
+        this(cacheProperties, sharedCacheStore.getIfAvailable());
+    }
+
+    CategoryCacheConfig(CategoryCacheProperties cacheProperties, SharedCacheStore sharedCacheStore) {
         this.cacheProperties = cacheProperties;
+        this.sharedCacheStore = sharedCacheStore;
     }
 
     @Bean
@@ -38,15 +52,38 @@ public class CategoryCacheConfig {
                 .build());
 
         // Category tree cache configuration
-        cacheManager.registerCustomCache("categoryTree",
+        // 항목마다 노드 수가 크게 다르므로 무게(노드 수) 기준으로 제한
+        CategoryCacheProperties.CacheSpec treeSpec = cacheProperties.getCategoryTree();
+        Caffeine<Object, Object> treeBuilder = Caffeine.newBuilder()
+            .expireAfterWrite(treeSpec.getExpireAfterWrite())
+            .recordStats();
+        if (treeSpec.getMaximumWeight() != null) {
+            treeBuilder.maximumWeight(treeSpec.getMaximumWeight())
+                .weigher(new CategoryTreeWeigher());
+        } else {
+            treeBuilder.maximumSize(treeSpec.getMaximumSize());
+        }
+        cacheManager.registerCustomCache("categoryTree", treeBuilder.build());
+
+        // 카탈로그 버전별 전체 트리 (읽기 모델 적재용). 읽기 모델이 최신 트리를 들고 있으므로 L1 에는 하나만 둠
+        cacheManager.registerCustomCache("categoryTreeSnapshot",
             Caffeine.newBuilder()
-                .maximumSize(cacheProperties.getCategoryTree().getMaximumSize())
-                .expireAfterWrite(cacheProperties.getCategoryTree().getExpireAfterWrite())
+                .maximumSize(1)
+                .expireAfterWrite(treeSpec.getExpireAfterWrite())
                 .recordStats()
                 .build());
 
         log.info("Category cache manager configured with properties: {}", cacheProperties);
 
-        return cacheManager;
+        // 공유 L2 를 켜면 Caffeine 캐시는 L1 이 되고, 콜드 노드는 DB 대신 L2 에서 채움
+        CategoryCacheProperties.Shared shared = cacheProperties.getShared();
+        if (!shared.isEnabled()) {
+            return cacheManager;
+        }
+        SharedCacheStore store = sharedCacheStore != null
+            ? sharedCacheStore
+            : new FileSharedCacheStore(Path.of(shared.getDirectory()), shared.getTimeToLive());
+        log.info("Shared L2 cache enabled: {}", store.getClass().getSimpleName());
+        return new TwoLevelCacheManager(cacheManager, store, new SharedCacheSerializer());
     }
 }
\ No newline at end of file
@@ -11,12 +11,25 @@ public class CategoryCacheProperties {
 
     private CacheSpec categories = new CacheSpec();
     private CacheSpec categoryTree = new CacheSpec();
+    private Shared shared = new Shared();
 
     @Data
     public static class CacheSpec {
         private long maximumSize = 1000L;
         private Duration expireAfterAccess = Duration.ofMinutes(10);
         private Duration expireAfterWrite = Duration.ofMinutes(5);
+        // 설정 시 maximumSize 대신 항목 무게(트리 노드 수) 합계로 제한
+        private Long maximumWeight;
+    }
+
+    /**
+     * 노드 간 공유 L2 캐시 설정. SharedCacheStore 빈이 없으면 directory 아래 파일 저장소를 사용
+     */
+    @Data
+    public static class Shared {
+        private boolean enabled = false;
+        private String directory = System.getProperty("java.io.tmpdir") + "/category-service-cache";
+        private Duration timeToLive = Duration.ofMinutes(5);
     }
 
     public CategoryCacheProperties() {
@@ -27,5 +40,6 @@ public class CategoryCacheProperties {
         // Category tree cache: 트리 구조 조회용 (상대적으로 적은 키, 빠른 만료)
         categoryTree.setMaximumSize(100L);
         categoryTree.setExpireAfterWrite(Duration.ofMinutes(5));
+        categoryTree.setMaximumWeight(1_000_000L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.example.categoryservice.application.port.out.CategoryCompactNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 트리 캐시 항목의 무게를 노드 수로 계산합니다.
+ * 간략 트리 전체와 리프 하위 트리가 같은 한 칸을 차지하지 않도록 maximumWeight 와 함께 사용합니다.
+ */
+class CategoryTreeWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long nodes;
+        if (value instanceof CategoryCompactTreeResponse tree) {
+            nodes = countNodes(tree.categories(), CategoryCompactNodeResponse::children);
+        } else {
+            nodes = 1;
+        }
+        // 빈 트리도 최소 1 로 계산해 항목 수가 무한히 늘지 않도록 함
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, nodes));
+    }
+
+    private static <T> long countNodes(List<T> roots, Function<T, List<T>> children) {
+        Deque<T> stack = new ArrayDeque<>(roots);
+        long count = 0;
+        while (!stack.isEmpty()) {
+            T node = stack.pop();
+            count++;
+            List<T> nodeChildren = children.apply(node);
+            if (nodeChildren != null) {
+                nodeChildren.forEach(stack::push);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.example.categoryservice.infrastructure.web.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (app.datasource.routing.enabled=true 일 때만)
+ * spring.datasource 는 primary, app.datasource.routing.replica 는 replica 풀로 만들고,
+ * 읽기 전용 트랜잭션(findAll 기반 트리 재빌드 포함)을 replica 로 보냅니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceRoutingProperties routingProperties) {
+        DataSourceRoutingProperties.Replica replica = routingProperties.getReplica();
+        if (replica.getUrl() == null) {
+            throw new IllegalStateException("app.datasource.routing.replica.url is required when routing is enabled");
+        }
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(replica.getUrl())
+            .username(replica.getUsername())
+            .password(replica.getPassword());
+        // 지정하지 않으면 URL 에서 드라이버를 판별
+        if (replica.getDriverClassName() != null) {
+            builder.driverClassName(replica.getDriverClassName());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                                       DataSourceRoutingProperties routingProperties) {
+        log.info("Read/write datasource routing enabled: replica={}, sticky-after-write={}, primary-after-write={}",
+            replicaDataSource.getJdbcUrl(), routingProperties.isStickyAfterWrite(), routingProperties.getPrimaryAfterWrite());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+            routingProperties.isStickyAfterWrite(), routingProperties.getPrimaryAfterWrite());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 골라야 읽기 전용 여부가 반영됨
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaCatalogVersionPoller replicaCatalogVersionPoller(ReadWriteRoutingDataSource routingDataSource) {
+        return new ReplicaCatalogVersionPoller(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadWriteRoutingDataSource routingDataSource,
+                                                                             DataSourceRoutingProperties routingProperties) {
+        return new FilterRegistrationBean<>(
+            new ReadYourWritesFilter(routingDataSource, routingProperties.getReadYourWritesMaxAge()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.categoryservice.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+    // 쓰기 이후의 읽기는 primary 로 보냄 (read-your-writes). 같은 요청, 그리고 쓰기 응답의 카탈로그 버전을
+    // 헤더/쿠키로 돌려보낸 이후 요청은 replica 가 그 버전을 따라올 때까지
+    private boolean stickyAfterWrite = true;
+    // 쓰기 응답으로 보내는 카탈로그 버전 쿠키의 유효 시간
+    private Duration readYourWritesMaxAge = Duration.ofMinutes(5);
+    // replica 의 카탈로그 버전 확인 주기
+    private Duration replicaPollInterval = Duration.ofMillis(200);
+    // 이 노드의 쓰기 커밋 후 이 시간 동안은 모든 읽기를 primary 로 보냄 (복제 지연 중 재빌드 방지)
+    private Duration primaryAfterWrite = Duration.ofSeconds(1);
+    private Replica replica = new Replica();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
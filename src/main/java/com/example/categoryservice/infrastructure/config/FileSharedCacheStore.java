@@ -0,0 +1,180 @@
+package com.example.categoryservice.infrastructure.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파일 기반 참조 L2 저장소 (로컬 테스트 및 공유 볼륨용)
+ * 캐시마다 디렉터리를 두고 항목 하나를 파일 하나로 저장합니다. 파일 앞 8바이트는 만료 시각(epoch ms)입니다.
+ * 임시 파일에 쓴 뒤 원자적으로 교체하므로 다른 노드가 쓰는 도중의 파일을 읽지 않습니다.
+ * 만료된 항목은 읽을 때 지우고, 다시 읽히지 않는 항목은 쓰기 시 최대 TTL 마다 한 번 전체 디렉터리를 훑어 지웁니다.
+ */
+public class FileSharedCacheStore implements SharedCacheStore {
+
+    private static final int HEADER_BYTES = Long.BYTES;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final Duration timeToLive;
+    private final Clock clock;
+    // 다음 정리 시각 (epoch ms). 시작 후 첫 쓰기에서 이전 실행이 남긴 만료 파일도 정리
+    private final AtomicLong nextSweepAt = new AtomicLong();
+
+    public FileSharedCacheStore(Path directory, Duration timeToLive) {
+        this(directory, timeToLive, Clock.systemUTC());
+    }
+
+    FileSharedCacheStore(Path directory, Duration timeToLive, Clock clock) {
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        Path file = entryPath(cacheName, key);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_BYTES || buffer.getLong() <= clock.millis()) {
+            deleteIfExists(file);
+            return null;
+        }
+        byte[] value = new byte[buffer.remaining()];
+        buffer.get(value);
+        return value;
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value) {
+        Path file = entryPath(cacheName, key);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + value.length);
+        buffer.putLong(clock.millis() + timeToLive.toMillis()).put(value);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), null, TEMP_SUFFIX);
+            try {
+                Files.write(temp, buffer.array());
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sweepIfDue();
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        deleteIfExists(entryPath(cacheName, key));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        Path cacheDirectory = directory.resolve(encode(cacheName));
+        if (!Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        // 쓰는 중인 임시 파일은 건드리지 않음
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(cacheDirectory,
+                entry -> !entry.getFileName().toString().endsWith(TEMP_SUFFIX))) {
+            for (Path entry : entries) {
+                deleteIfExists(entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모든 캐시 디렉터리에서 만료된 항목과, 쓰다가 중단되어 TTL 이 지나도록 남은 임시 파일을 지웁니다.
+     * 다른 노드와 동시에 지워도 되며, 지운 파일 수를 반환합니다.
+     */
+    int sweepExpired() {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        long now = clock.millis();
+        int removed = 0;
+        try (DirectoryStream<Path> caches = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path cacheDirectory : caches) {
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(cacheDirectory)) {
+                    for (Path entry : entries) {
+                        if (isExpired(entry, now) && Files.deleteIfExists(entry)) {
+                            removed++;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return removed;
+    }
+
+    // 여러 스레드가 동시에 쓰더라도 주기마다 한 스레드만 정리
+    private void sweepIfDue() {
+        long now = clock.millis();
+        long due = nextSweepAt.get();
+        if (now < due || !nextSweepAt.compareAndSet(due, now + timeToLive.toMillis())) {
+            return;
+        }
+        try {
+            sweepExpired();
+        } catch (RuntimeException e) {
+            // 쓰기를 실패시키지 않도록 무시하고 다음 주기에 다시 시도
+        }
+    }
+
+    // 읽는 사이 다른 노드가 새 값으로 교체했다면 그 값도 지워질 수 있지만, 다음 조회의 미스로 끝남
+    private boolean isExpired(Path entry, long now) throws IOException {
+        try {
+            if (entry.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                return Files.getLastModifiedTime(entry).toMillis() + timeToLive.toMillis() <= now;
+            }
+            try (InputStream in = Files.newInputStream(entry)) {
+                byte[] header = in.readNBytes(HEADER_BYTES);
+                return header.length < HEADER_BYTES || ByteBuffer.wrap(header).getLong() <= now;
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private Path entryPath(String cacheName, String key) {
+        return directory.resolve(encode(cacheName)).resolve(encode(key));
+    }
+
+    // 임의의 키를 파일 이름으로 쓸 수 있도록 URL-safe Base64 로 인코딩
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void deleteIfExists(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.example.categoryservice.infrastructure.web.CategoryProtobufHttpMessageConverter;
+import com.example.categoryservice.infrastructure.web.PrecompressedCategoryTreeHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * JSON 외 바이너리 응답 형식 설정 (Accept 헤더로 선택)
+ * CBOR/Smile 은 JSON 과 같은 ObjectMapper 설정(SNAKE_CASE, ISO 일시)을 그대로 사용하며,
+ * Accept 가 없거나 와일드카드인 요청은 계속 JSON 으로 응답하도록 목록 끝에 추가합니다.
+ * 트리 JSON 응답은 미리 압축해 둔 바이트를 재사용하도록 기본 Jackson 컨버터보다 앞에 둡니다.
+ */
+@Configuration
+public class HttpMessageConverterConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final DataSize treeBodyCacheSize;
+
+    public HttpMessageConverterConfig(ObjectMapper objectMapper,
+                                      @Value("${app.cache.category-tree.response-body-max-size:32MB}") DataSize treeBodyCacheSize) {
+        this.objectMapper = objectMapper;
+        this.treeBodyCacheSize = treeBodyCacheSize;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 기본 ObjectMapper 로 등록된 CBOR/Smile 컨버터를 애플리케이션 설정을 따르는 컨버터로 교체
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory())));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory())));
+        converters.add(new CategoryProtobufHttpMessageConverter());
+
+        converters.add(0, new PrecompressedCategoryTreeHttpMessageConverter(objectMapper, treeBodyCacheSize.toBytes()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.example.categoryservice.domain.model.CatalogVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외는 primary 로 보내는 라우팅 DataSource
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+ * 다음 경우에는 읽기 전용이어도 primary 를 사용합니다.
+ * - 같은 요청에서 이미 쓰기를 커밋한 경우 (read-your-writes)
+ * - 요청이 요구한 카탈로그 버전(이전 요청의 쓰기)을 replica 가 아직 따라오지 못한 경우
+ * - 이 노드가 쓰기를 커밋한 직후 (무효화된 트리를 아직 따라오지 못한 replica 로 다시 빌드하지 않도록)
+ * replica 의 카탈로그 버전은 refreshReplicaCatalogVersion() 을 주기적으로 호출해 갱신합니다.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String CATALOG_VERSION_QUERY = "SELECT version FROM catalog_version WHERE id = ?";
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final boolean stickyAfterWrite;
+    private final long primaryAfterWriteNanos;
+    private final LongSupplier nanoTime;
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private volatile long primaryUntilNanos;
+    // 마지막으로 확인한 replica 의 카탈로그 버전. 확인 전에는 요구 버전이 있는 읽기를 모두 primary 로 보냄
+    private volatile long replicaCatalogVersion;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      boolean stickyAfterWrite, Duration primaryAfterWrite) {
+        this(primary, replica, stickyAfterWrite, primaryAfterWrite, System::nanoTime);
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, boolean stickyAfterWrite,
+                               Duration primaryAfterWrite, LongSupplier nanoTime) {
+        this.stickyAfterWrite = stickyAfterWrite;
+        this.primaryAfterWriteNanos = primaryAfterWrite.toNanos();
+        this.nanoTime = nanoTime;
+        this.primaryUntilNanos = nanoTime.getAsLong();
+        this.primaryJdbcTemplate = new JdbcTemplate(primary);
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // 트랜잭션 밖의 접근(스키마 생성, 헬스 체크 등)은 primary
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return Route.PRIMARY;
+        }
+        if (stickyAfterWrite && (ReadYourWritesContext.hasWritten()
+                || ReadYourWritesContext.requiredCatalogVersion() > replicaCatalogVersion)) {
+            return Route.PRIMARY;
+        }
+        if (nanoTime.getAsLong() - primaryUntilNanos < 0) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * primary 에 커밋된 카탈로그 버전. 쓰기 요청의 응답으로 돌려줄 요구 버전으로 사용합니다.
+     */
+    public long primaryCatalogVersion() {
+        return readCatalogVersion(primaryJdbcTemplate);
+    }
+
+    /**
+     * replica 에 반영된 카탈로그 버전을 다시 읽습니다. 실패하면 이전 값을 유지합니다.
+     */
+    public void refreshReplicaCatalogVersion() {
+        try {
+            replicaCatalogVersion = readCatalogVersion(replicaJdbcTemplate);
+        } catch (RuntimeException e) {
+            // replica 장애 중에는 요구 버전이 있는 읽기가 계속 primary 로 감
+            log.warn("Replica catalog version check failed: {}", e.getMessage());
+        }
+    }
+
+    long replicaCatalogVersion() {
+        return replicaCatalogVersion;
+    }
+
+    private static long readCatalogVersion(JdbcTemplate jdbcTemplate) {
+        Long version = jdbcTemplate.queryForObject(CATALOG_VERSION_QUERY, Long.class, CatalogVersion.SINGLETON_ID);
+        return version != null ? version : 0L;
+    }
+
+    // 커밋된 쓰기만 기록. 롤백된 쓰기는 replica 와 차이를 만들지 않으므로 이후 읽기를 primary 로 보내지 않음
+    private void recordWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 여부를 알 수 없으면 쓴 것으로 간주
+            ReadYourWritesContext.markWritten();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.markWritten();
+                if (primaryAfterWriteNanos > 0) {
+                    primaryUntilNanos = nanoTime.getAsLong() + primaryAfterWriteNanos;
+                }
+            }
+        });
+    }
+}
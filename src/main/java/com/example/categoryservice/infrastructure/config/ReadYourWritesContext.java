@@ -0,0 +1,64 @@
+package com.example.categoryservice.infrastructure.config;
+
+/**
+ * 요청 단위 read-your-writes 상태
+ * 요청 범위를 연 스레드에서 쓰기 트랜잭션이 한 번이라도 실행되면, 그 요청의 이후 읽기는 primary 로 라우팅됩니다.
+ * 이전 요청의 쓰기는 클라이언트가 돌려보낸 카탈로그 버전(요구 버전)으로 전달되며,
+ * replica 가 그 버전을 따라올 때까지 읽기를 primary 로 라우팅합니다.
+ * 요청 범위 밖(스케줄러 등)에서는 아무 것도 기록하지 않습니다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void begin() {
+        begin(0L);
+    }
+
+    /**
+     * 요청 범위를 엽니다. requiredCatalogVersion 은 이 요청의 읽기가 반영하고 있어야 하는 최소 카탈로그 버전입니다.
+     */
+    public static void begin(long requiredCatalogVersion) {
+        CURRENT.set(new State(requiredCatalogVersion));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청에서 쓰기 트랜잭션을 실행했는지 여부
+     */
+    public static boolean hasWritten() {
+        State state = CURRENT.get();
+        return state != null && state.written;
+    }
+
+    static void markWritten() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.written = true;
+        }
+    }
+
+    /**
+     * 현재 요청이 요구하는 최소 카탈로그 버전. 요청 범위 밖이거나 요구 버전이 없으면 0 입니다.
+     */
+    public static long requiredCatalogVersion() {
+        State state = CURRENT.get();
+        return state != null ? state.requiredCatalogVersion : 0L;
+    }
+
+    private static final class State {
+
+        private final long requiredCatalogVersion;
+        private boolean written;
+
+        private State(long requiredCatalogVersion) {
+            this.requiredCatalogVersion = requiredCatalogVersion;
+        }
+    }
+}
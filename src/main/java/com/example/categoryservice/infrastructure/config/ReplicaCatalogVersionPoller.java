@@ -0,0 +1,19 @@
+package com.example.categoryservice.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica 에 반영된 카탈로그 버전을 주기적으로 확인해, 요구 버전을 따라온 읽기만 replica 로 보내도록 합니다.
+ * 읽기/쓰기 DataSource 라우팅이 켜져 있을 때만 등록됩니다.
+ */
+@RequiredArgsConstructor
+public class ReplicaCatalogVersionPoller {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.replica-poll-interval:PT0.2S}")
+    public void poll() {
+        routingDataSource.refreshReplicaCatalogVersion();
+    }
+}
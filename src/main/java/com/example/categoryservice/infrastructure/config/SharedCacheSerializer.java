@@ -0,0 +1,61 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * L2 캐시 값 직렬화 (Smile)
+ * 값 앞에 타입 이름을 기록해 두고 읽을 때 그 타입으로 복원합니다.
+ * 공유 저장소의 내용으로 임의 클래스를 만들지 않도록 서비스 패키지와 java.lang 타입만 허용합니다.
+ */
+public class SharedCacheSerializer {
+
+    private static final String SERVICE_PACKAGE = "com.example.categoryservice.";
+    private static final String JAVA_LANG_PACKAGE = "java.lang.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper(new SmileFactory())
+        .findAndRegisterModules()
+        // 다른 버전의 노드가 필드를 추가해 저장한 값도 읽을 수 있도록 함
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(allowedType(value.getClass().getName()));
+            // DataOutput 오버로드와 구분하기 위해 스트림으로 지정
+            objectMapper.writeValue((OutputStream) output, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Object deserialize(byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            String typeName = allowedType(input.readUTF());
+            Class<?> type = Class.forName(typeName, false, getClass().getClassLoader());
+            return objectMapper.readValue((InputStream) input, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown cached value type", e);
+        }
+    }
+
+    private static String allowedType(String typeName) {
+        if (!typeName.startsWith(SERVICE_PACKAGE) && !typeName.startsWith(JAVA_LANG_PACKAGE)) {
+            throw new IllegalArgumentException("Cached value type not allowed in shared cache: " + typeName);
+        }
+        return typeName;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.categoryservice.infrastructure.config;
+
+/**
+ * 노드 간에 공유하는 L2 캐시 저장소 SPI
+ * 값은 직렬화된 바이트로만 다루며, 만료는 저장소가 책임집니다.
+ * 구현체를 빈으로 등록하면 기본 파일 저장소 대신 사용됩니다.
+ * 저장소 오류는 RuntimeException 으로 던지면 되고, 호출 측에서 L2 미스로 처리합니다.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * 저장된 값을 조회합니다. 없거나 만료되었으면 null
+     */
+    byte[] get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,173 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caffeine L1 뒤에 공유 L2 를 둔 2단계 캐시
+ * L1 미스는 L2 에서 먼저 찾고, L2 에서 찾은 값은 L1 에 채웁니다. 쓰기와 무효화는 두 단계에 모두 반영합니다.
+ * L2 오류는 요청을 실패시키지 않고 미스로 처리합니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final CaffeineCache localCache;
+    private final SharedCacheStore sharedCacheStore;
+    private final SharedCacheSerializer serializer;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+    private final LongAdder sharedErrors = new LongAdder();
+
+    public TwoLevelCache(CaffeineCache localCache, SharedCacheStore sharedCacheStore, SharedCacheSerializer serializer) {
+        super(localCache.isAllowNullValues());
+        this.localCache = localCache;
+        this.sharedCacheStore = sharedCacheStore;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Cache<Object, Object> getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    public CaffeineCache getLocalCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getNativeCache().getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        value = readShared(key);
+        if (value != null) {
+            localCache.getNativeCache().put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] missed = new boolean[1];
+        Object value = localCache.getNativeCache().get(key, k -> {
+            missed[0] = true;
+            Object shared = readShared(k);
+            if (shared != null) {
+                return shared;
+            }
+            Object loaded;
+            try {
+                loaded = toStoreValue(valueLoader.call());
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+            writeShared(k, loaded);
+            return loaded;
+        });
+        (missed[0] ? localMisses : localHits).increment();
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        localCache.getNativeCache().put(key, storeValue);
+        writeShared(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        try {
+            sharedCacheStore.evict(getName(), sharedKey(key));
+        } catch (RuntimeException e) {
+            sharedFailed("evict", e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        try {
+            sharedCacheStore.clear(getName());
+        } catch (RuntimeException e) {
+            sharedFailed("clear", e);
+        }
+    }
+
+    public long localHitCount() {
+        return localHits.sum();
+    }
+
+    public long localMissCount() {
+        return localMisses.sum();
+    }
+
+    public long sharedHitCount() {
+        return sharedHits.sum();
+    }
+
+    public long sharedMissCount() {
+        return sharedMisses.sum();
+    }
+
+    public long sharedErrorCount() {
+        return sharedErrors.sum();
+    }
+
+    private Object readShared(Object key) {
+        try {
+            byte[] bytes = sharedCacheStore.get(getName(), sharedKey(key));
+            if (bytes != null) {
+                Object value = serializer.deserialize(bytes);
+                sharedHits.increment();
+                return value;
+            }
+        } catch (RuntimeException e) {
+            sharedFailed("get", e);
+        }
+        sharedMisses.increment();
+        return null;
+    }
+
+    private void writeShared(Object key, Object storeValue) {
+        // null 결과는 노드마다 다시 확인하도록 L1 에만 둠
+        if (storeValue == NullValue.INSTANCE) {
+            return;
+        }
+        try {
+            sharedCacheStore.put(getName(), sharedKey(key), serializer.serialize(storeValue));
+        } catch (RuntimeException e) {
+            sharedFailed("put", e);
+        }
+    }
+
+    private void sharedFailed(String operation, RuntimeException e) {
+        sharedErrors.increment();
+        log.warn("Shared cache {} failed for cache '{}': {}", operation, getName(), e.getMessage());
+    }
+
+    // L1 처럼 타입이 다른 같은 값의 키(1L 과 "1")를 구분
+    private static String sharedKey(Object key) {
+        return key.getClass().getSimpleName() + ":" + key;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.categoryservice.infrastructure.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caffeine 캐시 매니저의 캐시들을 공유 L2 와 묶어 2단계 캐시로 제공합니다.
+ * 캐시 이름과 L1 설정은 Caffeine 캐시 매니저를 그대로 따릅니다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CaffeineCacheManager localCacheManager;
+    private final SharedCacheStore sharedCacheStore;
+    private final SharedCacheSerializer serializer;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CaffeineCacheManager localCacheManager, SharedCacheStore sharedCacheStore,
+                                SharedCacheSerializer serializer) {
+        this.localCacheManager = localCacheManager;
+        this.sharedCacheStore = sharedCacheStore;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        Cache localCache = localCacheManager.getCache(name);
+        if (!(localCache instanceof CaffeineCache caffeineCache)) {
+            return localCache;
+        }
+        return caches.computeIfAbsent(name, key -> new TwoLevelCache(caffeineCache, sharedCacheStore, serializer));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.categoryservice.infrastructure.monitoring;
+
+import com.example.categoryservice.application.service.CategoryTreeReadModel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리 버전 보존 현황 메트릭
+ * 보존 중인 버전 수와 노드 수(메모리 상한 지표), 현재 버전 번호를 노출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeVersionMetrics implements MeterBinder {
+
+    private final CategoryTreeReadModel categoryTreeReadModel;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("category.tree.versions.retained", categoryTreeReadModel, CategoryTreeReadModel::retainedVersionCount)
+            .description("Number of category tree versions retained for versioned reads")
+            .register(registry);
+
+        Gauge.builder("category.tree.versions.retained.nodes", categoryTreeReadModel, CategoryTreeReadModel::retainedNodeCount)
+            .description("Total nodes across retained versions (shared nodes counted per version)")
+            .baseUnit("nodes")
+            .register(registry);
+
+        Gauge.builder("category.tree.version.current", categoryTreeReadModel, CategoryTreeReadModel::currentVersion)
+            .description("Latest published category tree version")
+            .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.categoryservice.infrastructure.monitoring;
+
+import com.example.categoryservice.infrastructure.config.TwoLevelCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 2단계 캐시의 단계별 hit/miss 메트릭
+ * 공유 L2 가 켜져 있을 때만 등록되며, L2 오류 수도 함께 노출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheMetrics implements MeterBinder {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+                continue;
+            }
+            register(registry, twoLevelCache, "l1", "hit", TwoLevelCache::localHitCount);
+            register(registry, twoLevelCache, "l1", "miss", TwoLevelCache::localMissCount);
+            register(registry, twoLevelCache, "l2", "hit", TwoLevelCache::sharedHitCount);
+            register(registry, twoLevelCache, "l2", "miss", TwoLevelCache::sharedMissCount);
+
+            FunctionCounter.builder("category.cache.l2.errors", twoLevelCache, TwoLevelCache::sharedErrorCount)
+                .description("Shared L2 cache operations that failed and were treated as misses")
+                .tag("cache", name)
+                .register(registry);
+        }
+    }
+
+    private static void register(MeterRegistry registry, TwoLevelCache cache, String tier, String result,
+                                 ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("category.cache.gets", cache, count)
+            .description("Category cache lookups per tier")
+            .tag("cache", cache.getName())
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.domain.model.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CatalogVersionJpaRepository extends JpaRepository<CatalogVersion, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CatalogVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+    int increment(@Param("id") Long id);
+
+    @Query("SELECT v.version FROM CatalogVersion v WHERE v.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+}
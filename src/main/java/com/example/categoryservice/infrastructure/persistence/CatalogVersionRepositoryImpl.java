@@ -0,0 +1,27 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.domain.model.CatalogVersion;
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRepositoryImpl implements CatalogVersionRepository {
+
+    private final CatalogVersionJpaRepository jpaRepository;
+
+    @Override
+    public long increment() {
+        // 단일 UPDATE 로 증가시키고 행 잠금을 잡은 채 같은 트랜잭션에서 증가된 값을 읽음
+        if (jpaRepository.increment(CatalogVersion.SINGLETON_ID) == 0) {
+            throw new IllegalStateException("catalog_version row is missing; it must be seeded with the schema");
+        }
+        return jpaRepository.findVersion(CatalogVersion.SINGLETON_ID).orElseThrow();
+    }
+
+    @Override
+    public long current() {
+        return jpaRepository.findVersion(CatalogVersion.SINGLETON_ID).orElse(0L);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.domain.model.CategoryChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryChangeJpaRepository extends JpaRepository<CategoryChange, Long> {
+
+    @Query("SELECT c FROM CategoryChange c WHERE c.sequence > :since ORDER BY c.sequence")
+    List<CategoryChange> findSince(@Param("since") Long since, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.sequence), 0) FROM CategoryChange c")
+    Long findMaxSequence();
+
+    // idx_category_change_log_version 을 역순으로 한 건만 읽음
+    Optional<CategoryChange> findFirstByCatalogVersionLessThanEqualOrderByCatalogVersionDescSequenceDesc(long catalogVersion);
+
+    @Query("SELECT COALESCE(MAX(c.catalogVersion), 0) FROM CategoryChange c")
+    Long findMaxCatalogVersion();
+}
@@ -0,0 +1,78 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CategoryChangeLogRepositoryImpl implements CategoryChangeLogRepository {
+
+    static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO category_change_log (change_type, category_id, name, description, parent_id, catalog_version,
+                                         category_created_at, category_updated_at, changed_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final CategoryChangeJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * IDENTITY 키는 Hibernate 가 INSERT 를 묶지 못하므로 JDBC 배치로 추가합니다. (하위 트리 삭제 시 수만 건)
+     * 같은 트랜잭션의 커넥션을 사용하며, 시퀀스는 DB 가 추가 순서대로 할당합니다.
+     */
+    @Override
+    public void appendAll(long catalogVersion, List<CategoryChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, INSERT_BATCH_SIZE, (ps, change) -> {
+            ps.setString(1, change.getType().name());
+            ps.setLong(2, change.getCategoryId());
+            ps.setString(3, change.getName());
+            ps.setString(4, change.getDescription());
+            ps.setObject(5, change.getParentId(), Types.BIGINT);
+            ps.setLong(6, catalogVersion);
+            ps.setTimestamp(7, timestamp(change.getCategoryCreatedAt()));
+            ps.setTimestamp(8, timestamp(change.getCategoryUpdatedAt()));
+            ps.setTimestamp(9, changedAt);
+        });
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    @Override
+    public List<CategoryChange> findSince(long since, int limit) {
+        return jpaRepository.findSince(since, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long latestSequence() {
+        return jpaRepository.findMaxSequence();
+    }
+
+    @Override
+    public long sequenceAtVersion(long catalogVersion) {
+        return jpaRepository.findFirstByCatalogVersionLessThanEqualOrderByCatalogVersionDescSequenceDesc(catalogVersion)
+            .map(CategoryChange::getSequence)
+            .orElse(0L);
+    }
+
+    @Override
+    public long latestCatalogVersion() {
+        return jpaRepository.findMaxCatalogVersion();
+    }
+}
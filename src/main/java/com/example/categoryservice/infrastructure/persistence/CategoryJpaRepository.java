@@ -2,22 +2,86 @@ package com.example.categoryservice.infrastructure.persistence;
 
 import com.example.categoryservice.domain.model.Category;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CategoryJpaRepository extends JpaRepository<Category, CategoryId> {
 
     List<Category> findByParentId(CategoryId parentId);
 
+    @Query("""
+            SELECT new com.example.categoryservice.domain.model.CategoryView(
+                c.id.value, c.name, c.description, c.parentId.value, c.createdAt, c.updatedAt)
+            FROM Category c WHERE c.id.value IN :ids
+            """)
+    List<CategoryView> findViewsByIdValues(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.example.categoryservice.domain.model.CategoryView(
+                c.id.value, c.name, c.description, c.parentId.value, c.createdAt, c.updatedAt)
+            FROM Category c WHERE c.id.value = :id
+            """)
+    Optional<CategoryView> findViewById(@Param("id") Long id);
+
+    @Query("""
+            SELECT new com.example.categoryservice.domain.model.CategoryView(
+                c.id.value, c.name, c.description, c.parentId.value, c.createdAt, c.updatedAt)
+            FROM Category c
+            """)
+    List<CategoryView> findAllViews();
+
+    @Query("""
+            SELECT new com.example.categoryservice.domain.model.CategoryNodeView(c.id.value, c.name, c.parentId.value)
+            FROM Category c
+            """)
+    List<CategoryNodeView> findAllNodeViews();
+
     @Query("SELECT c FROM Category c WHERE c.parentId IS NULL")
     List<Category> findRoots();
 
     @Query("SELECT COUNT(c) > 0 FROM Category c WHERE c.parentId = :categoryId")
     boolean hasChildren(@Param("categoryId") CategoryId categoryId);
 
+    @Query(value = """
+            WITH RECURSIVE subtree(id) AS (
+                SELECT id FROM categories WHERE id = :rootId
+                UNION ALL
+                SELECT c.id FROM categories c JOIN subtree s ON c.parent_id = s.id
+            )
+            SELECT id FROM subtree
+            """, nativeQuery = true)
+    List<Long> findSubtreeIds(@Param("rootId") Long rootId);
+
+    @Query(value = """
+            WITH RECURSIVE ancestors(id, parent_id) AS (
+                SELECT id, parent_id FROM categories WHERE id = :id
+                UNION ALL
+                SELECT c.id, c.parent_id FROM categories c JOIN ancestors a ON c.id = a.parent_id
+            )
+            SELECT id FROM ancestors
+            """, nativeQuery = true)
+    List<Long> findAncestorIds(@Param("id") Long id);
+
+    // uk_categories_parent_name 인덱스로 조회 (루트는 parentKey 0)
+    @Query("""
+            SELECT COUNT(c) > 0 FROM Category c
+            WHERE c.parentKey = :parentKey AND c.nameKey = :nameKey AND c.id.value <> :excludedId
+            """)
+    boolean existsSibling(@Param("parentKey") long parentKey, @Param("nameKey") String nameKey,
+                          @Param("excludedId") Long excludedId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Category c WHERE c.id.value IN :ids")
+    int deleteByIdValues(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT COALESCE(MAX(c.id.value), 0) FROM Category c")
     Long findMaxId();
 
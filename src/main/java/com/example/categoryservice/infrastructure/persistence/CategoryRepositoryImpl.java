@@ -2,10 +2,14 @@ package com.example.categoryservice.infrastructure.persistence;
 
 import com.example.categoryservice.domain.model.Category;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
 import com.example.categoryservice.domain.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CategoryRepositoryImpl implements CategoryRepository {
 
+    // IN 절 하나에 담을 최대 ID 개수
+    static final int DELETE_BATCH_SIZE = 500;
+    static final int SELECT_BATCH_SIZE = 500;
+    // 제외할 카테고리가 없을 때 쓰는 존재하지 않는 ID
+    private static final long NO_EXCLUDED_ID = -1L;
+
     private final CategoryJpaRepository jpaRepository;
 
     @Override
@@ -25,11 +35,41 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<CategoryView> findViewsByIds(Collection<CategoryId> ids) {
+        List<Long> values = ids.stream()
+            .map(CategoryId::getValue)
+            .distinct()
+            .toList();
+
+        List<CategoryView> categories = new ArrayList<>(values.size());
+        for (int from = 0; from < values.size(); from += SELECT_BATCH_SIZE) {
+            int to = Math.min(from + SELECT_BATCH_SIZE, values.size());
+            categories.addAll(jpaRepository.findViewsByIdValues(values.subList(from, to)));
+        }
+        return categories;
+    }
+
     @Override
     public List<Category> findAll() {
         return jpaRepository.findAll();
     }
 
+    @Override
+    public Optional<CategoryView> findViewById(CategoryId id) {
+        return jpaRepository.findViewById(id.getValue());
+    }
+
+    @Override
+    public List<CategoryView> findAllViews() {
+        return jpaRepository.findAllViews();
+    }
+
+    @Override
+    public List<CategoryNodeView> findAllNodeViews() {
+        return jpaRepository.findAllNodeViews();
+    }
+
     @Override
     public List<Category> findByParentId(CategoryId parentId) {
         return jpaRepository.findByParentId(parentId);
@@ -50,6 +90,42 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         jpaRepository.deleteById(id);
     }
 
+    @Override
+    public int deleteAllById(Collection<CategoryId> ids) {
+        List<Long> values = ids.stream()
+            .map(CategoryId::getValue)
+            .toList();
+
+        int deleted = 0;
+        for (int from = 0; from < values.size(); from += DELETE_BATCH_SIZE) {
+            int to = Math.min(from + DELETE_BATCH_SIZE, values.size());
+            deleted += jpaRepository.deleteByIdValues(values.subList(from, to));
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<CategoryId> findSubtreeIds(CategoryId rootId) {
+        return jpaRepository.findSubtreeIds(rootId.getValue())
+            .stream()
+            .map(CategoryId::new)
+            .toList();
+    }
+
+    @Override
+    public List<CategoryId> findAncestorIds(CategoryId id) {
+        return jpaRepository.findAncestorIds(id.getValue())
+            .stream()
+            .map(CategoryId::new)
+            .toList();
+    }
+
+    @Override
+    public boolean existsByParentIdAndNameKey(CategoryId parentId, String nameKey, CategoryId excludedId) {
+        long excluded = excludedId != null ? excludedId.getValue() : NO_EXCLUDED_ID;
+        return jpaRepository.existsSibling(Category.parentKeyOf(parentId), nameKey, excluded);
+    }
+
     @Override
     public boolean hasChildren(CategoryId categoryId) {
         return jpaRepository.hasChildren(categoryId);
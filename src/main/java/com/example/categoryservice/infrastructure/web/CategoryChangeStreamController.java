@@ -0,0 +1,45 @@
+package com.example.categoryservice.infrastructure.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Categories", description = "카테고리 관리 API")
+public class CategoryChangeStreamController {
+
+    private final CategoryChangeStreamer categoryChangeStreamer;
+
+    @Operation(
+            summary = "카테고리 변경 스트림 구독",
+            description = "커밋된 생성/수정/이동/삭제를 SSE(change 이벤트)로 전송합니다. 이벤트 ID 는 카탈로그 버전(트리 응답의 "
+                    + "X-Catalog-Version)이며 한 버전의 마지막 변경에만 붙습니다. 재접속 시 Last-Event-ID 버전 이후의 변경부터 "
+                    + "이어서 받으며, 트리를 받은 뒤 그 X-Catalog-Version 을 Last-Event-ID 로 보내도 됩니다. 수신이 밀려 버퍼가 "
+                    + "넘치면 resync 이벤트 후 연결이 종료되므로, 전체 트리를 다시 받은 뒤 그 트리의 X-Catalog-Version 으로 "
+                    + "재접속하세요."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 연결 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 Last-Event-ID")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @Parameter(description = "마지막으로 받은 이벤트 ID (카탈로그 버전)", example = "42")
+            @PositiveOrZero @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return categoryChangeStreamer.open(lastEventId);
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.in.CategoryUseCase;
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.service.CategoryChangeBroadcaster;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 카테고리 변경 이벤트를 SSE 로 전송합니다.
+ * 이벤트 ID 는 카탈로그 버전(트리 응답의 X-Catalog-Version)이며 한 버전의 마지막 변경에만 붙습니다.
+ * 재접속 시 Last-Event-ID 버전 이후의 변경을 변경 로그에서 먼저 재전송한 뒤,
+ * 노드가 변경 로그를 이어 읽을 때마다(app.catalog-version.poll-interval) 전달되는 이벤트로 이어갑니다.
+ * 다른 노드에서 커밋된 쓰기도 같은 변경 로그에서 읽으므로 어느 노드에 연결해도 모든 변경을 받습니다.
+ * 버퍼가 넘치거나 재전송할 변경이 너무 많으면 resync 이벤트를 보내고 연결을 종료합니다.
+ * 전송이 send-timeout 보다 오래 막힌 느린 구독자는 구독을 끊어, 다른 구독자의 전송을 막지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class CategoryChangeStreamer {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+    static final int REPLAY_PAGE_SIZE = 500;
+    private static final long IDLE = 0L;
+
+    private final CategoryUseCase categoryUseCase;
+    private final CategoryChangeBroadcaster categoryChangeBroadcaster;
+    private final int bufferSize;
+    private final int maxReplay;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+    private final Executor executor;
+    private final LongSupplier nanoTime;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CategoryChangeStreamer(CategoryUseCase categoryUseCase,
+                                  CategoryChangeBroadcaster categoryChangeBroadcaster,
+                                  @Value("${app.category-stream.buffer-size:256}") int bufferSize,
+                                  @Value("${app.category-stream.max-replay:10000}") int maxReplay,
+                                  @Value("${app.category-stream.timeout:PT30M}") Duration timeout,
+                                  @Value("${app.category-stream.send-timeout:PT5S}") Duration sendTimeout,
+                                  @Value("${app.category-stream.sender-threads:4}") int senderThreads,
+                                  @Value("${app.category-stream.max-sender-threads:64}") int maxSenderThreads) {
+        // 막힌 전송이 있어도 다른 구독자의 전송은 새 스레드에서 진행되도록 최대 스레드 수까지 늘어남
+        this(categoryUseCase, categoryChangeBroadcaster, bufferSize, maxReplay, timeout, sendTimeout,
+            new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads), 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), senderThreadFactory()),
+            System::nanoTime);
+    }
+
+    CategoryChangeStreamer(CategoryUseCase categoryUseCase, CategoryChangeBroadcaster categoryChangeBroadcaster,
+                           int bufferSize, int maxReplay, Duration timeout, Duration sendTimeout,
+                           Executor executor, LongSupplier nanoTime) {
+        this.categoryUseCase = categoryUseCase;
+        this.categoryChangeBroadcaster = categoryChangeBroadcaster;
+        this.bufferSize = bufferSize;
+        this.maxReplay = maxReplay;
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.executor = executor;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 새 스트림을 엽니다. lastEventId(카탈로그 버전)가 null 이면 재전송 없이 이후 변경만 전송합니다.
+     */
+    public SseEmitter open(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        open(emitter, lastEventId);
+        return emitter;
+    }
+
+    void open(SseEmitter emitter, Long lastEventId) {
+        Session session = new Session(emitter, lastEventId);
+        sessions.add(session);
+        emitter.onCompletion(session::close);
+        emitter.onTimeout(session::close);
+        emitter.onError(error -> session.close());
+        session.start();
+    }
+
+    /**
+     * 전송이 send-timeout 보다 오래 막힌 구독자의 구독을 끊습니다.
+     * 막힌 전송 스레드는 기다리지 않으며, 전송이 끝나거나 실패하면 그 스레드가 연결을 닫습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.category-stream.send-timeout:PT5S}")
+    public void dropSlowSubscribers() {
+        long now = nanoTime.getAsLong();
+        for (Session session : sessions) {
+            if (session.isSendingLongerThan(now, sendTimeoutNanos)) {
+                log.debug("Dropping slow category change subscriber");
+                session.drop();
+            }
+        }
+    }
+
+    int sessionCount() {
+        return sessions.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory senderThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "category-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 구독자 연결 하나의 전송 상태. 전송은 항상 한 번에 한 스레드에서만 수행합니다.
+     */
+    private final class Session {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final ReentrantLock sending = new ReentrantLock();
+        private final Long lastEventId;
+        // 마지막으로 보낸 시퀀스. 재전송한 변경이 변경 로그 폴링으로 버퍼에 다시 들어와도 한 번만 보내는 데 사용
+        private long lastSentSequence = -1L;
+        private volatile CategoryChangeBroadcaster.Subscription subscription;
+        private boolean replayed;
+        private volatile boolean closed;
+        // 느린 구독자로 끊겨 연결을 직접 닫아야 하는지 여부
+        private volatile boolean dropped;
+        // 진행 중인 전송의 시작 시각. 전송 중이 아니면 IDLE
+        private volatile long sendStartedAt = IDLE;
+
+        Session(SseEmitter emitter, Long lastEventId) {
+            this.emitter = emitter;
+            this.lastEventId = lastEventId;
+            this.replayed = lastEventId == null;
+        }
+
+        void start() {
+            sending.lock();
+            try {
+                // 재전송과 이어 받을 이벤트 사이의 누락을 막기 위해 재전송 전에 먼저 구독
+                subscription = categoryChangeBroadcaster.subscribe(bufferSize, this::schedule);
+                if (closed) {
+                    subscription.close();
+                    return;
+                }
+            } finally {
+                sending.unlock();
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::run);
+            } catch (RejectedExecutionException e) {
+                // 막힌 전송으로 전송 스레드가 모두 찼으면 새 이벤트를 쌓지 않고 끊음. 클라이언트는 재접속해 이어 받음
+                scheduled.set(false);
+                log.debug("Category change stream senders saturated, dropping subscriber");
+                drop();
+            }
+        }
+
+        boolean isSendingLongerThan(long now, long limitNanos) {
+            long startedAt = sendStartedAt;
+            return startedAt != IDLE && now - startedAt > limitNanos;
+        }
+
+        // 구독을 끊고, 전송 중인 스레드가 없으면 바로 연결을 닫음 (전송 중이면 그 스레드가 닫음)
+        void drop() {
+            dropped = true;
+            close();
+            if (sending.tryLock()) {
+                try {
+                    complete();
+                } finally {
+                    sending.unlock();
+                }
+            }
+        }
+
+        private void run() {
+            sending.lock();
+            try {
+                scheduled.set(false);
+                if (closed) {
+                    return;
+                }
+                if (!replayed && !replay()) {
+                    resync();
+                    return;
+                }
+                if (closed) {
+                    return;
+                }
+                if (subscription.isOverflowed()) {
+                    resync();
+                    return;
+                }
+                List<CategoryChangeResponse> changes = subscription.drain();
+                changes.removeIf(change -> change.sequence() <= lastSentSequence);
+                sendAll(changes);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결이 끊긴 경우
+                log.debug("Category change stream closed: {}", e.getMessage());
+                close();
+            } catch (RuntimeException e) {
+                log.warn("Category change stream failed", e);
+                emitter.completeWithError(e);
+                close();
+            } finally {
+                sending.unlock();
+            }
+        }
+
+        // 마지막으로 받은 버전 이후의 변경을 변경 로그에서 재전송. 한도를 넘으면 false
+        private boolean replay() throws IOException {
+            long since = categoryChangeBroadcaster.sequenceAtVersion(lastEventId);
+            lastSentSequence = since;
+            List<CategoryChangeResponse> changes = new ArrayList<>();
+            CategoryChangeFeedResponse page;
+            do {
+                page = categoryUseCase.getChanges(since, REPLAY_PAGE_SIZE);
+                changes.addAll(page.changes());
+                if (changes.size() > maxReplay) {
+                    return false;
+                }
+                since = page.nextSince();
+            } while (page.hasMore());
+            // 페이지 경계에서 버전이 나뉘어도 버전의 끝을 알 수 있도록 모두 읽은 뒤 전송
+            sendAll(changes);
+            replayed = true;
+            return true;
+        }
+
+        // 같은 카탈로그 버전의 마지막 변경에만 이벤트 ID 를 붙여, 버전 중간에 끊겨도 Last-Event-ID 가 다 받은 버전을 가리키도록 함
+        private void sendAll(List<CategoryChangeResponse> changes) throws IOException {
+            for (int i = 0; i < changes.size(); i++) {
+                if (closed) {
+                    break;
+                }
+                CategoryChangeResponse change = changes.get(i);
+                boolean lastOfVersion = i == changes.size() - 1
+                    || changes.get(i + 1).catalogVersion() != change.catalogVersion();
+                send(change, lastOfVersion);
+            }
+            if (dropped) {
+                complete();
+            }
+        }
+
+        private void send(CategoryChangeResponse change, boolean lastOfVersion) throws IOException {
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                .name(CHANGE_EVENT)
+                .data(change, MediaType.APPLICATION_JSON);
+            if (lastOfVersion) {
+                event.id(String.valueOf(change.catalogVersion()));
+            }
+            sendStartedAt = nanoTime.getAsLong();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = IDLE;
+            }
+            lastSentSequence = change.sequence();
+        }
+
+        // 누락이 생겼으므로 전체 트리를 다시 받은 뒤 안내한 버전부터 이어 받도록 함
+        private void resync() throws IOException {
+            long latest = categoryChangeBroadcaster.latestCatalogVersion();
+            emitter.send(SseEmitter.event()
+                .id(String.valueOf(latest))
+                .name(RESYNC_EVENT)
+                .data(Map.of("latest_catalog_version", latest), MediaType.APPLICATION_JSON));
+            complete();
+            close();
+        }
+
+        // 전송 스레드와 느린 구독자 정리가 함께 닫으려 해도 한 번만 닫음
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        // 전송 중인 스레드를 기다리지 않도록 잠금 없이 구독만 해제
+        private void close() {
+            closed = true;
+            sessions.remove(this);
+            CategoryChangeBroadcaster.Subscription current = subscription;
+            if (current != null) {
+                current.close();
+            }
+        }
+    }
+}
@@ -3,8 +3,20 @@ package com.example.categoryservice.infrastructure.web;
 import com.example.categoryservice.application.port.in.CategoryUseCase;
 import com.example.categoryservice.application.port.in.CreateCategoryCommand;
 import com.example.categoryservice.application.port.in.UpdateCategoryCommand;
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryContainmentResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFlatTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryListResponse;
+import com.example.categoryservice.application.port.out.CategoryPathListResponse;
+import com.example.categoryservice.application.port.out.CategoryPathResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategorySearchResponse;
+import com.example.categoryservice.application.port.out.CategorySuggestionListResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.application.port.out.VersionedCategoryTreeResponse;
 import com.example.categoryservice.domain.model.CategoryId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +34,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/v1/categories")
 @RequiredArgsConstructor
@@ -29,6 +46,8 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Categories", description = "카테고리 관리 API")
 public class CategoryController {
 
+    static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+
     private final CategoryUseCase categoryUseCase;
 
     @Operation(
@@ -115,9 +134,112 @@ public class CategoryController {
         return categoryUseCase.getCategory(new CategoryId(id));
     }
 
+    @Operation(
+            summary = "카테고리 단일 조회 (필드 선택)",
+            description = "요청한 필드만 포함하여 카테고리를 조회합니다. "
+                    + "사용 가능한 필드: id, name, description, parent_id, created_at, updated_at"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카테고리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "id, name 만 조회",
+                                    value = """
+                                            {
+                                              "id": 1,
+                                              "name": "전자제품"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
+            @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getCategoryFields(
+            @Parameter(description = "조회할 카테고리 ID", required = true, example = "1")
+            @Positive @PathVariable Long id,
+            @Parameter(description = "포함할 필드 목록 (쉼표 구분)", required = true, example = "id,name")
+            @RequestParam Set<String> fields) {
+        return CategoryFieldSet.select(categoryUseCase.getCategory(new CategoryId(id)), fields);
+    }
+
+    @Operation(
+            summary = "카테고리 다건 조회",
+            description = "쉼표로 구분된 여러 ID의 카테고리를 한 번에 조회합니다. 요청 순서를 유지하며 존재하지 않는 ID는 제외됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카테고리 다건 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryListResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "조회 가능한 최대 개수 초과")
+    })
+    @GetMapping(params = {"ids", "!view", "!format"})
+    public CategoryListResponse getCategories(
+            @Parameter(description = "조회할 카테고리 ID 목록 (쉼표 구분)", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
+        return new CategoryListResponse(categoryUseCase.getCategories(toCategoryIds(ids)));
+    }
+
+    @Operation(
+            summary = "카테고리 다건 조회 (대량)",
+            description = "요청 본문으로 전달된 ID 목록의 카테고리를 한 번에 조회합니다. URL 길이 제한을 넘는 대량 조회에 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카테고리 다건 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryListResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 최대 개수 초과 등)")
+    })
+    @PostMapping("/batch")
+    public CategoryListResponse getCategoriesInBatch(@Valid @RequestBody CategoryIdsRequest request) {
+        return new CategoryListResponse(categoryUseCase.getCategories(toCategoryIds(request.ids())));
+    }
+
+    @Operation(
+            summary = "이름 경로로 카테고리 조회",
+            description = "루트부터의 카테고리 이름 경로(예: /by-path/전자제품/스마트폰/안드로이드)로 카테고리를 조회합니다. "
+                    + "대소문자와 악센트는 구분하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카테고리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "경로에 해당하는 카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/by-path/{*path}")
+    public CategoryResponse getCategoryByPath(
+            @Parameter(description = "루트부터의 카테고리 이름 경로", required = true, example = "/전자제품/스마트폰")
+            @PathVariable String path) {
+        List<String> names = Arrays.stream(path.split("/"))
+                .filter(segment -> !segment.isBlank())
+                .toList();
+        return categoryUseCase.getCategoryByPath(names);
+    }
+
     @Operation(
             summary = "전체 카테고리 트리 조회",
-            description = "모든 카테고리를 계층적 트리 구조로 조회합니다. 루트 카테고리부터 모든 하위 카테고리까지 포함됩니다."
+            description = "모든 카테고리를 계층적 트리 구조로 조회합니다. 루트 카테고리부터 모든 하위 카테고리까지 포함됩니다. "
+                    + "응답의 X-Catalog-Version 헤더 값을 version 파라미터로 넘기면 같은 버전의 트리를 계속 조회할 수 있습니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -153,16 +275,96 @@ public class CategoryController {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(responseCode = "410", description = "보존 기간이 지난 카탈로그 버전")
+    })
+    @GetMapping(params = {"!ids", "!view", "!format"})
+    public ResponseEntity<CategoryTreeResponse> getAllCategories(
+            @Parameter(description = "조회할 카탈로그 버전 (생략 시 현재 버전)", example = "3")
+            @Positive @RequestParam(required = false) Long version) {
+        return versioned(categoryUseCase.getAllCategoriesAtVersion(version));
+    }
+
+    @Operation(
+            summary = "전체 카테고리 간략 트리 조회",
+            description = "설명과 생성/수정 일시를 제외하고 ID, 이름, 하위 카테고리만 포함한 트리를 조회합니다. "
+                    + "child_count=true 이면 노드별 하위 카테고리 개수를 함께 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "간략 트리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryCompactTreeResponse.class),
+                            examples = @ExampleObject(
+                                    name = "간략 트리 예시",
+                                    value = """
+                                            {
+                                              "categories": [
+                                                {
+                                                  "id": 1,
+                                                  "name": "전자제품",
+                                                  "children": [
+                                                    {
+                                                      "id": 2,
+                                                      "name": "스마트폰",
+                                                      "children": []
+                                                    }
+                                                  ]
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
             )
     })
-    @GetMapping
-    public CategoryTreeResponse getAllCategories() {
-        return categoryUseCase.getAllCategories();
+    @GetMapping(params = {"view=compact", "!ids", "!format"})
+    public CategoryCompactTreeResponse getAllCategoriesCompact(
+            @Parameter(description = "노드별 하위 카테고리 개수 포함 여부", example = "false")
+            @RequestParam(name = "child_count", defaultValue = "false") boolean childCount,
+            @Parameter(hidden = true) @RequestParam(required = false) Long version) {
+        rejectVersion(version);
+        return categoryUseCase.getAllCategoriesCompact(childCount);
+    }
+
+    @Operation(
+            summary = "전체 카테고리 평면 트리 조회",
+            description = "중첩된 children 대신 ID, 이름, 부모 위치의 병렬 배열로 트리를 조회합니다. "
+                    + "전위 순회 순서이므로 부모가 항상 자식보다 앞에 오며, 루트의 부모 위치는 -1 입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "평면 트리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryFlatTreeResponse.class),
+                            examples = @ExampleObject(
+                                    name = "평면 트리 예시",
+                                    value = """
+                                            {
+                                              "ids": [1, 2, 3, 4],
+                                              "names": ["전자제품", "스마트폰", "안드로이드", "도서"],
+                                              "parent_indexes": [-1, 0, 1, -1]
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping(params = {"format=flat", "!ids", "!view"})
+    public CategoryFlatTreeResponse getAllCategoriesFlat(
+            @Parameter(hidden = true) @RequestParam(required = false) Long version) {
+        rejectVersion(version);
+        return categoryUseCase.getAllCategoriesFlat();
     }
 
     @Operation(
             summary = "특정 카테고리 하위 트리 조회",
-            description = "지정된 카테고리를 루트로 하는 하위 트리 구조를 조회합니다."
+            description = "지정된 카테고리를 루트로 하는 하위 트리 구조를 조회합니다. "
+                    + "version 파라미터를 지정하면 해당 카탈로그 버전의 트리를 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -173,13 +375,270 @@ public class CategoryController {
                             schema = @Schema(implementation = CategoryTreeResponse.class)
                     )
             ),
+            @ApiResponse(responseCode = "404", description = "루트 카테고리를 찾을 수 없음"),
+            @ApiResponse(responseCode = "410", description = "보존 기간이 지난 카탈로그 버전")
+    })
+    @GetMapping(value = "/{id}/tree", params = {"!view", "!format"})
+    public ResponseEntity<CategoryTreeResponse> getCategoryTree(
+            @Parameter(description = "트리 루트로 사용할 카테고리 ID", required = true, example = "1")
+            @Positive @PathVariable Long id,
+            @Parameter(description = "조회할 카탈로그 버전 (생략 시 현재 버전)", example = "3")
+            @Positive @RequestParam(required = false) Long version) {
+        return versioned(categoryUseCase.getCategoryTreeAtVersion(new CategoryId(id), version));
+    }
+
+    @Operation(
+            summary = "카탈로그 버전 간 트리 차이 조회",
+            description = "두 카탈로그 버전(X-Catalog-Version) 사이의 최소 변경(생성/이동/수정/삭제)을 조회합니다. "
+                    + "from 버전 트리에 항목을 순서대로 반영하면 to 버전 트리가 되므로, 캐시한 트리를 전체 재다운로드 없이 갱신할 수 있습니다. "
+                    + "삭제는 삭제된 하위 트리의 최상위 카테고리만 포함합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "차이 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryTreeDiffResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (아직 게시되지 않은 버전 등)"),
+            @ApiResponse(responseCode = "410", description = "보존 기간이 지난 카탈로그 버전 (전체 트리를 다시 조회)")
+    })
+    @GetMapping("/diff")
+    public ResponseEntity<CategoryTreeDiffResponse> getTreeDiff(
+            @Parameter(description = "클라이언트가 가진 카탈로그 버전", required = true, example = "3")
+            @Positive @RequestParam Long from,
+            @Parameter(description = "비교할 카탈로그 버전 (생략 시 현재 버전)", example = "5")
+            @Positive @RequestParam(required = false) Long to) {
+        CategoryTreeDiffResponse diff = categoryUseCase.getTreeDiff(from, to);
+        return ResponseEntity.ok()
+                .header(CATALOG_VERSION_HEADER, String.valueOf(diff.toVersion()))
+                .body(diff);
+    }
+
+    @Operation(
+            summary = "특정 카테고리 하위 간략 트리 조회",
+            description = "지정된 카테고리를 루트로 하는 하위 트리를 ID, 이름, 하위 카테고리만 포함하여 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "간략 트리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryCompactTreeResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "루트 카테고리를 찾을 수 없음")
+    })
+    @GetMapping(value = "/{id}/tree", params = {"view=compact", "!format"})
+    public CategoryCompactTreeResponse getCategoryTreeCompact(
+            @Parameter(description = "트리 루트로 사용할 카테고리 ID", required = true, example = "1")
+            @Positive @PathVariable Long id,
+            @Parameter(description = "노드별 하위 카테고리 개수 포함 여부", example = "false")
+            @RequestParam(name = "child_count", defaultValue = "false") boolean childCount,
+            @Parameter(hidden = true) @RequestParam(required = false) Long version) {
+        rejectVersion(version);
+        return categoryUseCase.getCategoryTreeCompact(new CategoryId(id), childCount);
+    }
+
+    @Operation(
+            summary = "특정 카테고리 하위 평면 트리 조회",
+            description = "지정된 카테고리를 루트로 하는 하위 트리를 ID, 이름, 부모 위치의 병렬 배열로 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "평면 트리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryFlatTreeResponse.class)
+                    )
+            ),
             @ApiResponse(responseCode = "404", description = "루트 카테고리를 찾을 수 없음")
     })
-    @GetMapping("/{id}/tree")
-    public CategoryTreeResponse getCategoryTree(
+    @GetMapping(value = "/{id}/tree", params = {"format=flat", "!view"})
+    public CategoryFlatTreeResponse getCategoryTreeFlat(
             @Parameter(description = "트리 루트로 사용할 카테고리 ID", required = true, example = "1")
+            @Positive @PathVariable Long id,
+            @Parameter(hidden = true) @RequestParam(required = false) Long version) {
+        rejectVersion(version);
+        return categoryUseCase.getCategoryTreeFlat(new CategoryId(id));
+    }
+
+    @Operation(
+            summary = "카테고리 경로(breadcrumb) 조회",
+            description = "루트 카테고리부터 지정된 카테고리까지의 경로를 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카테고리 경로 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryPathResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/{id}/ancestors")
+    public CategoryPathResponse getAncestors(
+            @Parameter(description = "경로를 조회할 카테고리 ID", required = true, example = "1")
             @Positive @PathVariable Long id) {
-        return categoryUseCase.getCategoryTree(new CategoryId(id));
+        return categoryUseCase.getAncestors(new CategoryId(id));
+    }
+
+    @Operation(
+            summary = "카테고리 경로(breadcrumb) 다건 조회",
+            description = "여러 카테고리의 루트부터의 경로를 한 번에 조회합니다. 존재하지 않는 ID는 제외됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "카테고리 경로 다건 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryPathListResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "조회 가능한 최대 개수 초과")
+    })
+    @GetMapping("/ancestors")
+    public CategoryPathListResponse getAncestorPaths(
+            @Parameter(description = "경로를 조회할 카테고리 ID 목록 (쉼표 구분)", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
+        return new CategoryPathListResponse(categoryUseCase.getAncestorPaths(toCategoryIds(ids)));
+    }
+
+    @Operation(
+            summary = "카테고리 경로(breadcrumb) 대량 조회",
+            description = "요청 본문으로 전달된 ID 목록의 경로를 한 번에 조회합니다."
+    )
+    @PostMapping("/ancestors")
+    public CategoryPathListResponse getAncestorPathsInBatch(@Valid @RequestBody CategoryIdsRequest request) {
+        return new CategoryPathListResponse(categoryUseCase.getAncestorPaths(toCategoryIds(request.ids())));
+    }
+
+    @Operation(
+            summary = "카테고리 포함 관계 확인",
+            description = "첫 번째 카테고리가 두 번째 카테고리 자신이거나 그 상위(조상) 카테고리인지 확인합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "포함 관계 확인 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryContainmentResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
+    })
+    @GetMapping("/{id}/contains/{descendantId}")
+    public CategoryContainmentResponse contains(
+            @Parameter(description = "상위 카테고리 ID", required = true, example = "1")
+            @Positive @PathVariable Long id,
+            @Parameter(description = "하위 여부를 확인할 카테고리 ID", required = true, example = "2")
+            @Positive @PathVariable Long descendantId) {
+        boolean contains = categoryUseCase.isAncestorOrSelf(new CategoryId(id), new CategoryId(descendantId));
+        return new CategoryContainmentResponse(id, descendantId, contains);
+    }
+
+    @Operation(
+            summary = "패싯용 최소 카테고리 트리 조회",
+            description = "요청된 카테고리들과 그 조상만 포함하는 최소 트리를 조회합니다. "
+                    + "counts 로 전달된 노드별 개수는 해당 노드에 그대로 포함됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "최소 트리 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryFacetTreeResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 최대 개수 초과 등)")
+    })
+    @PostMapping("/covering-tree")
+    public CategoryFacetTreeResponse getCoveringTree(@Valid @RequestBody CategoryFacetTreeRequest request) {
+        return categoryUseCase.getCoveringTree(toCategoryIds(request.ids()), request.counts());
+    }
+
+    @Operation(
+            summary = "카테고리 이름 자동완성",
+            description = "이름이 입력한 접두어로 시작하는 카테고리를 조회합니다. 대소문자와 악센트는 구분하지 않으며, "
+                    + "상위(얕은) 카테고리가 먼저 반환됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "자동완성 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategorySuggestionListResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (limit 범위 초과 등)")
+    })
+    @GetMapping("/suggest")
+    public CategorySuggestionListResponse suggestCategories(
+            @Parameter(description = "검색할 이름 접두어", required = true, example = "전자")
+            @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 개수 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return new CategorySuggestionListResponse(categoryUseCase.suggestCategories(query, limit));
+    }
+
+    @Operation(
+            summary = "카테고리 전문 검색",
+            description = "카테고리 이름과 설명에서 단어를 검색합니다. 공백으로 구분된 단어는 모두 포함(AND)해야 하며, "
+                    + "대문자 OR 로 조건을 묶을 수 있습니다. 각 결과에는 루트부터의 경로가 포함됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "검색 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategorySearchResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (limit 범위 초과 등)")
+    })
+    @GetMapping("/search")
+    public CategorySearchResponse searchCategories(
+            @Parameter(description = "검색어 (예: 스마트 폰 OR 태블릿)", required = true, example = "스마트폰")
+            @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 개수 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        return new CategorySearchResponse(categoryUseCase.searchCategories(query, limit));
+    }
+
+    @Operation(
+            summary = "카테고리 변경 피드 조회",
+            description = "생성/수정/이동/삭제 변경 로그를 시퀀스 순으로 조회합니다. 응답의 next_since 를 다음 요청의 since 로 "
+                    + "전달하면 전체 트리를 다시 받지 않고 변경분만 반영할 수 있습니다. has_more 가 true 이면 바로 이어서 조회하세요."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CategoryChangeFeedResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (음수 since, limit 범위 초과 등)")
+    })
+    @GetMapping("/changes")
+    public CategoryChangeFeedResponse getChanges(
+            @Parameter(description = "이미 반영한 마지막 시퀀스 (처음이면 0)", example = "0")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "최대 결과 개수 (1~1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return categoryUseCase.getChanges(since, limit);
     }
 
     @Operation(
@@ -234,7 +693,8 @@ public class CategoryController {
 
     @Operation(
             summary = "카테고리 삭제",
-            description = "지정된 카테고리를 삭제합니다. 하위 카테고리가 있는 경우 삭제할 수 없습니다."
+            description = "지정된 카테고리를 삭제합니다. 하위 카테고리가 있는 경우 삭제할 수 없으며, "
+                    + "cascade=true 인 경우 하위 카테고리까지 한 번에 삭제합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "카테고리 삭제 성공"),
@@ -245,7 +705,33 @@ public class CategoryController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteCategory(
             @Parameter(description = "삭제할 카테고리 ID", required = true, example = "1")
-            @Positive @PathVariable Long id) {
-        categoryUseCase.deleteCategory(new CategoryId(id));
+            @Positive @PathVariable Long id,
+            @Parameter(description = "하위 카테고리까지 함께 삭제할지 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean cascade) {
+        CategoryId categoryId = new CategoryId(id);
+        if (cascade) {
+            categoryUseCase.deleteCategorySubtree(categoryId);
+        } else {
+            categoryUseCase.deleteCategory(categoryId);
+        }
+    }
+
+    private ResponseEntity<CategoryTreeResponse> versioned(VersionedCategoryTreeResponse response) {
+        return ResponseEntity.ok()
+                .header(CATALOG_VERSION_HEADER, String.valueOf(response.version()))
+                .body(response.tree());
+    }
+
+    // 간략/평면 트리는 버전별로 보존하지 않으므로 version 을 무시하지 않고 거부
+    private void rejectVersion(Long version) {
+        if (version != null) {
+            throw new IllegalArgumentException("version is not supported for compact or flat tree views");
+        }
+    }
+
+    private List<CategoryId> toCategoryIds(List<Long> ids) {
+        return ids.stream()
+                .map(CategoryId::new)
+                .toList();
     }
 }
\ No newline at end of file
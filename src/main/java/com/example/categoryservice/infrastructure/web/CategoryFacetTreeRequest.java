@@ -0,0 +1,16 @@
+package com.example.categoryservice.infrastructure.web;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Map;
+
+public record CategoryFacetTreeRequest(
+    @NotEmpty(message = "카테고리 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개의 카테고리만 요청할 수 있습니다")
+    List<Long> ids,
+
+    Map<Long, Long> counts
+) {
+}
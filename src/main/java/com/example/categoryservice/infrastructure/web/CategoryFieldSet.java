@@ -0,0 +1,49 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryResponse;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 카테고리 응답의 sparse fieldset(fields=id,name) 선택기
+ * 필드 이름은 JSON 응답과 같은 snake_case 를 사용합니다.
+ */
+final class CategoryFieldSet {
+
+    private static final Map<String, Function<CategoryResponse, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", CategoryResponse::id);
+        FIELDS.put("name", CategoryResponse::name);
+        FIELDS.put("description", CategoryResponse::description);
+        FIELDS.put("parent_id", CategoryResponse::parentId);
+        FIELDS.put("created_at", CategoryResponse::createdAt);
+        FIELDS.put("updated_at", CategoryResponse::updatedAt);
+    }
+
+    private CategoryFieldSet() {
+    }
+
+    /**
+     * 요청된 필드만 응답 필드 순서대로 담은 맵을 반환합니다. 알 수 없는 필드는 IllegalArgumentException 입니다.
+     */
+    static Map<String, Object> select(CategoryResponse category, Collection<String> fields) {
+        for (String field : fields) {
+            if (!FIELDS.containsKey(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field + " (allowed: "
+                    + String.join(",", FIELDS.keySet()) + ")");
+            }
+        }
+
+        Map<String, Object> selected = new LinkedHashMap<>();
+        FIELDS.forEach((name, accessor) -> {
+            if (fields.contains(name)) {
+                selected.put(name, accessor.apply(category));
+            }
+        });
+        return selected;
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 카테고리 응답의 protobuf wire format 인코더/디코더 (protobuf 런타임 의존성 없이 직접 구현)
+ * 일시는 UTC 기준 epoch 마이크로초(int64)로 표현하며, null 필드는 기록하지 않습니다.
+ * 인코딩은 먼저 메시지마다 크기를 계산한 뒤, 정확한 크기의 배열 하나에 한 번에 씁니다.
+ * (중첩 메시지를 따로 인코딩해 부모에 복사하면 트리 깊이만큼 같은 바이트를 다시 복사하게 됨)
+ *
+ * <pre>
+ * message Category {
+ *   int64 id = 1; string name = 2; string description = 3;
+ *   int64 parent_id = 4; int64 created_at = 5; int64 updated_at = 6;
+ * }
+ * message CategoryNode {
+ *   int64 id = 1; string name = 2; string description = 3;
+ *   int64 created_at = 4; int64 updated_at = 5; repeated CategoryNode children = 6;
+ * }
+ * message CategoryTree {
+ *   repeated CategoryNode categories = 1;
+ * }
+ * </pre>
+ */
+final class CategoryProtoCodec {
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_FIXED32 = 5;
+
+    private CategoryProtoCodec() {
+    }
+
+    static byte[] encode(CategoryResponse category) {
+        Long createdAt = toEpochMicros(category.createdAt());
+        Long updatedAt = toEpochMicros(category.updatedAt());
+        Writer writer = new Writer(int64Size(1, category.id())
+            + stringSize(2, category.name())
+            + stringSize(3, category.description())
+            + int64Size(4, category.parentId())
+            + int64Size(5, createdAt)
+            + int64Size(6, updatedAt));
+        writer.int64(1, category.id());
+        writer.string(2, category.name());
+        writer.string(3, category.description());
+        writer.int64(4, category.parentId());
+        writer.int64(5, createdAt);
+        writer.int64(6, updatedAt);
+        return writer.toByteArray();
+    }
+
+    static byte[] encode(CategoryTreeResponse tree) {
+        // 1. 노드마다 본문 크기를 전위 순서로 계산
+        NodeSizes sizes = new NodeSizes();
+        int length = 0;
+        for (CategoryNodeResponse node : tree.categories()) {
+            length += lengthDelimitedSize(1, sizes.measure(node));
+        }
+
+        // 2. 같은 전위 순서로 크기를 꺼내 쓰며 한 번에 기록
+        Writer writer = new Writer(length);
+        for (CategoryNodeResponse node : tree.categories()) {
+            writeNode(writer, 1, node, sizes);
+        }
+        return writer.toByteArray();
+    }
+
+    private static void writeNode(Writer writer, int field, CategoryNodeResponse node, NodeSizes sizes) {
+        writer.header(field, sizes.next());
+        writer.int64(1, node.id());
+        writer.string(2, node.name());
+        writer.string(3, node.description());
+        writer.int64(4, toEpochMicros(node.createdAt()));
+        writer.int64(5, toEpochMicros(node.updatedAt()));
+        for (CategoryNodeResponse child : node.children()) {
+            writeNode(writer, 6, child, sizes);
+        }
+    }
+
+    private static int int64Size(int field, Long value) {
+        return value != null ? varintSize(field << 3) + varintSize(value) : 0;
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? lengthDelimitedSize(field, utf8Length(value)) : 0;
+    }
+
+    private static int lengthDelimitedSize(int field, int length) {
+        return varintSize(field << 3) + varintSize(length) + length;
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    // String.getBytes(UTF_8) 와 같은 길이 (짝이 없는 서로게이트는 '?' 1바이트로 대체)
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 1;
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 트리 노드 본문 크기를 전위 순서로 기록하고, 쓰는 동안 같은 순서로 꺼냅니다.
+     */
+    private static final class NodeSizes {
+
+        private int[] sizes = new int[64];
+        private int count;
+        private int cursor;
+
+        int measure(CategoryNodeResponse node) {
+            int slot = count++;
+            if (slot == sizes.length) {
+                sizes = Arrays.copyOf(sizes, sizes.length * 2);
+            }
+            int size = int64Size(1, node.id())
+                + stringSize(2, node.name())
+                + stringSize(3, node.description())
+                + int64Size(4, toEpochMicros(node.createdAt()))
+                + int64Size(5, toEpochMicros(node.updatedAt()));
+            for (CategoryNodeResponse child : node.children()) {
+                size += lengthDelimitedSize(6, measure(child));
+            }
+            sizes[slot] = size;
+            return size;
+        }
+
+        int next() {
+            return sizes[cursor++];
+        }
+    }
+
+    static CategoryResponse decodeCategory(byte[] bytes) {
+        Reader reader = new Reader(bytes, 0, bytes.length);
+        Long id = null;
+        String name = null;
+        String description = null;
+        Long parentId = null;
+        LocalDateTime createdAt = null;
+        LocalDateTime updatedAt = null;
+
+        while (reader.hasRemaining()) {
+            int tag = reader.tag();
+            switch (tag >>> 3) {
+                case 1 -> id = reader.varint();
+                case 2 -> name = reader.string();
+                case 3 -> description = reader.string();
+                case 4 -> parentId = reader.varint();
+                case 5 -> createdAt = fromEpochMicros(reader.varint());
+                case 6 -> updatedAt = fromEpochMicros(reader.varint());
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return new CategoryResponse(id, name, description, parentId, createdAt, updatedAt);
+    }
+
+    static CategoryTreeResponse decodeTree(byte[] bytes) {
+        Reader reader = new Reader(bytes, 0, bytes.length);
+        List<CategoryNodeResponse> categories = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            int tag = reader.tag();
+            if (tag >>> 3 == 1) {
+                categories.add(decodeNode(reader.message()));
+            } else {
+                reader.skip(tag & 0x7);
+            }
+        }
+        return new CategoryTreeResponse(categories);
+    }
+
+    private static CategoryNodeResponse decodeNode(Reader reader) {
+        Long id = null;
+        String name = null;
+        String description = null;
+        LocalDateTime createdAt = null;
+        LocalDateTime updatedAt = null;
+        List<CategoryNodeResponse> children = new ArrayList<>();
+
+        while (reader.hasRemaining()) {
+            int tag = reader.tag();
+            switch (tag >>> 3) {
+                case 1 -> id = reader.varint();
+                case 2 -> name = reader.string();
+                case 3 -> description = reader.string();
+                case 4 -> createdAt = fromEpochMicros(reader.varint());
+                case 5 -> updatedAt = fromEpochMicros(reader.varint());
+                case 6 -> children.add(decodeNode(reader.message()));
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return new CategoryNodeResponse(id, name, description, createdAt, updatedAt, children);
+    }
+
+    private static Long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        long seconds = Math.floorDiv(micros, 1_000_000L);
+        int nanos = (int) Math.floorMod(micros, 1_000_000L) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static final class Writer {
+
+        private final byte[] buffer;
+        private int position;
+
+        Writer(int length) {
+            this.buffer = new byte[length];
+        }
+
+        void int64(int field, Long value) {
+            if (value != null) {
+                writeVarint(field << 3 | WIRE_VARINT);
+                writeVarint(value);
+            }
+        }
+
+        void string(int field, String value) {
+            if (value != null) {
+                header(field, utf8Length(value));
+                writeUtf8(value);
+            }
+        }
+
+        /**
+         * 길이 구분 필드의 태그와 길이. 본문은 호출자가 이어서 씁니다.
+         */
+        void header(int field, int length) {
+            writeVarint(field << 3 | WIRE_LENGTH_DELIMITED);
+            writeVarint(length);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeUtf8(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | c >>> 6);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                        buffer[position++] = (byte) (0xF0 | codePoint >>> 18);
+                        buffer[position++] = (byte) (0x80 | codePoint >>> 12 & 0x3F);
+                        buffer[position++] = (byte) (0x80 | codePoint >>> 6 & 0x3F);
+                        buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+                    } else {
+                        buffer[position++] = '?';
+                    }
+                } else {
+                    buffer[position++] = (byte) (0xE0 | c >>> 12);
+                    buffer[position++] = (byte) (0x80 | c >>> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+        }
+
+        byte[] toByteArray() {
+            if (position != buffer.length) {
+                throw new IllegalStateException("Encoded " + position + " bytes, expected " + buffer.length);
+            }
+            return buffer;
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private final int limit;
+        private int position;
+
+        Reader(byte[] buffer, int offset, int limit) {
+            this.buffer = buffer;
+            this.position = offset;
+            this.limit = limit;
+        }
+
+        boolean hasRemaining() {
+            return position < limit;
+        }
+
+        int tag() {
+            return (int) varint();
+        }
+
+        long varint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = read();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        String string() {
+            int length = length();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        Reader message() {
+            int length = length();
+            Reader nested = new Reader(buffer, position, position + length);
+            position += length;
+            return nested;
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case WIRE_VARINT -> varint();
+                case WIRE_FIXED64 -> advance(8);
+                case WIRE_LENGTH_DELIMITED -> advance(length());
+                case WIRE_FIXED32 -> advance(4);
+                default -> throw new IllegalArgumentException("Unsupported wire type: " + wireType);
+            }
+        }
+
+        private int length() {
+            long length = varint();
+            if (length < 0 || length > limit - position) {
+                throw new IllegalArgumentException("Truncated message");
+            }
+            return (int) length;
+        }
+
+        private void advance(int count) {
+            if (count > limit - position) {
+                throw new IllegalArgumentException("Truncated message");
+            }
+            position += count;
+        }
+
+        private byte read() {
+            if (position >= limit) {
+                throw new IllegalArgumentException("Truncated message");
+            }
+            return buffer[position++];
+        }
+    }
+}
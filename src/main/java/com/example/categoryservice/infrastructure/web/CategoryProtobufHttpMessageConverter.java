@@ -0,0 +1,54 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * CategoryResponse / CategoryTreeResponse 를 protobuf wire format(application/x-protobuf)으로 읽고 씁니다.
+ */
+public class CategoryProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public CategoryProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CategoryResponse.class == clazz || CategoryTreeResponse.class == clazz;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        try {
+            return clazz == CategoryTreeResponse.class
+                ? CategoryProtoCodec.decodeTree(body)
+                : CategoryProtoCodec.decodeCategory(body);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotReadableException("Invalid protobuf payload: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] body = value instanceof CategoryTreeResponse tree
+            ? CategoryProtoCodec.encode(tree)
+            : CategoryProtoCodec.encode((CategoryResponse) value);
+        outputMessage.getBody().write(body);
+    }
+
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        // 인코딩 전에는 길이를 알 수 없으므로 chunked 로 전송
+        return null;
+    }
+}
@@ -1,17 +1,23 @@
 package com.example.categoryservice.infrastructure.web;
 
+import com.example.categoryservice.domain.exception.CatalogVersionExpiredException;
 import com.example.categoryservice.domain.exception.CategoryHasChildrenException;
 import com.example.categoryservice.domain.exception.CategoryNotFoundException;
 import com.example.categoryservice.domain.exception.CircularReferenceException;
+import com.example.categoryservice.domain.exception.DuplicateCategoryNameException;
+import com.example.categoryservice.domain.model.Category;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,6 +45,32 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("CIRCULAR_REFERENCE", ex.getMessage());
     }
 
+    @ExceptionHandler(DuplicateCategoryNameException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDuplicateCategoryName(DuplicateCategoryNameException ex) {
+        log.warn("Duplicate category name: {}", ex.getMessage());
+        return new ErrorResponse("DUPLICATE_CATEGORY_NAME", ex.getMessage());
+    }
+
+    @ExceptionHandler(CatalogVersionExpiredException.class)
+    @ResponseStatus(HttpStatus.GONE)
+    public ErrorResponse handleCatalogVersionExpired(CatalogVersionExpiredException ex) {
+        log.warn("Catalog version expired: {}", ex.getMessage());
+        return new ErrorResponse("CATALOG_VERSION_EXPIRED", ex.getMessage());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        // 동시 생성 등으로 중복 검사를 함께 통과한 형제 이름 중복은 DB 유니크 제약에서 걸러지며, 검사에서 걸린 경우와 같은 코드로 응답
+        if (isSiblingNameViolation(ex)) {
+            log.warn("Duplicate category name: {}", ex.getMostSpecificCause().getMessage());
+            return new ErrorResponse("DUPLICATE_CATEGORY_NAME", "Category name already exists among siblings");
+        }
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return new ErrorResponse("DATA_INTEGRITY_VIOLATION", "Request conflicts with existing data");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleValidation(MethodArgumentNotValidException ex) {
@@ -59,6 +91,25 @@ public class GlobalExceptionHandler {
         return new ErrorResponse("INVALID_ARGUMENT", ex.getMessage());
     }
 
+    // ids, view, format 처럼 함께 쓸 수 없는 조회 파라미터 조합
+    @ExceptionHandler(UnsatisfiedServletRequestParameterException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleUnsatisfiedParameters(UnsatisfiedServletRequestParameterException ex) {
+        log.warn("Unsupported parameter combination: {}", ex.getMessage());
+        return new ErrorResponse("INVALID_ARGUMENT", "Unsupported combination of query parameters");
+    }
+
+    // 제약 이름은 DB 마다 메시지 형식이 달라 원인 체인의 메시지에서 대소문자 구분 없이 찾음
+    private static boolean isSiblingNameViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(Category.SIBLING_NAME_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleGeneral(Exception ex) {
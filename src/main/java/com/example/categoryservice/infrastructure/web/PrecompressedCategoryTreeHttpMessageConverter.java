@@ -0,0 +1,233 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CategoryTreeResponse 를 JSON 으로 쓰되, 직렬화/압축 결과를 응답 인스턴스 단위로 재사용합니다.
+ * 트리 응답은 카탈로그가 바뀔 때까지 캐시된 같은 인스턴스가 반환되므로, 버전마다 한 번만 직렬화하고
+ * Accept-Encoding 에 따라 identity/gzip/deflate 중 만들어 둔 바이트를 그대로 내려줍니다.
+ * 압축본은 그 인코딩이 처음 요청될 때 만들며, 요청되지 않은 인코딩은 만들지도 보관하지도 않습니다.
+ * 보관하는 바이트는 만들어진 인코딩별 길이의 합으로 상한을 두며, 넘으면 오래 쓰이지 않은 응답부터 버립니다.
+ */
+public class PrecompressedCategoryTreeHttpMessageConverter extends AbstractHttpMessageConverter<CategoryTreeResponse> {
+
+    public static final long DEFAULT_MAXIMUM_BYTES = 32L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    // 키는 약한 참조(동일성 비교)라 트리 캐시에서 밀려난 응답의 바이트도 함께 회수되고, 전체 크기는 바이트 수로 제한됨
+    private final Cache<CategoryTreeResponse, EncodedBody> bodies;
+
+    public PrecompressedCategoryTreeHttpMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_MAXIMUM_BYTES);
+    }
+
+    public PrecompressedCategoryTreeHttpMessageConverter(ObjectMapper objectMapper, long maximumBytes) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.bodies = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(maximumBytes)
+            .weigher((CategoryTreeResponse tree, EncodedBody body) -> body.weight())
+            .build();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CategoryTreeResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        // 요청 본문은 기본 Jackson 컨버터가 처리
+        return false;
+    }
+
+    @Override
+    protected CategoryTreeResponse readInternal(Class<? extends CategoryTreeResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading is not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(CategoryTreeResponse tree, HttpOutputMessage outputMessage) throws IOException {
+        EncodedBody body = bodies.get(tree, this::serialize);
+        ContentCoding coding = ContentCoding.negotiate(currentAcceptEncoding());
+        byte[] bytes = body.variant(coding);
+        if (bytes == null) {
+            bytes = body.compress(coding);
+            // 새로 만든 압축본까지 가중치에 반영되도록 다시 넣음 (한도를 넘으면 오래 쓰이지 않은 응답부터 제거)
+            bodies.put(tree, body);
+        }
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (coding != ContentCoding.IDENTITY) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, coding.token);
+        }
+        headers.setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    @Override
+    protected Long getContentLength(CategoryTreeResponse tree, MediaType contentType) {
+        // 선택된 인코딩에 따라 길이가 달라지므로 writeInternal 에서 설정
+        return null;
+    }
+
+    private EncodedBody serialize(CategoryTreeResponse tree) {
+        try {
+            return new EncodedBody(objectMapper.writeValueAsBytes(tree));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String currentAcceptEncoding() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getHeader(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return null;
+    }
+
+    long estimatedBytes() {
+        bodies.cleanUp();
+        return bodies.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    /**
+     * 응답 본문의 인코딩별 바이트. 압축본은 인코딩마다 처음 요청될 때 한 번만 만들고, 가중치는 만들어진 바이트만 셉니다.
+     */
+    static final class EncodedBody {
+
+        private final byte[] identity;
+        private final Map<ContentCoding, byte[]> compressed = new EnumMap<>(ContentCoding.class);
+
+        EncodedBody(byte[] identity) {
+            this.identity = identity;
+        }
+
+        /**
+         * 인코딩된 바이트. 아직 만들지 않은 압축본이면 null 을 반환합니다.
+         */
+        synchronized byte[] variant(ContentCoding coding) {
+            if (coding == ContentCoding.IDENTITY) {
+                return identity;
+            }
+            return compressed.get(coding);
+        }
+
+        /**
+         * 압축본을 만들어 보관합니다. 다른 요청이 먼저 만들었으면 그 바이트를 반환합니다.
+         */
+        synchronized byte[] compress(ContentCoding coding) {
+            return compressed.computeIfAbsent(coding, this::encode);
+        }
+
+        synchronized int weight() {
+            long bytes = identity.length;
+            for (byte[] variant : compressed.values()) {
+                bytes += variant.length;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+
+        private byte[] encode(ContentCoding coding) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, identity.length / 4));
+            try (OutputStream out = coding == ContentCoding.GZIP
+                ? new GZIPOutputStream(buffer)
+                : new DeflaterOutputStream(buffer)) {
+                out.write(identity);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    /**
+     * 지원하는 Content-Encoding. 선호 순서대로 선언합니다.
+     */
+    enum ContentCoding {
+        GZIP("gzip"),
+        DEFLATE("deflate"),
+        IDENTITY("identity");
+
+        private final String token;
+
+        ContentCoding(String token) {
+            this.token = token;
+        }
+
+        /**
+         * Accept-Encoding 헤더에서 q 값이 0 이 아닌 가장 선호하는 인코딩을 고릅니다.
+         */
+        static ContentCoding negotiate(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isBlank()) {
+                return IDENTITY;
+            }
+
+            Map<String, Double> weights = new HashMap<>();
+            for (String part : acceptEncoding.split(",")) {
+                String[] tokens = part.split(";");
+                String name = tokens[0].trim().toLowerCase(Locale.ROOT);
+                if (!name.isEmpty()) {
+                    weights.put(name, parseQuality(tokens));
+                }
+            }
+
+            ContentCoding best = IDENTITY;
+            double bestWeight = 0.0;
+            for (ContentCoding coding : values()) {
+                if (coding == IDENTITY) {
+                    continue;
+                }
+                double weight = weights.getOrDefault(coding.token, weights.getOrDefault("*", 0.0));
+                if (weight > bestWeight) {
+                    best = coding;
+                    bestWeight = weight;
+                }
+            }
+            return best;
+        }
+
+        private static double parseQuality(String[] tokens) {
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        return 0.0;
+                    }
+                }
+            }
+            return 1.0;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.infrastructure.config.ReadWriteRoutingDataSource;
+import com.example.categoryservice.infrastructure.config.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 요청마다 read-your-writes 범위를 열고 닫습니다. 읽기/쓰기 DataSource 라우팅이 켜져 있을 때만 등록됩니다.
+ * 쓰기를 실행한 요청의 응답에는 primary 의 카탈로그 버전을 헤더와 쿠키로 담아 보내고,
+ * 이후 요청이 헤더나 쿠키로 그 버전을 돌려보내면 replica 가 따라올 때까지 그 요청의 읽기를 primary 로 보냅니다.
+ */
+@Slf4j
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CATALOG_VERSION_HEADER = "X-Min-Catalog-Version";
+    public static final String CATALOG_VERSION_COOKIE = "min_catalog_version";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final Duration markerMaxAge;
+
+    public ReadYourWritesFilter(ReadWriteRoutingDataSource routingDataSource, Duration markerMaxAge) {
+        this.routingDataSource = routingDataSource;
+        this.markerMaxAge = markerMaxAge;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWritesContext.begin(requiredCatalogVersion(request));
+        if (SAFE_METHODS.contains(request.getMethod())) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReadYourWritesContext.end();
+            }
+            return;
+        }
+
+        // 본문이 먼저 전송되면 헤더를 붙일 수 없으므로 쓰기 요청의 응답만 버퍼링 (쓰기 응답은 작음)
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapped);
+            if (ReadYourWritesContext.hasWritten()) {
+                markWritten(wrapped);
+            }
+        } finally {
+            ReadYourWritesContext.end();
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    private void markWritten(HttpServletResponse response) {
+        long version;
+        try {
+            version = routingDataSource.primaryCatalogVersion();
+        } catch (RuntimeException e) {
+            // 표시를 못 하면 이후 요청은 primary-after-write 시간 동안만 primary 로 감
+            log.warn("Failed to read catalog version for read-your-writes marker: {}", e.getMessage());
+            return;
+        }
+        response.setHeader(CATALOG_VERSION_HEADER, String.valueOf(version));
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(CATALOG_VERSION_COOKIE, String.valueOf(version))
+            .path("/")
+            .httpOnly(true)
+            .sameSite("Lax")
+            .maxAge(markerMaxAge)
+            .build()
+            .toString());
+    }
+
+    // 헤더와 쿠키 중 큰 값. 잘못된 값은 무시
+    private static long requiredCatalogVersion(HttpServletRequest request) {
+        long required = parse(request.getHeader(CATALOG_VERSION_HEADER));
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (CATALOG_VERSION_COOKIE.equals(cookie.getName())) {
+                    required = Math.max(required, parse(cookie.getValue()));
+                }
+            }
+        }
+        return required;
+    }
+
+    private static long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- 카탈로그 버전 단일 행 (CatalogVersion.SINGLETON_ID). 애플리케이션은 UPDATE 로만 증가시킴
+INSERT INTO catalog_version (id, version) VALUES (1, 0);
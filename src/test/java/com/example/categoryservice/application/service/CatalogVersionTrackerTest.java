@@ -0,0 +1,259 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryChangeType;
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CatalogVersionTracker 테스트")
+class CatalogVersionTrackerTest {
+
+    private final CatalogVersionRepository catalogVersionRepository = mock(CatalogVersionRepository.class);
+    private final CategoryChangeLogRepository categoryChangeLogRepository = mock(CategoryChangeLogRepository.class);
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CacheManager cacheManager = new CaffeineCacheManager("categories", "categoryTree");
+    private final CategoryNegativeLookupCache categoryNegativeLookupCache = new CategoryNegativeLookupCache();
+    private final CategoryChangeBroadcaster categoryChangeBroadcaster =
+        new CategoryChangeBroadcaster(categoryChangeLogRepository, new CategoryMapper());
+    private CategoryTreeReadModel categoryTreeReadModel;
+    private CatalogVersionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        categoryTreeReadModel = new CategoryTreeReadModel(categoryRepository, catalogVersionRepository, new CategoryMapper(),
+            new NoOpCacheManager());
+        tracker = new CatalogVersionTracker(catalogVersionRepository, categoryChangeLogRepository, cacheManager,
+            categoryTreeReadModel,
+            new CategoryNameSuggestIndex(categoryRepository),
+            new CategorySearchIndex(categoryRepository),
+            categoryNegativeLookupCache,
+            categoryChangeBroadcaster);
+
+        // 시작 위치 확인
+        when(categoryChangeLogRepository.latestSequence()).thenReturn(0L);
+        tracker.refresh();
+
+        cacheManager.getCache("categories").put(1L, "전자제품");
+        cacheManager.getCache("categories").put(2L, "도서");
+    }
+
+    @Test
+    @DisplayName("이 노드의 쓰기만 있으면 캐시를 유지")
+    void 이_노드의_쓰기만_있으면_캐시를_유지() {
+        // given - 트랜잭션 밖에서는 즉시 커밋된 것으로 기록
+        when(catalogVersionRepository.increment()).thenReturn(1L, 2L);
+        tracker.bump();
+        tracker.bump();
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of(
+            change(1L, 1L, CategoryChangeType.UPDATED, 1L, "전자제품"),
+            change(2L, 2L, CategoryChangeType.UPDATED, 2L, "도서")));
+
+        // when
+        boolean applied = tracker.refresh();
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(tracker.lastSequence()).isEqualTo(2L);
+        assertThat(cacheManager.getCache("categories").get(1L)).isNotNull();
+        assertThat(cacheManager.getCache("categories").get(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("노드와 관계없이 읽은 변경을 모두 구독자에게 시퀀스 순으로 전달")
+    void 읽은_변경을_모두_구독자에게_전달() {
+        // given - 버전 1 은 이 노드, 버전 2 는 다른 노드의 쓰기
+        when(catalogVersionRepository.increment()).thenReturn(1L);
+        tracker.bump();
+        CategoryChangeBroadcaster.Subscription subscription = categoryChangeBroadcaster.subscribe(10, () -> { });
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of(
+            change(1L, 1L, CategoryChangeType.UPDATED, 1L, "전자제품"),
+            change(2L, 2L, CategoryChangeType.DELETED, 2L, null)));
+
+        // when
+        tracker.refresh();
+
+        // then
+        assertThat(subscription.drain()).extracting(CategoryChangeResponse::sequence).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 해당 카테고리 항목만 갱신")
+    void 다른_노드의_변경은_해당_카테고리_항목만_갱신() {
+        // given - 버전 1 은 이 노드, 버전 2 는 다른 노드의 쓰기
+        when(catalogVersionRepository.increment()).thenReturn(1L);
+        tracker.bump();
+        categoryNegativeLookupCache.markMissing(7L, categoryNegativeLookupCache.generation());
+        categoryNegativeLookupCache.markMissing(8L, categoryNegativeLookupCache.generation());
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of(
+            change(1L, 1L, CategoryChangeType.UPDATED, 1L, "전자제품"),
+            change(2L, 2L, CategoryChangeType.CREATED, 7L, "스마트폰")));
+
+        // when
+        boolean applied = tracker.refresh();
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(cacheManager.getCache("categories").get(1L)).isNotNull();
+        assertThat(cacheManager.getCache("categories").get(2L)).isNotNull();
+        assertThat(categoryNegativeLookupCache.isMissing(7L)).isFalse();
+        assertThat(categoryNegativeLookupCache.isMissing(8L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경을 읽기 모델에 버전 순서대로 반영")
+    void 다른_노드의_변경을_읽기_모델에_버전_순서대로_반영() {
+        // given - 버전 1 에서 만든 읽기 모델
+        when(catalogVersionRepository.current()).thenReturn(1L);
+        when(categoryRepository.findAllViews()).thenReturn(List.of(
+            CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", null)),
+            CategoryView.from(Category.createRoot(new CategoryId(2L), "도서", null))));
+        categoryTreeReadModel.current();
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of(
+            change(1L, 2L, CategoryChangeType.CREATED, 3L, "스마트폰", 1L),
+            change(2L, 3L, CategoryChangeType.DELETED, 2L, null)));
+
+        // when
+        tracker.refresh();
+
+        // then - DB 에서 다시 만들지 않고 반영
+        PersistentCategoryTree tree = categoryTreeReadModel.current();
+        assertThat(tree.version()).isEqualTo(3L);
+        assertThat(tree.contains(3L)).isTrue();
+        assertThat(tree.contains(2L)).isFalse();
+        assertThat(categoryTreeReadModel.version(2L).contains(2L)).isTrue();
+        assertThat(cacheManager.getCache("categories").get(2L)).isNull();
+        verify(categoryRepository, times(1)).findAllViews();
+        verify(categoryRepository, never()).findViewsByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("중간 버전은 변경 로그에 기록된 그 버전의 상태로 게시")
+    void 중간_버전은_변경_로그에_기록된_그_버전의_상태로_게시() {
+        // given - 버전 1 에서 만든 읽기 모델, 버전 2 에서 생성하고 버전 3 에서 이름 변경
+        when(catalogVersionRepository.current()).thenReturn(1L);
+        when(categoryRepository.findAllViews()).thenReturn(List.of(
+            CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", null))));
+        categoryTreeReadModel.current();
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of(
+            change(1L, 2L, CategoryChangeType.CREATED, 3L, "스마트폰", 1L),
+            change(2L, 3L, CategoryChangeType.UPDATED, 3L, "휴대폰", 1L)));
+
+        // when
+        tracker.refresh();
+
+        // then
+        assertThat(categoryTreeReadModel.version(2L).subtree(3L).categories().get(0).name()).isEqualTo("스마트폰");
+        assertThat(categoryTreeReadModel.version(3L).subtree(3L).categories().get(0).name()).isEqualTo("휴대폰");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 공유 캐시를 두고 로컬 캐시만 비움")
+    void 다른_노드의_변경은_로컬_캐시만_비움() {
+        // given - 2단계 캐시의 네이티브 캐시는 L1, clear/evict 는 다른 노드도 쓰는 L2 까지 지움
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder().build();
+        local.put("compact", "로컬 트리");
+        Cache trees = mock(Cache.class);
+        when(trees.getNativeCache()).thenReturn(local);
+        CacheManager twoLevel = mock(CacheManager.class);
+        when(twoLevel.getCache("categoryTree")).thenReturn(trees);
+        CatalogVersionTracker twoLevelTracker = new CatalogVersionTracker(catalogVersionRepository,
+            categoryChangeLogRepository, twoLevel,
+            categoryTreeReadModel,
+            new CategoryNameSuggestIndex(categoryRepository),
+            new CategorySearchIndex(categoryRepository),
+            categoryNegativeLookupCache,
+            categoryChangeBroadcaster);
+        twoLevelTracker.refresh();
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of(
+            change(1L, 2L, CategoryChangeType.DELETED, 2L, null)));
+
+        // when
+        twoLevelTracker.refresh();
+
+        // then
+        assertThat(local.getIfPresent("compact")).isNull();
+        verify(trees, never()).clear();
+        verify(trees, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("새 변경이 없으면 아무것도 하지 않음")
+    void 새_변경이_없으면_아무것도_하지_않음() {
+        // given
+        when(categoryChangeLogRepository.findSince(eq(0L), anyInt())).thenReturn(List.of());
+
+        // when
+        boolean applied = tracker.refresh();
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(tracker.lastSequence()).isZero();
+        assertThat(cacheManager.getCache("categories").get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("따라잡을 변경이 너무 많으면 로컬 캐시를 비우고 최신 위치로 이동")
+    void 따라잡을_변경이_너무_많으면_로컬_캐시를_비우고_최신_위치로_이동() {
+        // given - 매 페이지가 가득 차 있음
+        List<CategoryChange> page = LongStream.rangeClosed(1, CatalogVersionTracker.PAGE_SIZE)
+            .mapToObj(sequence -> change(sequence, sequence, CategoryChangeType.UPDATED, 1L, "전자제품"))
+            .toList();
+        when(categoryChangeLogRepository.findSince(anyLong(), anyInt())).thenReturn(page);
+        when(categoryChangeLogRepository.latestSequence()).thenReturn(50_000L);
+        CategoryChangeBroadcaster.Subscription subscription = categoryChangeBroadcaster.subscribe(10, () -> { });
+
+        // when
+        boolean applied = tracker.refresh();
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(tracker.lastSequence()).isEqualTo(50_000L);
+        assertThat(cacheManager.getCache("categories").get(2L)).isNull();
+        assertThat(subscription.isOverflowed()).isTrue();
+    }
+
+    private static CategoryChange change(long sequence, long catalogVersion, CategoryChangeType type, Long id, String name) {
+        return change(sequence, catalogVersion, type, id, name, null);
+    }
+
+    private static CategoryChange change(long sequence, long catalogVersion, CategoryChangeType type, Long id, String name,
+                                         Long parentId) {
+        CategoryChange change;
+        if (type == CategoryChangeType.DELETED) {
+            change = CategoryChange.deleted(new CategoryId(id));
+        } else {
+            change = CategoryChange.of(type, parentId != null
+                ? Category.create(new CategoryId(id), name, null, new CategoryId(parentId))
+                : Category.createRoot(new CategoryId(id), name, null));
+            // 저장 시 채워지는 생성/수정 일시
+            LocalDateTime now = LocalDateTime.now();
+            ReflectionTestUtils.setField(change, "categoryCreatedAt", now);
+            ReflectionTestUtils.setField(change, "categoryUpdatedAt", now);
+        }
+        ReflectionTestUtils.setField(change, "sequence", sequence);
+        ReflectionTestUtils.setField(change, "catalogVersion", catalogVersion);
+        return change;
+    }
+}
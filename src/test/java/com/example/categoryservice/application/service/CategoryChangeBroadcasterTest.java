@@ -0,0 +1,102 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryChangeBroadcaster 테스트")
+class CategoryChangeBroadcasterTest {
+
+    private final CategoryMapper categoryMapper = mock(CategoryMapper.class);
+    private final CategoryChangeBroadcaster broadcaster =
+        new CategoryChangeBroadcaster(mock(CategoryChangeLogRepository.class), categoryMapper);
+
+    @Test
+    @DisplayName("구독자마다 변경을 순서대로 버퍼에 전달")
+    void 구독자마다_변경을_순서대로_전달() {
+        // given
+        AtomicInteger notified = new AtomicInteger();
+        CategoryChangeBroadcaster.Subscription first = broadcaster.subscribe(10, notified::incrementAndGet);
+        CategoryChangeBroadcaster.Subscription second = broadcaster.subscribe(10, notified::incrementAndGet);
+
+        // when
+        broadcaster.publish(changes(1L, 2L));
+
+        // then
+        assertThat(first.drain()).extracting(CategoryChangeResponse::sequence).containsExactly(1L, 2L);
+        assertThat(second.drain()).extracting(CategoryChangeResponse::sequence).containsExactly(1L, 2L);
+        assertThat(first.drain()).isEmpty();
+        assertThat(notified.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘친 구독자만 재동기화 대상이 되고 구독이 해제됨")
+    void 버퍼가_넘친_구독자만_재동기화_대상() {
+        // given
+        CategoryChangeBroadcaster.Subscription slow = broadcaster.subscribe(2, () -> { });
+        CategoryChangeBroadcaster.Subscription fast = broadcaster.subscribe(10, () -> { });
+
+        // when
+        broadcaster.publish(changes(1L, 2L, 3L));
+
+        // then
+        assertThat(slow.isOverflowed()).isTrue();
+        assertThat(slow.drain()).isEmpty();
+        assertThat(fast.isOverflowed()).isFalse();
+        assertThat(fast.drain()).hasSize(3);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 로그를 건너뛰면 모든 구독자가 재동기화 대상이 됨")
+    void 변경_로그를_건너뛰면_모든_구독자가_재동기화_대상() {
+        // given
+        AtomicInteger notified = new AtomicInteger();
+        CategoryChangeBroadcaster.Subscription first = broadcaster.subscribe(10, notified::incrementAndGet);
+        CategoryChangeBroadcaster.Subscription second = broadcaster.subscribe(10, notified::incrementAndGet);
+
+        // when
+        broadcaster.resyncAll();
+
+        // then
+        assertThat(first.isOverflowed()).isTrue();
+        assertThat(second.isOverflowed()).isTrue();
+        assertThat(notified.get()).isEqualTo(2);
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 변환하지 않음")
+    void 구독자가_없으면_변환하지_않음() {
+        // given
+        CategoryChangeBroadcaster.Subscription subscription = broadcaster.subscribe(10, () -> { });
+        subscription.close();
+
+        // when
+        broadcaster.publish(List.of(CategoryChange.deleted(new CategoryId(1L))));
+
+        // then
+        verifyNoInteractions(categoryMapper);
+    }
+
+    private List<CategoryChange> changes(Long... sequences) {
+        return Arrays.stream(sequences)
+            .map(sequence -> {
+                CategoryChange change = CategoryChange.deleted(new CategoryId(sequence));
+                when(categoryMapper.toChangeResponse(change))
+                    .thenReturn(new CategoryChangeResponse(sequence, 1L, "DELETED", sequence, null, null, null, null));
+                return change;
+            })
+            .toList();
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.categoryservice.application.service;
 
+import com.example.categoryservice.application.port.out.CategoryCompactNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
 import com.example.categoryservice.application.port.out.CategoryNodeResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
 import com.example.categoryservice.domain.model.Category;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +61,59 @@ class CategoryMapperTest {
         assertThat(response.parentId()).isNull();
     }
 
+    @Test
+    void 프로젝션을_응답객체로_변환() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        CategoryView view = new CategoryView(2L, "스마트폰", "스마트폰 카테고리", 1L, now, now);
+
+        // when
+        CategoryResponse response = categoryMapper.toResponse(view);
+
+        // then
+        assertThat(response).isEqualTo(new CategoryResponse(2L, "스마트폰", "스마트폰 카테고리", 1L, now, now));
+    }
+
+    @Test
+    void 프로젝션_목록을_트리_구조로_변환() {
+        // given
+        List<CategoryView> views = List.of(
+            new CategoryView(1L, "전자제품", null, null, null, null),
+            new CategoryView(2L, "스마트폰", null, 1L, null, null),
+            new CategoryView(3L, "도서", null, null, null, null)
+        );
+
+        // when
+        CategoryTreeResponse response = categoryMapper.toViewTree(views);
+
+        // then
+        assertThat(response.categories()).extracting(CategoryNodeResponse::id).containsExactly(1L, 3L);
+        assertThat(response.categories().get(0).children()).extracting(CategoryNodeResponse::id).containsExactly(2L);
+    }
+
+    @Test
+    void 간략_트리_변환시_하위_개수는_요청한_경우에만_포함() {
+        // given
+        List<CategoryNodeView> nodes = List.of(
+            new CategoryNodeView(1L, "전자제품", null),
+            new CategoryNodeView(2L, "스마트폰", 1L),
+            new CategoryNodeView(3L, "노트북", 1L)
+        );
+
+        // when
+        CategoryCompactTreeResponse withCount = categoryMapper.toCompactTree(nodes, null, true);
+        CategoryCompactTreeResponse withoutCount = categoryMapper.toCompactTree(nodes, new CategoryId(1L), false);
+
+        // then
+        CategoryCompactNodeResponse root = withCount.categories().get(0);
+        assertThat(root.childCount()).isEqualTo(2);
+        assertThat(root.children()).extracting(CategoryCompactNodeResponse::childCount).containsExactly(0, 0);
+        assertThat(withoutCount.categories()).hasSize(1);
+        assertThat(withoutCount.categories().get(0).childCount()).isNull();
+        assertThat(withoutCount.categories().get(0).children()).extracting(CategoryCompactNodeResponse::name)
+            .containsExactly("스마트폰", "노트북");
+    }
+
     // @Test
     void 카테고리_목록을_트리_구조로_변환() {
         // given
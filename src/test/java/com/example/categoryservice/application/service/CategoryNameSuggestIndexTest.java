@@ -0,0 +1,75 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryNameSuggestIndex 테스트")
+class CategoryNameSuggestIndexTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryNameSuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        suggestIndex = new CategoryNameSuggestIndex(categoryRepository);
+        when(categoryRepository.findAllNodeViews()).thenReturn(List.of(
+            new CategoryNodeView(1L, "Électronique", null),
+            new CategoryNodeView(2L, "Electric Guitars", null),
+            new CategoryNodeView(3L, "Books", null),
+            new CategoryNodeView(4L, "electro", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("대소문자와 악센트를 무시하고 접두어로 검색")
+    void 대소문자와_악센트를_무시하고_접두어로_검색() {
+        // when
+        List<Long> result = suggestIndex.suggest("ELEC", 10, Comparator.naturalOrder());
+
+        // then
+        assertThat(result).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("정렬 기준 상위 limit 개만 반환")
+    void 정렬_기준_상위_limit_개만_반환() {
+        // when
+        List<Long> result = suggestIndex.suggest("elec", 2, Comparator.<Long>naturalOrder().reversed());
+
+        // then
+        assertThat(result).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("쓰기 이후 증분 갱신")
+    void 쓰기_이후_증분_갱신() {
+        // given - 최초 적재
+        suggestIndex.suggest("b", 10, Comparator.naturalOrder());
+
+        // when
+        suggestIndex.put(3L, "Comics");
+        suggestIndex.put(5L, "Board Games");
+        suggestIndex.removeAll(List.of(1L));
+
+        // then
+        assertThat(suggestIndex.suggest("b", 10, Comparator.naturalOrder())).containsExactly(5L);
+        assertThat(suggestIndex.suggest("c", 10, Comparator.naturalOrder())).containsExactly(3L);
+        assertThat(suggestIndex.suggest("ele", 10, Comparator.naturalOrder())).containsExactly(2L, 4L);
+        verify(categoryRepository, times(1)).findAllNodeViews();
+    }
+}
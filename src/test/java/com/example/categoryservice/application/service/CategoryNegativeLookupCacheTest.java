@@ -0,0 +1,92 @@
+package com.example.categoryservice.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryNegativeLookupCache 테스트")
+class CategoryNegativeLookupCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CategoryNegativeLookupCache cache =
+        new CategoryNegativeLookupCache(100, Duration.ofSeconds(30), nanos::get);
+
+    @Test
+    @DisplayName("없는 ID 는 TTL 동안만 기억됨")
+    void 없는_ID_는_TTL_동안만_기억됨() {
+        // given
+        cache.markMissing(999L, cache.generation());
+
+        // when
+        boolean withinTtl = cache.isMissing(999L);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        boolean afterTtl = cache.isMissing(999L);
+
+        // then
+        assertThat(withinTtl).isTrue();
+        assertThat(afterTtl).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성된 ID 는 부정 캐시에서 제거됨")
+    void 생성된_ID_는_부정_캐시에서_제거됨() {
+        // given
+        cache.markMissing(1L, cache.generation());
+        cache.markMissing(2L, cache.generation());
+
+        // when
+        cache.remove(1L);
+
+        // then
+        assertThat(cache.isMissing(1L)).isFalse();
+        assertThat(cache.isMissing(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 도중 생성이 반영되었으면 부정 결과를 기록하지 않음")
+    void 조회_도중_생성이_반영되었으면_부정_결과를_기록하지_않음() {
+        // given - 조회 시작 후 다른 요청이 카테고리를 생성
+        long generation = cache.generation();
+        cache.remove(5L);
+
+        // when
+        cache.markMissing(5L, generation);
+
+        // then
+        assertThat(cache.isMissing(5L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("크기 한도를 넘으면 오래된 항목부터 제거됨")
+    void 크기_한도를_넘으면_오래된_항목부터_제거됨() {
+        // given
+        CategoryNegativeLookupCache small = new CategoryNegativeLookupCache(10, Duration.ofSeconds(30), nanos::get);
+
+        // when
+        for (long id = 1; id <= 1000; id++) {
+            small.markMissing(id, small.generation());
+        }
+        small.cleanUp();
+
+        // then
+        assertThat(small.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("invalidate 는 모든 항목을 비움")
+    void invalidate_는_모든_항목을_비움() {
+        // given
+        cache.markMissing(1L, cache.generation());
+
+        // when
+        cache.invalidate();
+
+        // then
+        assertThat(cache.isMissing(1L)).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategorySearchIndex 테스트")
+class CategorySearchIndexTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategorySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new CategorySearchIndex(categoryRepository);
+        when(categoryRepository.findAllViews()).thenReturn(List.of(
+            new CategoryView(1L, "Running Shoes", "Lightweight shoes for road running", null, null, null),
+            new CategoryView(2L, "Hiking Boots", "Waterproof boots", null, null, null),
+            new CategoryView(3L, "Trail Shoes", "Shoes for trail running", null, null, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("공백으로 구분된 단어는 AND 로 검색")
+    void 공백으로_구분된_단어는_AND로_검색() {
+        assertThat(searchIndex.search("running shoes", 10)).containsExactly(1L, 3L);
+        assertThat(searchIndex.search("trail running", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("OR 로 조건을 합침")
+    void OR로_조건을_합침() {
+        assertThat(searchIndex.search("road OR boots", 10)).containsExactly(1L, 2L);
+        assertThat(searchIndex.search("road OR boots", 1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("쓰기 이후 증분 갱신")
+    void 쓰기_이후_증분_갱신() {
+        // given - 최초 적재
+        searchIndex.search("shoes", 10);
+
+        // when
+        searchIndex.put(2L, "Hiking Shoes", null);
+        searchIndex.removeAll(List.of(1L));
+
+        // then
+        assertThat(searchIndex.search("shoes", 10)).containsExactly(2L, 3L);
+        assertThat(searchIndex.search("boots", 10)).isEmpty();
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+}
@@ -2,21 +2,50 @@ package com.example.categoryservice.application.service;
 
 import com.example.categoryservice.application.port.in.CreateCategoryCommand;
 import com.example.categoryservice.application.port.in.UpdateCategoryCommand;
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFlatTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryPathResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategorySearchHitResponse;
+import com.example.categoryservice.application.port.out.CategorySuggestionResponse;
+import com.example.categoryservice.application.port.out.CategorySummaryResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
 import com.example.categoryservice.domain.exception.CategoryHasChildrenException;
 import com.example.categoryservice.domain.exception.CategoryNotFoundException;
 import com.example.categoryservice.domain.exception.CircularReferenceException;
+import com.example.categoryservice.domain.exception.DuplicateCategoryNameException;
 import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryChangeType;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
 import com.example.categoryservice.domain.repository.CategoryRepository;
+import com.example.categoryservice.infrastructure.config.FileSharedCacheStore;
+import com.example.categoryservice.infrastructure.config.SharedCacheSerializer;
+import com.example.categoryservice.infrastructure.config.TwoLevelCacheManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -29,14 +58,37 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryChangeLogRepository categoryChangeLogRepository;
+
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Mock
+    private CatalogVersionRepository catalogVersionRepository;
+
     private CategoryService categoryService;
 
+    @TempDir
+    Path sharedCacheDirectory;
+
     @BeforeEach
     void setUp() {
-        categoryService = new CategoryService(categoryRepository, categoryMapper);
+        categoryService = newService(new CaffeineCacheManager());
+    }
+
+    private CategoryService newService(CacheManager cacheManager) {
+        CategoryTreeReadModel categoryTreeReadModel =
+            new CategoryTreeReadModel(categoryRepository, catalogVersionRepository, categoryMapper, new NoOpCacheManager());
+        return new CategoryService(categoryRepository, categoryChangeLogRepository, categoryMapper, cacheManager,
+            new CategoryTreeIndex(categoryTreeReadModel, catalogVersionRepository), categoryTreeReadModel,
+            catalogVersionTracker,
+            new CategoryNameSuggestIndex(categoryRepository),
+            new CategorySearchIndex(categoryRepository),
+            new CategoryNegativeLookupCache());
     }
 
     @Test
@@ -102,6 +154,47 @@ class CategoryServiceTest {
         verify(categoryRepository, never()).save(any());
     }
 
+    @Test
+    void 형제_카테고리와_이름이_중복되면_생성시_예외발생() {
+        // given
+        CreateCategoryCommand command = new CreateCategoryCommand(" 스마트폰 ", "스마트폰 카테고리", 1L);
+        CategoryId parentId = new CategoryId(1L);
+
+        when(categoryRepository.existsById(parentId)).thenReturn(true);
+        when(categoryRepository.existsByParentIdAndNameKey(parentId, CategoryNameNormalizer.normalize("스마트폰"), null))
+            .thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.createCategory(command))
+            .isInstanceOf(DuplicateCategoryNameException.class);
+
+        verify(categoryRepository, never()).findAll();
+        verify(categoryRepository, never()).generateNextId();
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void 다른_부모_아래의_같은_이름은_생성_허용() {
+        // given
+        CreateCategoryCommand command = new CreateCategoryCommand("액세서리", null, 2L);
+        CategoryId parentId = new CategoryId(2L);
+        Category savedCategory = Category.create(new CategoryId(4L), "액세서리", null, parentId);
+
+        when(categoryRepository.existsById(parentId)).thenReturn(true);
+        when(categoryRepository.generateNextId()).thenReturn(4L);
+        when(categoryRepository.save(any(Category.class))).thenReturn(savedCategory);
+        when(categoryMapper.toResponse(savedCategory))
+            .thenReturn(new CategoryResponse(4L, "액세서리", null, 2L, null, null));
+
+        // when
+        CategoryResponse result = categoryService.createCategory(command);
+
+        // then
+        assertThat(result.id()).isEqualTo(4L);
+        verify(categoryRepository).existsByParentIdAndNameKey(parentId, CategoryNameNormalizer.normalize("액세서리"), null);
+        verify(categoryRepository).save(any(Category.class));
+    }
+
     @Test
     void 카테고리_수정_성공() {
         // given
@@ -125,6 +218,71 @@ class CategoryServiceTest {
         verify(categoryRepository).save(any(Category.class));
     }
 
+    @Test
+    void 부모를_바꾸면_이동_변경_로그_기록() {
+        // given
+        UpdateCategoryCommand command = new UpdateCategoryCommand(2L, "스마트폰", null, 1L);
+        CategoryId categoryId = new CategoryId(2L);
+        Category existingCategory = Category.createRoot(categoryId, "스마트폰", null);
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.existsById(new CategoryId(1L))).thenReturn(true);
+        when(categoryRepository.findAncestorIds(new CategoryId(1L))).thenReturn(List.of(new CategoryId(1L)));
+        when(categoryRepository.save(any(Category.class))).thenReturn(existingCategory);
+        when(categoryMapper.toResponse(any(Category.class)))
+            .thenReturn(new CategoryResponse(2L, "스마트폰", null, 1L, null, null));
+
+        // when
+        categoryService.updateCategory(command);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CategoryChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(categoryChangeLogRepository).appendAll(anyLong(), changes.capture());
+        assertThat(changes.getValue())
+            .extracting(CategoryChange::getType, CategoryChange::getCategoryId, CategoryChange::getParentId)
+            .containsExactly(tuple(CategoryChangeType.MOVED, 2L, 1L));
+    }
+
+    @Test
+    void 자기_이름_그대로_수정시_중복으로_보지_않음() {
+        // given
+        UpdateCategoryCommand command = new UpdateCategoryCommand(1L, "전자제품", "설명 변경", null);
+        CategoryId categoryId = new CategoryId(1L);
+        Category existingCategory = Category.createRoot(categoryId, "전자제품", "전자제품 카테고리");
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.save(any(Category.class))).thenReturn(existingCategory);
+        when(categoryMapper.toResponse(any(Category.class)))
+            .thenReturn(new CategoryResponse(1L, "전자제품", "설명 변경", null, null, null));
+
+        // when
+        CategoryResponse result = categoryService.updateCategory(command);
+
+        // then
+        assertThat(result.description()).isEqualTo("설명 변경");
+        verify(categoryRepository).existsByParentIdAndNameKey(null, CategoryNameNormalizer.normalize("전자제품"), categoryId);
+        verify(categoryRepository).save(any(Category.class));
+    }
+
+    @Test
+    void 형제_카테고리_이름으로_수정시_예외발생() {
+        // given
+        UpdateCategoryCommand command = new UpdateCategoryCommand(2L, "도서", null, null);
+        CategoryId categoryId = new CategoryId(2L);
+        Category existingCategory = Category.createRoot(categoryId, "전자제품", null);
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.existsByParentIdAndNameKey(null, CategoryNameNormalizer.normalize("도서"), categoryId))
+            .thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.updateCategory(command))
+            .isInstanceOf(DuplicateCategoryNameException.class);
+
+        verify(categoryRepository, never()).save(any());
+    }
+
     @Test
     void 존재하지_않는_카테고리_수정시_예외발생() {
         // given
@@ -148,11 +306,10 @@ class CategoryServiceTest {
         CategoryId categoryId = new CategoryId(1L);
         CategoryId newParentId = new CategoryId(2L);
         Category existingCategory = Category.createRoot(categoryId, "전자제품", "전자제품 카테고리");
-        Category parentCategory = Category.create(new CategoryId(2L), "스마트폰", "스마트폰", categoryId);
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
         when(categoryRepository.existsById(newParentId)).thenReturn(true);
-        when(categoryRepository.findById(newParentId)).thenReturn(Optional.of(parentCategory));
+        when(categoryRepository.findAncestorIds(newParentId)).thenReturn(List.of(newParentId, categoryId));
 
         // when & then
         assertThatThrownBy(() -> categoryService.updateCategory(command))
@@ -161,6 +318,195 @@ class CategoryServiceTest {
         verify(categoryRepository, never()).save(any());
     }
 
+    @Test
+    void 하위_카테고리를_부모로_지정시_조상_쿼리로_순환_참조_판별() {
+        // given
+        UpdateCategoryCommand command = new UpdateCategoryCommand(1L, "전자제품", "전자제품 카테고리", 3L);
+        CategoryId categoryId = new CategoryId(1L);
+        CategoryId newParentId = new CategoryId(3L);
+        Category existingCategory = Category.createRoot(categoryId, "전자제품", "전자제품 카테고리");
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.existsById(newParentId)).thenReturn(true);
+        when(categoryRepository.findAncestorIds(newParentId))
+            .thenReturn(List.of(newParentId, new CategoryId(2L), categoryId));
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.updateCategory(command))
+            .isInstanceOf(CircularReferenceException.class);
+
+        // 전체 카테고리 적재나 부모별 반복 조회 없이 판별
+        verify(categoryRepository, never()).findAll();
+        verify(categoryRepository, never()).findById(newParentId);
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void 최신_인덱스가_있으면_조상_쿼리_없이_순환_참조_판별() {
+        // given - 카탈로그 버전 5 에서 만든 인덱스 (전자제품 > 스마트폰 > 안드로이드)
+        UpdateCategoryCommand command = new UpdateCategoryCommand(1L, "전자제품", "전자제품 카테고리", 3L);
+        CategoryId categoryId = new CategoryId(1L);
+        CategoryId newParentId = new CategoryId(3L);
+        Category existingCategory = Category.createRoot(categoryId, "전자제품", "전자제품 카테고리");
+        when(catalogVersionRepository.current()).thenReturn(5L);
+        givenTree(
+            existingCategory,
+            Category.create(new CategoryId(2L), "스마트폰", null, categoryId),
+            Category.create(newParentId, "안드로이드", null, new CategoryId(2L))
+        );
+        categoryService.isAncestorOrSelf(categoryId, newParentId);
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.existsById(newParentId)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.updateCategory(command))
+            .isInstanceOf(CircularReferenceException.class);
+
+        verify(categoryRepository, never()).findAncestorIds(any());
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    void 인덱스가_뒤처졌으면_조상_쿼리로_순환_참조_판별() {
+        // given - 버전 5 에서 만든 인덱스, 그 뒤 다른 노드가 커밋해 버전 6
+        UpdateCategoryCommand command = new UpdateCategoryCommand(1L, "전자제품", "전자제품 카테고리", 3L);
+        CategoryId categoryId = new CategoryId(1L);
+        CategoryId newParentId = new CategoryId(3L);
+        Category existingCategory = Category.createRoot(categoryId, "전자제품", "전자제품 카테고리");
+        when(catalogVersionRepository.current()).thenReturn(5L, 5L, 6L);
+        givenTree(
+            existingCategory,
+            Category.createRoot(newParentId, "도서", null)
+        );
+        categoryService.isAncestorOrSelf(categoryId, categoryId);
+
+        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
+        when(categoryRepository.existsById(newParentId)).thenReturn(true);
+        when(categoryRepository.findAncestorIds(newParentId)).thenReturn(List.of(newParentId, categoryId));
+
+        // when & then - 인덱스로는 순환이 아니지만 DB 기준으로 판별
+        assertThatThrownBy(() -> categoryService.updateCategory(command))
+            .isInstanceOf(CircularReferenceException.class);
+
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    void 조상_관계_확인() {
+        // given
+        CategoryId electronicsId = new CategoryId(1L);
+        CategoryId phonesId = new CategoryId(2L);
+        givenTree(
+            Category.createRoot(electronicsId, "전자제품", null),
+            Category.create(phonesId, "스마트폰", null, electronicsId)
+        );
+
+        // when & then
+        assertThat(categoryService.isAncestorOrSelf(electronicsId, phonesId)).isTrue();
+        assertThat(categoryService.isAncestorOrSelf(phonesId, electronicsId)).isFalse();
+        assertThatThrownBy(() -> categoryService.isAncestorOrSelf(electronicsId, new CategoryId(999L)))
+            .isInstanceOf(CategoryNotFoundException.class);
+    }
+
+    @Test
+    void 요청_카테고리와_조상만으로_최소_트리_구성() {
+        // given
+        CategoryId electronicsId = new CategoryId(1L);
+        CategoryId phonesId = new CategoryId(2L);
+        givenTree(
+            Category.createRoot(electronicsId, "전자제품", null),
+            Category.create(phonesId, "스마트폰", null, electronicsId),
+            Category.create(new CategoryId(3L), "안드로이드", null, phonesId),
+            Category.create(new CategoryId(4L), "아이폰", null, phonesId),
+            Category.create(new CategoryId(5L), "노트북", null, electronicsId),
+            Category.createRoot(new CategoryId(6L), "도서", null)
+        );
+
+        // when
+        CategoryFacetTreeResponse result = categoryService.getCoveringTree(
+            List.of(new CategoryId(4L), new CategoryId(3L), new CategoryId(999L)), Map.of(3L, 10L, 4L, 7L));
+
+        // then
+        assertThat(result.categories()).hasSize(1);
+        CategoryFacetNodeResponse electronics = result.categories().get(0);
+        assertThat(electronics.id()).isEqualTo(1L);
+        assertThat(electronics.count()).isNull();
+        assertThat(electronics.children()).extracting(CategoryFacetNodeResponse::id).containsExactly(2L);
+
+        CategoryFacetNodeResponse phones = electronics.children().get(0);
+        assertThat(phones.children()).extracting(CategoryFacetNodeResponse::id).containsExactly(3L, 4L);
+        assertThat(phones.children()).extracting(CategoryFacetNodeResponse::count).containsExactly(10L, 7L);
+    }
+
+    @Test
+    void 이름_자동완성은_얕은_카테고리부터_반환() {
+        // given
+        CategoryId phonesId = new CategoryId(1L);
+        Category[] categories = {
+            Category.createRoot(phonesId, "Phones", null),
+            Category.create(new CategoryId(2L), "Phone Cases", null, phonesId),
+            Category.createRoot(new CategoryId(3L), "Photo", null),
+            Category.createRoot(new CategoryId(4L), "Books", null)
+        };
+        when(categoryRepository.findAllNodeViews()).thenReturn(nodeViews(categories));
+        givenTree(categories);
+
+        // when
+        List<CategorySuggestionResponse> result = categoryService.suggestCategories("pho", 10);
+
+        // then
+        assertThat(result).extracting(CategorySuggestionResponse::id).containsExactly(1L, 3L, 2L);
+        assertThat(result.get(2).parentId()).isEqualTo(1L);
+        assertThat(result.get(2).depth()).isEqualTo(1);
+    }
+
+    @Test
+    void 자동완성_limit_범위_초과시_예외발생() {
+        // when & then
+        assertThatThrownBy(() -> categoryService.suggestCategories("pho", CategoryService.MAX_SUGGESTIONS + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 전문_검색_결과에_경로_포함() {
+        // given
+        CategoryId shoesId = new CategoryId(1L);
+        Category shoes = Category.createRoot(shoesId, "Shoes", "All footwear");
+        Category running = Category.create(new CategoryId(2L), "Running", "Road running shoes", shoesId);
+        givenTree(shoes, running);
+        when(categoryRepository.findViewsByIds(anyCollection())).thenReturn(List.of(CategoryView.from(running)));
+        when(categoryMapper.toResponse(CategoryView.from(running)))
+            .thenReturn(new CategoryResponse(2L, "Running", "Road running shoes", 1L, null, null));
+
+        // when
+        List<CategorySearchHitResponse> result = categoryService.searchCategories("road shoes", 10);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).id()).isEqualTo(2L);
+        assertThat(result.get(0).path()).extracting(CategorySummaryResponse::name).containsExactly("Shoes", "Running");
+    }
+
+    @Test
+    void 이름_경로로_카테고리_조회() {
+        // given
+        CategoryId electronicsId = new CategoryId(1L);
+        Category phones = Category.create(new CategoryId(2L), "Phones", null, electronicsId);
+        CategoryResponse expectedResponse = new CategoryResponse(2L, "Phones", null, 1L, null, null);
+        givenTree(Category.createRoot(electronicsId, "Electronics", null), phones);
+        when(categoryRepository.findViewsByIds(anyCollection())).thenReturn(List.of(CategoryView.from(phones)));
+        when(categoryMapper.toResponse(CategoryView.from(phones))).thenReturn(expectedResponse);
+
+        // when
+        CategoryResponse result = categoryService.getCategoryByPath(List.of("electronics", "PHONES"));
+
+        // then
+        assertThat(result).isEqualTo(expectedResponse);
+        assertThatThrownBy(() -> categoryService.getCategoryByPath(List.of("Electronics", "Laptops")))
+            .isInstanceOf(CategoryNotFoundException.class);
+    }
+
     @Test
     void 카테고리_삭제_성공() {
         // given
@@ -210,14 +556,47 @@ class CategoryServiceTest {
         verify(categoryRepository, never()).deleteById(any());
     }
 
+    @Test
+    void 하위_트리_일괄_삭제_성공() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        List<CategoryId> subtreeIds = List.of(rootId, new CategoryId(2L), new CategoryId(3L));
+
+        when(categoryRepository.findSubtreeIds(rootId)).thenReturn(subtreeIds);
+        when(categoryRepository.deleteAllById(subtreeIds)).thenReturn(3);
+
+        // when
+        int deleted = categoryService.deleteCategorySubtree(rootId);
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        verify(categoryRepository).deleteAllById(subtreeIds);
+        verify(categoryRepository, never()).hasChildren(any());
+        verify(categoryRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void 존재하지_않는_카테고리_하위_트리_삭제시_예외발생() {
+        // given
+        CategoryId categoryId = new CategoryId(999L);
+
+        when(categoryRepository.findSubtreeIds(categoryId)).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.deleteCategorySubtree(categoryId))
+            .isInstanceOf(CategoryNotFoundException.class);
+
+        verify(categoryRepository, never()).deleteAllById(any());
+    }
+
     @Test
     void 카테고리_조회_성공() {
         // given
         CategoryId categoryId = new CategoryId(1L);
-        Category category = Category.createRoot(categoryId, "전자제품", "전자제품 카테고리");
+        CategoryView category = CategoryView.from(Category.createRoot(categoryId, "전자제품", "전자제품 카테고리"));
         CategoryResponse expectedResponse = new CategoryResponse(1L, "전자제품", "전자제품 카테고리", null, null, null);
 
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(category));
+        when(categoryRepository.findViewById(categoryId)).thenReturn(Optional.of(category));
         when(categoryMapper.toResponse(category)).thenReturn(expectedResponse);
 
         // when
@@ -226,7 +605,8 @@ class CategoryServiceTest {
         // then
         assertThat(result.id()).isEqualTo(1L);
         assertThat(result.name()).isEqualTo("전자제품");
-        verify(categoryRepository).findById(categoryId);
+        verify(categoryRepository).findViewById(categoryId);
+        verify(categoryRepository, never()).findById(any());
         verify(categoryMapper).toResponse(category);
     }
 
@@ -235,71 +615,393 @@ class CategoryServiceTest {
         // given
         CategoryId categoryId = new CategoryId(999L);
 
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.empty());
+        when(categoryRepository.findViewById(categoryId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> categoryService.getCategory(categoryId))
             .isInstanceOf(CategoryNotFoundException.class);
 
-        verify(categoryRepository).findById(categoryId);
-        verify(categoryMapper, never()).toResponse(any());
+        verify(categoryRepository).findViewById(categoryId);
+        verify(categoryMapper, never()).toResponse(any(CategoryView.class));
+    }
+
+    @Test
+    void 존재하지_않는_카테고리를_반복_조회하면_DB는_한번만_조회() {
+        // given
+        CategoryId categoryId = new CategoryId(999L);
+
+        when(categoryRepository.findViewById(categoryId)).thenReturn(Optional.empty());
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> categoryService.getCategory(categoryId))
+                .isInstanceOf(CategoryNotFoundException.class);
+        }
+        verify(categoryRepository, times(1)).findViewById(categoryId);
+    }
+
+    @Test
+    void 없다고_기록된_ID로_카테고리가_생성되면_다시_DB에서_조회() {
+        // given - 생성 전에 없는 ID 로 조회됨
+        CategoryId categoryId = new CategoryId(3L);
+        Category savedCategory = Category.createRoot(categoryId, "도서", "도서 카테고리");
+        CategoryView view = CategoryView.from(savedCategory);
+        CategoryResponse expectedResponse = new CategoryResponse(3L, "도서", "도서 카테고리", null, null, null);
+
+        when(categoryRepository.findViewById(categoryId)).thenReturn(Optional.empty(), Optional.of(view));
+        when(categoryRepository.generateNextId()).thenReturn(3L);
+        when(categoryRepository.save(any(Category.class))).thenReturn(savedCategory);
+        when(categoryMapper.toResponse(savedCategory)).thenReturn(expectedResponse);
+        when(categoryMapper.toResponse(view)).thenReturn(expectedResponse);
+        assertThatThrownBy(() -> categoryService.getCategory(categoryId))
+            .isInstanceOf(CategoryNotFoundException.class);
+
+        // when
+        categoryService.createCategory(new CreateCategoryCommand("도서", "도서 카테고리", null));
+        CategoryResponse result = categoryService.getCategory(categoryId);
+
+        // then
+        assertThat(result.id()).isEqualTo(3L);
+        verify(categoryRepository, times(2)).findViewById(categoryId);
+    }
+
+    @Test
+    void 카테고리_다건_조회시_캐시_미스만_한번에_조회() {
+        // given
+        CategoryView electronics = CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", "전자제품 카테고리"));
+        CategoryView books = CategoryView.from(Category.createRoot(new CategoryId(2L), "도서", "도서 카테고리"));
+        CategoryResponse electronicsResponse = new CategoryResponse(1L, "전자제품", "전자제품 카테고리", null, null, null);
+        CategoryResponse booksResponse = new CategoryResponse(2L, "도서", "도서 카테고리", null, null, null);
+
+        when(categoryRepository.findViewsByIds(anyCollection()))
+            .thenReturn(List.of(electronics, books))
+            .thenReturn(List.of());
+        when(categoryMapper.toResponse(electronics)).thenReturn(electronicsResponse);
+        when(categoryMapper.toResponse(books)).thenReturn(booksResponse);
+
+        List<CategoryId> ids = List.of(new CategoryId(2L), new CategoryId(999L), new CategoryId(1L));
+
+        // when
+        List<CategoryResponse> first = categoryService.getCategories(ids);
+        List<CategoryResponse> second = categoryService.getCategories(ids);
+
+        // then - 요청 순서 유지, 존재하지 않는 ID 제외, 두 번째 호출은 캐시에서
+        assertThat(first).containsExactly(booksResponse, electronicsResponse);
+        assertThat(second).containsExactly(booksResponse, electronicsResponse);
+        verify(categoryRepository, times(2)).findViewsByIds(anyCollection());
+        verify(categoryMapper, times(1)).toResponse(electronics);
+    }
+
+    @Test
+    void 이단계_캐시의_다건_조회는_L2_에도_없는_카테고리만_한번에_조회() {
+        // given - 같은 L2 를 공유하는 두 노드
+        CategoryView electronics = CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", "전자제품 카테고리"));
+        CategoryView books = CategoryView.from(Category.createRoot(new CategoryId(2L), "도서", "도서 카테고리"));
+        when(categoryRepository.findViewsByIds(anyCollection()))
+            .thenReturn(List.of(electronics))
+            .thenReturn(List.of(books));
+        when(categoryMapper.toResponse(electronics))
+            .thenReturn(new CategoryResponse(1L, "전자제품", "전자제품 카테고리", null, null, null));
+        when(categoryMapper.toResponse(books))
+            .thenReturn(new CategoryResponse(2L, "도서", "도서 카테고리", null, null, null));
+        CategoryService otherNode = newService(twoLevelCacheManager());
+        categoryService = newService(twoLevelCacheManager());
+        otherNode.getCategories(List.of(new CategoryId(1L)));
+
+        // when
+        List<CategoryResponse> first = categoryService.getCategories(List.of(new CategoryId(1L), new CategoryId(2L)));
+        List<CategoryResponse> second = categoryService.getCategories(List.of(new CategoryId(2L), new CategoryId(1L)));
+
+        // then - 1 은 다른 노드가 L2 에 쓴 값, 2 만 DB 에서 적재하고 두 번째 호출은 L1 에서
+        assertThat(first).extracting(CategoryResponse::id).containsExactly(1L, 2L);
+        assertThat(second).extracting(CategoryResponse::id).containsExactly(2L, 1L);
+        ArgumentCaptor<java.util.Collection<CategoryId>> loaded = ArgumentCaptor.forClass(java.util.Collection.class);
+        verify(categoryRepository, times(2)).findViewsByIds(loaded.capture());
+        assertThat(loaded.getAllValues().get(1)).containsExactly(new CategoryId(2L));
+    }
+
+    private CacheManager twoLevelCacheManager() {
+        return new TwoLevelCacheManager(new CaffeineCacheManager(),
+            new FileSharedCacheStore(sharedCacheDirectory, java.time.Duration.ofMinutes(5)), new SharedCacheSerializer());
+    }
+
+    @Test
+    void 카테고리_다건_조회_최대_개수_초과시_예외발생() {
+        // given
+        List<CategoryId> ids = java.util.stream.LongStream.rangeClosed(1, CategoryService.MAX_BULK_IDS + 1)
+            .mapToObj(CategoryId::new)
+            .toList();
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.getCategories(ids))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verify(categoryRepository, never()).findViewsByIds(anyCollection());
+    }
+
+    @Test
+    void 카테고리_경로_조회_성공() {
+        // given
+        CategoryId electronicsId = new CategoryId(1L);
+        CategoryId phonesId = new CategoryId(2L);
+        givenTree(
+            Category.createRoot(electronicsId, "전자제품", null),
+            Category.create(phonesId, "스마트폰", null, electronicsId)
+        );
+
+        // when
+        CategoryPathResponse result = categoryService.getAncestors(phonesId);
+
+        // then
+        assertThat(result.id()).isEqualTo(2L);
+        assertThat(result.path()).containsExactly(
+            new CategorySummaryResponse(1L, "전자제품"),
+            new CategorySummaryResponse(2L, "스마트폰"));
+    }
+
+    @Test
+    void 카테고리_경로_다건_조회시_인덱스를_한번만_구성() {
+        // given
+        CategoryId electronicsId = new CategoryId(1L);
+        givenTree(
+            Category.createRoot(electronicsId, "전자제품", null),
+            Category.create(new CategoryId(2L), "스마트폰", null, electronicsId),
+            Category.createRoot(new CategoryId(3L), "도서", null)
+        );
+
+        // when
+        List<CategoryPathResponse> result = categoryService.getAncestorPaths(
+            List.of(new CategoryId(2L), new CategoryId(999L), new CategoryId(3L)));
+        categoryService.getAncestors(electronicsId);
+
+        // then
+        assertThat(result).extracting(CategoryPathResponse::id).containsExactly(2L, 3L);
+        assertThat(result.get(0).path()).hasSize(2);
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    void 존재하지_않는_카테고리_경로_조회시_예외발생() {
+        // given
+        givenTree();
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.getAncestors(new CategoryId(999L)))
+            .isInstanceOf(CategoryNotFoundException.class);
     }
 
     @Test
     void 전체_카테고리_트리_조회_성공() {
         // given
-        List<Category> categories = List.of(
-            Category.createRoot(new CategoryId(1L), "전자제품", "전자제품 카테고리")
+        List<CategoryView> categories = List.of(
+            CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", "전자제품 카테고리"))
         );
         CategoryTreeResponse expectedResponse = new CategoryTreeResponse(List.of());
 
-        when(categoryRepository.findAll()).thenReturn(categories);
-        when(categoryMapper.toCategoryTree(categories)).thenReturn(expectedResponse);
+        when(categoryRepository.findAllViews()).thenReturn(categories);
+        when(categoryMapper.toViewTree(categories)).thenReturn(expectedResponse);
 
         // when
         CategoryTreeResponse result = categoryService.getAllCategories();
 
         // then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(categoryRepository).findAll();
-        verify(categoryMapper).toCategoryTree(categories);
+        verify(categoryRepository).findAllViews();
+        verify(categoryRepository, never()).findAll();
+        verify(categoryMapper).toViewTree(categories);
     }
 
     @Test
-    void 특정_카테고리_트리_조회_성공() {
+    void 특정_카테고리_트리는_전체_트리의_노드를_공유() {
         // given
-        CategoryId rootCategoryId = new CategoryId(1L);
-        List<Category> categories = List.of(
-            Category.createRoot(rootCategoryId, "전자제품", "전자제품 카테고리")
+        List<CategoryView> categories = List.of(
+            CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", "전자제품 카테고리"))
         );
-        CategoryTreeResponse expectedResponse = new CategoryTreeResponse(List.of());
+        CategoryNodeResponse phones = new CategoryNodeResponse(2L, "스마트폰", null, null, null, List.of());
+        CategoryTreeResponse fullTree = new CategoryTreeResponse(List.of(
+            new CategoryNodeResponse(1L, "전자제품", null, null, null, List.of(phones))));
 
-        when(categoryRepository.existsById(rootCategoryId)).thenReturn(true);
-        when(categoryRepository.findAll()).thenReturn(categories);
-        when(categoryMapper.toCategoryTree(categories, rootCategoryId)).thenReturn(expectedResponse);
+        when(categoryRepository.findAllViews()).thenReturn(categories);
+        when(categoryMapper.toViewTree(categories)).thenReturn(fullTree);
 
         // when
-        CategoryTreeResponse result = categoryService.getCategoryTree(rootCategoryId);
+        CategoryTreeResponse all = categoryService.getAllCategories();
+        CategoryTreeResponse subtree = categoryService.getCategoryTree(new CategoryId(2L));
+
+        // then
+        assertThat(all).isEqualTo(fullTree);
+        assertThat(subtree.categories()).hasSize(1);
+        assertThat(subtree.categories().get(0)).isSameAs(phones);
+        assertThat(categoryService.getCategoryTree(new CategoryId(2L))).isSameAs(subtree);
+        // 전체 트리를 한 번만 만들고, 하위 트리는 노드 맵에서 바로 꺼냄
+        verify(categoryRepository, times(1)).findAllViews();
+        verify(categoryRepository, never()).existsById(any());
+        verify(categoryMapper, never()).toViewTree(any(), any());
+    }
+
+    @Test
+    void 간략_트리는_최소_컬럼_프로젝션으로_조회() {
+        // given
+        List<CategoryNodeView> nodes = List.of(new CategoryNodeView(1L, "전자제품", null));
+        CategoryCompactTreeResponse expectedResponse = new CategoryCompactTreeResponse(List.of());
+
+        when(categoryRepository.findAllNodeViews()).thenReturn(nodes);
+        when(categoryMapper.toCompactTree(nodes, null, true)).thenReturn(expectedResponse);
+
+        // when
+        CategoryCompactTreeResponse result = categoryService.getAllCategoriesCompact(true);
 
         // then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(categoryRepository).existsById(rootCategoryId);
-        verify(categoryRepository).findAll();
-        verify(categoryMapper).toCategoryTree(categories, rootCategoryId);
+        verify(categoryRepository, never()).findAllViews();
+        verify(categoryRepository, never()).findAll();
     }
 
     @Test
-    void 존재하지_않는_루트_카테고리로_트리_조회시_예외발생() {
+    void 평면_트리는_트리_인덱스에서_부모_위치_배열로_생성() {
+        // given
+        CategoryId electronicsId = new CategoryId(1L);
+        CategoryId phonesId = new CategoryId(2L);
+        givenTree(
+            Category.create(new CategoryId(3L), "안드로이드", null, phonesId),
+            Category.createRoot(electronicsId, "전자제품", null),
+            Category.create(phonesId, "스마트폰", null, electronicsId)
+        );
+
+        // when
+        CategoryFlatTreeResponse all = categoryService.getAllCategoriesFlat();
+        CategoryFlatTreeResponse subtree = categoryService.getCategoryTreeFlat(phonesId);
+
+        // then
+        assertThat(all.ids()).containsExactly(1L, 2L, 3L);
+        assertThat(all.names()).containsExactly("전자제품", "스마트폰", "안드로이드");
+        assertThat(all.parentIndexes()).containsExactly(-1, 0, 1);
+        assertThat(subtree.ids()).containsExactly(2L, 3L);
+        assertThat(subtree.parentIndexes()).containsExactly(-1, 0);
+        // 읽기 모델의 트리에서 만들므로 트리 구조를 위해 따로 조회하지 않음
+        verify(categoryRepository, never()).findAllNodeViews();
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    void 존재하지_않는_루트_카테고리로_평면_트리_조회시_예외발생() {
+        // given
+        givenTree();
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.getCategoryTreeFlat(new CategoryId(999L)))
+            .isInstanceOf(CategoryNotFoundException.class);
+    }
+
+    @Test
+    void 존재하지_않는_루트_카테고리로_간략_트리_조회시_예외발생() {
         // given
         CategoryId rootCategoryId = new CategoryId(999L);
 
         when(categoryRepository.existsById(rootCategoryId)).thenReturn(false);
 
+        // when & then
+        assertThatThrownBy(() -> categoryService.getCategoryTreeCompact(rootCategoryId, false))
+            .isInstanceOf(CategoryNotFoundException.class);
+
+        verify(categoryRepository, never()).findAllNodeViews();
+    }
+
+    @Test
+    void 존재하지_않는_루트_카테고리로_트리_조회시_예외발생() {
+        // given
+        CategoryId rootCategoryId = new CategoryId(999L);
+
+        when(categoryRepository.findAllViews()).thenReturn(List.of());
+        when(categoryMapper.toViewTree(List.of())).thenReturn(new CategoryTreeResponse(List.of()));
+
         // when & then
         assertThatThrownBy(() -> categoryService.getCategoryTree(rootCategoryId))
             .isInstanceOf(CategoryNotFoundException.class);
 
-        verify(categoryRepository).existsById(rootCategoryId);
-        verify(categoryRepository, never()).findAll();
+        verify(categoryRepository, never()).existsById(rootCategoryId);
+    }
+
+    @Test
+    void 하위_트리_삭제시_모든_카테고리의_삭제_로그_기록() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        List<CategoryId> subtreeIds = List.of(rootId, new CategoryId(2L), new CategoryId(3L));
+
+        when(categoryRepository.findSubtreeIds(rootId)).thenReturn(subtreeIds);
+        when(categoryRepository.deleteAllById(subtreeIds)).thenReturn(3);
+
+        // when
+        categoryService.deleteCategorySubtree(rootId);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CategoryChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(categoryChangeLogRepository).appendAll(anyLong(), changes.capture());
+        assertThat(changes.getValue())
+            .extracting(CategoryChange::getType, CategoryChange::getCategoryId)
+            .containsExactly(
+                tuple(CategoryChangeType.DELETED, 1L),
+                tuple(CategoryChangeType.DELETED, 2L),
+                tuple(CategoryChangeType.DELETED, 3L));
+    }
+
+    @Test
+    void 변경_피드는_한_건_더_조회해_다음_페이지_여부_판단() {
+        // given
+        CategoryChange first = CategoryChange.of(CategoryChangeType.CREATED, Category.createRoot(new CategoryId(1L), "전자제품", null));
+        CategoryChange second = CategoryChange.deleted(new CategoryId(1L));
+        CategoryChange third = CategoryChange.deleted(new CategoryId(2L));
+
+        when(categoryChangeLogRepository.findSince(10L, 3)).thenReturn(List.of(first, second, third));
+        when(categoryMapper.toChangeResponse(first))
+            .thenReturn(new CategoryChangeResponse(11L, 1L, "CREATED", 1L, "전자제품", null, null, null));
+        when(categoryMapper.toChangeResponse(second))
+            .thenReturn(new CategoryChangeResponse(12L, 2L, "DELETED", 1L, null, null, null, null));
+
+        // when
+        CategoryChangeFeedResponse result = categoryService.getChanges(10L, 2);
+
+        // then
+        assertThat(result.changes()).extracting(CategoryChangeResponse::sequence).containsExactly(11L, 12L);
+        assertThat(result.nextSince()).isEqualTo(12L);
+        assertThat(result.hasMore()).isTrue();
+        verify(categoryMapper, never()).toChangeResponse(third);
+    }
+
+    @Test
+    void 변경이_없으면_since_를_그대로_반환() {
+        // given
+        when(categoryChangeLogRepository.findSince(5L, 101)).thenReturn(List.of());
+
+        // when
+        CategoryChangeFeedResponse result = categoryService.getChanges(5L, 100);
+
+        // then
+        assertThat(result.changes()).isEmpty();
+        assertThat(result.nextSince()).isEqualTo(5L);
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    void 변경_피드_limit_범위_초과시_예외발생() {
+        // when & then
+        assertThatThrownBy(() -> categoryService.getChanges(0L, CategoryService.MAX_CHANGES + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> categoryService.getChanges(-1L, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(categoryChangeLogRepository);
+    }
+
+    private static List<CategoryNodeView> nodeViews(Category... categories) {
+        return java.util.Arrays.stream(categories).map(CategoryNodeView::from).toList();
+    }
+
+    // 트리 인덱스는 읽기 모델이 게시한 트리에서 만들어지므로 전체 트리 조회와 트리 구성을 준비
+    private void givenTree(Category... categories) {
+        List<CategoryView> views = java.util.Arrays.stream(categories).map(CategoryView::from).toList();
+        when(categoryRepository.findAllViews()).thenReturn(views);
+        when(categoryMapper.toViewTree(views)).thenReturn(new CategoryMapper().toViewTree(views));
     }
-}
\ No newline at end of file
+}
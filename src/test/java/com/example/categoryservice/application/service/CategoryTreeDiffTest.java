@@ -0,0 +1,110 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffEntryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.domain.model.CategoryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("CategoryTreeDiff 테스트")
+class CategoryTreeDiffTest {
+
+    // 전자제품(1) ─ 스마트폰(2) ─ 안드로이드(3)
+    //            └ 노트북(4)
+    // 도서(5) ─ 소설(6)
+    private PersistentCategoryTree buildSample() {
+        return PersistentCategoryTree.of(1L, new CategoryTreeResponse(List.of(
+            node(1L, "전자제품", node(2L, "스마트폰", node(3L, "안드로이드")), node(4L, "노트북")),
+            node(5L, "도서", node(6L, "소설")))));
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 차이 없음")
+    void 같은_버전이면_차이_없음() {
+        // given
+        PersistentCategoryTree tree = buildSample();
+
+        // when & then
+        assertThat(CategoryTreeDiff.between(tree, tree)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("생성, 이동, 수정, 삭제를 반영 순서대로 반환")
+    void 생성_이동_수정_삭제를_반영_순서대로_반환() {
+        // given
+        PersistentCategoryTree from = buildSample();
+        PersistentCategoryTree to = from
+            .upsert(view(7L, "태블릿", 1L), 2L)
+            .upsert(view(8L, "아이패드", 7L), 3L)
+            .upsert(view(2L, "휴대폰", 5L), 4L)
+            .upsert(view(4L, "노트북", 1L, "휴대용 컴퓨터"), 5L)
+            .remove(5L, 6L);
+
+        // when
+        List<CategoryTreeDiffEntryResponse> diff = CategoryTreeDiff.between(from, to);
+
+        // then - 소설(6)은 도서(5) 삭제에 포함되고, from 에서 전자제품(1) 아래 있던 휴대폰(2)은 따로 삭제
+        assertThat(diff)
+            .extracting(CategoryTreeDiffEntryResponse::type, CategoryTreeDiffEntryResponse::categoryId,
+                CategoryTreeDiffEntryResponse::parentId)
+            .containsExactly(
+                tuple("CREATED", 7L, 1L),
+                tuple("CREATED", 8L, 7L),
+                tuple("UPDATED", 4L, 1L),
+                tuple("DELETED", 2L, null),
+                tuple("DELETED", 5L, null));
+    }
+
+    @Test
+    @DisplayName("삭제된 하위 트리 밖으로 옮겨진 노드는 이동으로 표현")
+    void 삭제된_하위_트리_밖으로_옮겨진_노드는_이동으로_표현() {
+        // given
+        PersistentCategoryTree from = buildSample();
+        PersistentCategoryTree to = from
+            .upsert(view(3L, "Android", 5L), 2L)
+            .remove(1L, 3L);
+
+        // when
+        List<CategoryTreeDiffEntryResponse> diff = CategoryTreeDiff.between(from, to);
+
+        // then
+        assertThat(diff)
+            .extracting(CategoryTreeDiffEntryResponse::type, CategoryTreeDiffEntryResponse::categoryId,
+                CategoryTreeDiffEntryResponse::name)
+            .containsExactly(
+                tuple("MOVED", 3L, "Android"),
+                tuple("DELETED", 1L, null));
+    }
+
+    @Test
+    @DisplayName("노드를 공유하지 않는 재구성 버전과도 같은 결과")
+    void 노드를_공유하지_않는_재구성_버전과도_같은_결과() {
+        // given
+        PersistentCategoryTree from = buildSample();
+        PersistentCategoryTree changed = from.upsert(view(6L, "장편소설", 5L), 2L);
+        PersistentCategoryTree rebuilt = PersistentCategoryTree.of(3L, changed.tree());
+
+        // when & then
+        assertThat(CategoryTreeDiff.between(from, rebuilt))
+            .containsExactly(new CategoryTreeDiffEntryResponse("UPDATED", 6L, "장편소설", null, 5L));
+        assertThat(CategoryTreeDiff.between(from, changed)).isEqualTo(CategoryTreeDiff.between(from, rebuilt));
+    }
+
+    private static CategoryNodeResponse node(Long id, String name, CategoryNodeResponse... children) {
+        return new CategoryNodeResponse(id, name, null, null, null, List.of(children));
+    }
+
+    private static CategoryView view(Long id, String name, Long parentId) {
+        return view(id, name, parentId, null);
+    }
+
+    private static CategoryView view(Long id, String name, Long parentId, String description) {
+        return new CategoryView(id, name, description, parentId, null, null);
+    }
+}
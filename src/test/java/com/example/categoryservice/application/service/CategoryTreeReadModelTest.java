@@ -0,0 +1,272 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.exception.CatalogVersionExpiredException;
+import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryTreeReadModel 테스트")
+class CategoryTreeReadModelTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CatalogVersionRepository catalogVersionRepository = mock(CatalogVersionRepository.class);
+    private final MutableClock clock = new MutableClock();
+    private CategoryTreeReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        when(categoryRepository.findAllViews()).thenReturn(List.of(
+            CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", null))));
+        when(catalogVersionRepository.current()).thenReturn(1L);
+        readModel = new CategoryTreeReadModel(categoryRepository, catalogVersionRepository, new CategoryMapper(),
+            new NoOpCacheManager(), 2, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    @DisplayName("변경이 커밋되어도 이전 버전은 그대로 조회 가능")
+    void 변경이_커밋되어도_이전_버전은_그대로_조회_가능() {
+        // given
+        PersistentCategoryTree first = readModel.current();
+
+        // when - 트랜잭션 밖에서는 즉시 반영
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+
+        // then
+        PersistentCategoryTree latest = readModel.current();
+        assertThat(latest.version()).isEqualTo(2L);
+        assertThat(latest.contains(2L)).isTrue();
+        assertThat(readModel.version(first.version()).contains(2L)).isFalse();
+        assertThat(readModel.version(null)).isSameAs(latest);
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("보존 개수를 넘은 버전은 만료")
+    void 보존_개수를_넘은_버전은_만료() {
+        // given
+        long first = readModel.current().version();
+
+        // when
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+        readModel.upsert(Category.create(new CategoryId(3L), "노트북", null, new CategoryId(1L)), 3L);
+
+        // then
+        assertThat(readModel.retainedVersionCount()).isEqualTo(2);
+        assertThat(readModel.retainedNodeCount()).isEqualTo(2 + 3);
+        assertThatThrownBy(() -> readModel.version(first))
+            .isInstanceOf(CatalogVersionExpiredException.class);
+    }
+
+    @Test
+    @DisplayName("보존 시간이 지난 이전 버전은 만료되고 현재 버전은 유지")
+    void 보존_시간이_지난_이전_버전은_만료() {
+        // given
+        long first = readModel.current().version();
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+        long latest = readModel.currentVersion();
+
+        // when
+        clock.advance(Duration.ofMinutes(11));
+
+        // then
+        assertThatThrownBy(() -> readModel.version(first))
+            .isInstanceOf(CatalogVersionExpiredException.class);
+        assertThat(readModel.version(latest).version()).isEqualTo(latest);
+    }
+
+    @Test
+    @DisplayName("보존 시간은 다음 버전이 게시된 시점부터 계산")
+    void 보존_시간은_다음_버전이_게시된_시점부터_계산() {
+        // given - 보존 시간보다 오래 현재 버전으로 유지됨
+        long first = readModel.current().version();
+        clock.advance(Duration.ofMinutes(30));
+
+        // when
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+
+        // then
+        assertThat(readModel.version(first).contains(2L)).isFalse();
+        clock.advance(Duration.ofMinutes(11));
+        assertThatThrownBy(() -> readModel.version(first))
+            .isInstanceOf(CatalogVersionExpiredException.class);
+    }
+
+    @Test
+    @DisplayName("트리 버전은 카탈로그 버전을 따르고 트리가 바뀌지 않은 변경도 게시")
+    void 트리_버전은_카탈로그_버전을_따르고_트리가_바뀌지_않은_변경도_게시() {
+        // given
+        long first = readModel.current().version();
+
+        // when - 없는 카테고리 삭제는 트리를 바꾸지 않음
+        readModel.remove(new CategoryId(99L), 2L);
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 3L);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(readModel.version(2L).contains(2L)).isFalse();
+        assertThat(readModel.currentVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 버전의 변경은 순서가 늦게 와도 덮어쓰지 않음")
+    void 이미_반영된_버전의_변경은_순서가_늦게_와도_덮어쓰지_않음() {
+        // given
+        readModel.current();
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+        readModel.upsert(Category.create(new CategoryId(2L), "휴대폰", null, new CategoryId(1L)), 3L);
+
+        // when - 버전 2 의 콜백이 한 번 더 늦게 실행됨
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+
+        // then
+        assertThat(readModel.currentVersion()).isEqualTo(3L);
+        assertThat(readModel.current().node(2L).name()).isEqualTo("휴대폰");
+    }
+
+    @Test
+    @DisplayName("중간 버전이 빠지면 DB에서 다시 만들고 늦게 온 변경은 건너뜀")
+    void 중간_버전이_빠지면_DB에서_다시_만들고_늦게_온_변경은_건너뜀() {
+        // given
+        readModel.current();
+        when(catalogVersionRepository.current()).thenReturn(3L);
+        when(categoryRepository.findAllViews()).thenReturn(List.of(
+            CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", null)),
+            CategoryView.from(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L))),
+            CategoryView.from(Category.create(new CategoryId(3L), "노트북", null, new CategoryId(1L)))));
+
+        // when - 버전 2 의 콜백보다 버전 3 의 콜백이 먼저 실행됨
+        readModel.upsert(Category.create(new CategoryId(3L), "노트북", null, new CategoryId(1L)), 3L);
+        readModel.upsert(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)), 2L);
+
+        // then
+        PersistentCategoryTree rebuilt = readModel.current();
+        assertThat(rebuilt.version()).isEqualTo(3L);
+        assertThat(rebuilt.contains(2L)).isTrue();
+        assertThat(rebuilt.contains(3L)).isTrue();
+        verify(categoryRepository, times(2)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 커밋된 버전을 요청하면 다시 만들어 반환")
+    void 다른_노드에서_커밋된_버전을_요청하면_다시_만들어_반환() {
+        // given
+        readModel.current();
+        when(catalogVersionRepository.current()).thenReturn(2L);
+
+        // when
+        PersistentCategoryTree tree = readModel.version(2L);
+
+        // then
+        assertThat(tree.version()).isEqualTo(2L);
+        assertThat(readModel.currentVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 같은 버전으로 만든 트리는 DB 대신 트리 스냅샷 캐시에서 받음")
+    void 같은_버전의_트리는_스냅샷_캐시에서_받음() {
+        // given - 두 노드가 같은 (공유) 캐시를 사용
+        CacheManager sharedCacheManager = new ConcurrentMapCacheManager();
+        PersistentCategoryTree built = new CategoryTreeReadModel(categoryRepository, catalogVersionRepository,
+            new CategoryMapper(), sharedCacheManager).current();
+
+        // when
+        PersistentCategoryTree loaded = new CategoryTreeReadModel(categoryRepository, catalogVersionRepository,
+            new CategoryMapper(), sharedCacheManager).current();
+
+        // then
+        assertThat(loaded.version()).isEqualTo(built.version());
+        assertThat(loaded.tree()).isEqualTo(built.tree());
+        assertThat(sharedCacheManager.getCache(CategoryTreeReadModel.TREE_SNAPSHOT_CACHE).get(1L)).isNotNull();
+        verify(categoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("트리를 읽는 동안 커밋이 있었으면 다시 읽어 바뀐 버전으로 게시")
+    void 트리를_읽는_동안_커밋이_있었으면_다시_읽어_바뀐_버전으로_게시() {
+        // given - 첫 번째 트리를 읽는 사이 버전 2 가 커밋되어 2 번째 트리에 추가된 카테고리가 보임
+        CacheManager sharedCacheManager = new ConcurrentMapCacheManager();
+        when(catalogVersionRepository.current()).thenReturn(1L, 2L, 2L);
+        when(categoryRepository.findAllViews()).thenReturn(
+            List.of(CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", null))),
+            List.of(CategoryView.from(Category.createRoot(new CategoryId(1L), "전자제품", null)),
+                CategoryView.from(Category.create(new CategoryId(2L), "스마트폰", null, new CategoryId(1L)))));
+
+        // when
+        PersistentCategoryTree tree = new CategoryTreeReadModel(categoryRepository, catalogVersionRepository,
+            new CategoryMapper(), sharedCacheManager).current();
+
+        // then - 버전 1 로 게시하거나 공유하지 않음
+        assertThat(tree.version()).isEqualTo(2L);
+        assertThat(tree.contains(2L)).isTrue();
+        assertThat(sharedCacheManager.getCache(CategoryTreeReadModel.TREE_SNAPSHOT_CACHE).get(1L)).isNull();
+        assertThat(sharedCacheManager.getCache(CategoryTreeReadModel.TREE_SNAPSHOT_CACHE).get(2L)).isNotNull();
+        verify(categoryRepository, times(2)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("트리를 읽을 때마다 버전이 바뀌면 게시하지 않고 실패")
+    void 트리를_읽을_때마다_버전이_바뀌면_게시하지_않고_실패() {
+        // given
+        AtomicLong version = new AtomicLong();
+        when(catalogVersionRepository.current()).thenAnswer(invocation -> version.incrementAndGet());
+
+        // when & then
+        assertThatThrownBy(() -> readModel.current()).isInstanceOf(IllegalStateException.class);
+        assertThat(readModel.currentVersion()).isZero();
+        verify(categoryRepository, times(CategoryTreeReadModel.MAX_BUILD_ATTEMPTS)).findAllViews();
+    }
+
+    @Test
+    @DisplayName("아직 게시되지 않은 버전은 잘못된 요청")
+    void 아직_게시되지_않은_버전은_잘못된_요청() {
+        // given
+        long latest = readModel.current().version();
+
+        // when & then
+        assertThatThrownBy(() -> readModel.version(latest + 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryTreeSnapshot 테스트")
+class CategoryTreeSnapshotTest {
+
+    private final CategoryId electronicsId = new CategoryId(1L);
+    private final CategoryId phonesId = new CategoryId(2L);
+    private final CategoryId androidId = new CategoryId(3L);
+    private final CategoryId booksId = new CategoryId(4L);
+
+    private CategoryTreeSnapshot buildSample() {
+        // 자식이 부모보다 먼저 오더라도 올바르게 구성되어야 함
+        return CategoryTreeSnapshot.build(List.of(
+            new CategoryNodeView(androidId.getValue(), "안드로이드", phonesId.getValue()),
+            new CategoryNodeView(electronicsId.getValue(), "전자제품", null),
+            new CategoryNodeView(phonesId.getValue(), "스마트폰", electronicsId.getValue()),
+            new CategoryNodeView(booksId.getValue(), "도서", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("부모, 자식, 깊이가 올바르게 계산됨")
+    void 부모_자식_깊이가_올바르게_계산됨() {
+        // when
+        CategoryTreeSnapshot tree = buildSample();
+
+        // then
+        int electronics = tree.indexOf(electronicsId);
+        int phones = tree.indexOf(phonesId);
+        int android = tree.indexOf(androidId);
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.roots()).containsExactlyInAnyOrder(electronics, tree.indexOf(booksId));
+        assertThat(tree.parentOf(electronics)).isEqualTo(CategoryTreeSnapshot.NO_PARENT);
+        assertThat(tree.parentOf(android)).isEqualTo(phones);
+        assertThat(tree.childrenOf(electronics)).containsExactly(phones);
+        assertThat(tree.depthOf(android)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조상 경로가 루트부터 순서대로 계산됨")
+    void 조상_경로가_루트부터_순서대로_계산됨() {
+        // when
+        CategoryTreeSnapshot tree = buildSample();
+
+        // then
+        assertThat(tree.ancestorsOf(tree.indexOf(androidId)))
+            .containsExactly(tree.indexOf(electronicsId), tree.indexOf(phonesId));
+        assertThat(tree.ancestorsOf(tree.indexOf(booksId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오일러 투어 구간으로 조상 관계를 판별")
+    void 오일러_투어_구간으로_조상_관계를_판별() {
+        // when
+        CategoryTreeSnapshot tree = buildSample();
+        int electronics = tree.indexOf(electronicsId);
+        int phones = tree.indexOf(phonesId);
+        int android = tree.indexOf(androidId);
+        int books = tree.indexOf(booksId);
+
+        // then
+        assertThat(tree.isAncestorOrSelf(electronics, android)).isTrue();
+        assertThat(tree.isAncestorOrSelf(phones, android)).isTrue();
+        assertThat(tree.isAncestorOrSelf(android, android)).isTrue();
+        assertThat(tree.isAncestorOrSelf(android, electronics)).isFalse();
+        assertThat(tree.isAncestorOrSelf(books, android)).isFalse();
+        assertThat(tree.isAncestorOrSelf(electronics, books)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이름 경로를 형제 이름 해시로 해석")
+    void 이름_경로를_형제_이름_해시로_해석() {
+        // when
+        CategoryTreeSnapshot tree = buildSample();
+
+        // then
+        assertThat(tree.resolvePath(List.of("전자제품", "스마트폰", "안드로이드"))).isEqualTo(tree.indexOf(androidId));
+        assertThat(tree.resolvePath(List.of("도서"))).isEqualTo(tree.indexOf(booksId));
+        assertThat(tree.resolvePath(List.of("스마트폰"))).isEqualTo(-1);
+        assertThat(tree.resolvePath(List.of("전자제품", "노트북"))).isEqualTo(-1);
+        assertThat(tree.childByName(tree.indexOf(electronicsId), " 스마트폰 ")).isEqualTo(tree.indexOf(phonesId));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 ID는 -1 반환")
+    void 존재하지_않는_ID는_음수_반환() {
+        // when
+        CategoryTreeSnapshot tree = buildSample();
+
+        // then
+        assertThat(tree.indexOf(999L)).isEqualTo(-1);
+        assertThat(tree.contains(new CategoryId(999L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("전위 순회는 부모를 항상 자식보다 먼저 방문")
+    void 전위_순회는_부모를_자식보다_먼저_방문() {
+        // given
+        CategoryTreeSnapshot tree = buildSample();
+        int electronics = tree.indexOf(electronicsId);
+
+        // when
+        int[] all = tree.preorder(CategoryTreeSnapshot.NO_PARENT);
+        int[] subtree = tree.preorder(electronics);
+
+        // then
+        assertThat(all).hasSize(4);
+        for (int i = 0; i < all.length; i++) {
+            int parent = tree.parentOf(all[i]);
+            if (parent != CategoryTreeSnapshot.NO_PARENT) {
+                assertThat(Arrays.stream(all, 0, i).anyMatch(index -> index == parent)).isTrue();
+            }
+        }
+        assertThat(subtree).containsExactly(electronics, tree.indexOf(phonesId), tree.indexOf(androidId));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.categoryservice.application.service;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.domain.model.CategoryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PersistentCategoryTree 테스트")
+class PersistentCategoryTreeTest {
+
+    // 전자제품(1) ─ 스마트폰(2) ─ 안드로이드(3)
+    //            └ 노트북(4)
+    // 도서(5)
+    private PersistentCategoryTree buildSample() {
+        CategoryNodeResponse android = node(3L, "안드로이드");
+        CategoryNodeResponse phones = node(2L, "스마트폰", android);
+        CategoryNodeResponse laptops = node(4L, "노트북");
+        return PersistentCategoryTree.of(1L, new CategoryTreeResponse(List.of(
+            node(1L, "전자제품", phones, laptops),
+            node(5L, "도서"))));
+    }
+
+    @Test
+    @DisplayName("이름 변경은 루트까지의 경로만 복사")
+    void 이름_변경은_루트까지의_경로만_복사() {
+        // given
+        PersistentCategoryTree v1 = buildSample();
+        CategoryNodeResponse laptops = v1.subtree(4L).categories().get(0);
+        CategoryNodeResponse books = v1.subtree(5L).categories().get(0);
+
+        // when
+        PersistentCategoryTree v2 = v1.upsert(view(3L, "Android", 2L), 2L);
+
+        // then
+        assertThat(v2.version()).isEqualTo(2L);
+        assertThat(v2.subtree(3L).categories().get(0).name()).isEqualTo("Android");
+        assertThat(v2.subtree(1L).categories().get(0).children().get(0).children().get(0).name()).isEqualTo("Android");
+        // 경로 밖 노드는 이전 버전과 공유
+        assertThat(v2.subtree(4L).categories().get(0)).isSameAs(laptops);
+        assertThat(v2.subtree(5L).categories().get(0)).isSameAs(books);
+        // 이전 버전은 그대로
+        assertThat(v1.subtree(3L).categories().get(0).name()).isEqualTo("안드로이드");
+    }
+
+    @Test
+    @DisplayName("추가와 이동은 형제를 ID 순으로 유지")
+    void 추가와_이동은_형제를_ID_순으로_유지() {
+        // given
+        PersistentCategoryTree tree = buildSample();
+
+        // when
+        tree = tree.upsert(view(6L, "태블릿", 1L), 2L);
+        tree = tree.upsert(view(2L, "스마트폰", 5L), 3L);
+
+        // then
+        assertThat(ids(tree.subtree(1L).categories().get(0).children())).containsExactly(4L, 6L);
+        assertThat(ids(tree.subtree(5L).categories().get(0).children())).containsExactly(2L);
+        assertThat(tree.subtree(5L).categories().get(0).children().get(0).children().get(0).id()).isEqualTo(3L);
+        assertThat(tree.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("하위 트리 삭제는 모든 후손을 제거")
+    void 하위_트리_삭제는_모든_후손을_제거() {
+        // given
+        PersistentCategoryTree tree = buildSample();
+
+        // when
+        PersistentCategoryTree removed = tree.remove(1L, 2L);
+
+        // then
+        assertThat(ids(removed.tree().categories())).containsExactly(5L);
+        assertThat(removed.contains(3L)).isFalse();
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(removed.remove(999L, 3L)).isSameAs(removed);
+    }
+
+    @Test
+    @DisplayName("반영할 수 없는 변경은 null 반환")
+    void 반영할_수_없는_변경은_null_반환() {
+        // given
+        PersistentCategoryTree tree = buildSample();
+
+        // when & then
+        assertThat(tree.upsert(view(7L, "없는 부모", 999L), 2L)).isNull();
+        assertThat(tree.upsert(view(1L, "전자제품", 3L), 2L)).isNull(); // 자기 하위로 이동
+    }
+
+    @Test
+    @DisplayName("트리 인덱스는 버전마다 한 번 만들고 버전 번호만 바뀌면 그대로 공유")
+    void 트리_인덱스는_버전마다_한_번_만들고_버전_번호만_바뀌면_공유() {
+        // given
+        PersistentCategoryTree v1 = buildSample();
+
+        // when
+        CategoryTreeSnapshot index = v1.index();
+        PersistentCategoryTree renumbered = v1.withVersion(2L);
+        PersistentCategoryTree moved = v1.upsert(view(2L, "스마트폰", 5L), 3L);
+
+        // then
+        assertThat(v1.index()).isSameAs(index);
+        assertThat(renumbered.builtIndex()).isSameAs(index);
+        assertThat(moved.builtIndex()).isNull();
+        assertThat(Arrays.stream(index.preorder(CategoryTreeSnapshot.NO_PARENT)).mapToObj(index::idAt))
+            .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.isAncestorOrSelf(index.indexOf(1L), index.indexOf(3L))).isTrue();
+
+        CategoryTreeSnapshot movedIndex = moved.index();
+        assertThat(movedIndex.isAncestorOrSelf(movedIndex.indexOf(5L), movedIndex.indexOf(3L))).isTrue();
+        assertThat(movedIndex.isAncestorOrSelf(movedIndex.indexOf(1L), movedIndex.indexOf(3L))).isFalse();
+        assertThat(movedIndex.depthOf(movedIndex.indexOf(3L))).isEqualTo(2);
+    }
+
+    private static CategoryNodeResponse node(Long id, String name, CategoryNodeResponse... children) {
+        return new CategoryNodeResponse(id, name, null, null, null, List.of(children));
+    }
+
+    private static CategoryView view(Long id, String name, Long parentId) {
+        return new CategoryView(id, name, null, parentId, null, null);
+    }
+
+    private static List<Long> ids(List<CategoryNodeResponse> nodes) {
+        return nodes.stream().map(CategoryNodeResponse::id).toList();
+    }
+}
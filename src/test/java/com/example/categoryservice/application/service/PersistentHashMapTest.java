@@ -0,0 +1,80 @@
+package com.example.categoryservice.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PersistentHashMap 테스트")
+class PersistentHashMapTest {
+
+    @Test
+    @DisplayName("변경은 새 맵을 반환하고 이전 버전은 그대로 유지")
+    void 변경은_새_맵을_반환하고_이전_버전은_유지() {
+        // given
+        PersistentHashMap<Long, String> v1 = PersistentHashMap.<Long, String>empty().put(1L, "전자제품");
+
+        // when
+        PersistentHashMap<Long, String> v2 = v1.put(1L, "가전").put(2L, "도서");
+        PersistentHashMap<Long, String> v3 = v2.remove(1L);
+
+        // then
+        assertThat(v1.get(1L)).isEqualTo("전자제품");
+        assertThat(v1.size()).isEqualTo(1);
+        assertThat(v2.get(1L)).isEqualTo("가전");
+        assertThat(v2.size()).isEqualTo(2);
+        assertThat(v3.containsKey(1L)).isFalse();
+        assertThat(v3.get(2L)).isEqualTo("도서");
+        assertThat(v3.remove(99L)).isSameAs(v3);
+    }
+
+    @Test
+    @DisplayName("해시가 같은 키도 구분하여 저장")
+    void 해시가_같은_키도_구분하여_저장() {
+        // given - "Aa" 와 "BB" 는 hashCode 가 같음
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty()
+            .put("Aa", 1)
+            .put("BB", 2);
+
+        // when
+        PersistentHashMap<String, Integer> removed = map.remove("Aa");
+
+        // then
+        assertThat(map.get("Aa")).isEqualTo(1);
+        assertThat(map.get("BB")).isEqualTo(2);
+        assertThat(removed.get("Aa")).isNull();
+        assertThat(removed.get("BB")).isEqualTo(2);
+        assertThat(removed.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임의의 변경 순서에서 HashMap 과 같은 결과")
+    void 임의의_변경_순서에서_HashMap_과_같은_결과() {
+        // given
+        Random random = new Random(42);
+        Map<Long, Long> expected = new HashMap<>();
+        PersistentHashMap<Long, Long> actual = PersistentHashMap.empty();
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected.put(key, (long) i);
+                actual = actual.put(key, (long) i);
+            }
+        }
+
+        // then
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000; key++) {
+            assertThat(actual.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+}
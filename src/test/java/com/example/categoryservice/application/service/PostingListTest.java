@@ -0,0 +1,83 @@
+package com.example.categoryservice.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostingList 테스트")
+class PostingListTest {
+
+    @Test
+    @DisplayName("압축 후 복원하면 원래 목록과 같음")
+    void 압축_후_복원하면_원래_목록과_같음() {
+        // given
+        int[] docIds = {0, 3, 127, 128, 20000, 1_000_000};
+
+        // when
+        byte[] encoded = PostingList.encode(docIds, docIds.length);
+
+        // then
+        assertThat(PostingList.decode(encoded)).containsExactly(docIds);
+        assertThat(encoded.length).isLessThan(docIds.length * Integer.BYTES);
+    }
+
+    @Test
+    @DisplayName("문서 추가와 삭제시 정렬 유지")
+    void 문서_추가와_삭제시_정렬_유지() {
+        // given
+        byte[] encoded = PostingList.encode(new int[]{2, 8}, 2);
+
+        // when
+        encoded = PostingList.add(encoded, 5);
+        encoded = PostingList.add(encoded, 5);
+        encoded = PostingList.remove(encoded, 2);
+
+        // then
+        assertThat(PostingList.decode(encoded)).containsExactly(5, 8);
+    }
+
+    @Test
+    @DisplayName("일괄 적재는 한 번만 압축하며 개별 추가와 결과가 같음")
+    void 일괄_적재는_한_번만_압축하며_개별_추가와_결과가_같음() {
+        // given
+        int[] docIds = {0, 3, 127, 128, 20000};
+        PostingList.Builder builder = new PostingList.Builder();
+        byte[] added = PostingList.EMPTY;
+
+        // when
+        for (int docId : docIds) {
+            builder.add(docId);
+            added = PostingList.add(added, docId);
+        }
+
+        // then
+        assertThat(builder.build()).isEqualTo(added);
+        assertThat(PostingList.decode(builder.build())).containsExactly(docIds);
+        assertThat(new PostingList.Builder().build()).isSameAs(PostingList.EMPTY);
+    }
+
+    @Test
+    @DisplayName("일괄 적재는 오름차순이 아닌 추가를 거부")
+    void 일괄_적재는_오름차순이_아닌_추가를_거부() {
+        // given
+        PostingList.Builder builder = new PostingList.Builder();
+        builder.add(5);
+
+        // when & then
+        assertThatThrownBy(() -> builder.add(5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("교집합과 합집합")
+    void 교집합과_합집합() {
+        // given
+        int[] left = {1, 3, 5, 7};
+        int[] right = {3, 4, 7, 9};
+
+        // then
+        assertThat(PostingList.intersect(left, right)).containsExactly(3, 7);
+        assertThat(PostingList.union(left, right)).containsExactly(1, 3, 4, 5, 7, 9);
+    }
+}
@@ -79,4 +79,24 @@ class DomainExceptionTest {
         // then
         assertThat(exception.getMessage()).isEqualTo(message);
     }
+
+    @Test
+    void DuplicateCategoryNameException_부모_ID와_이름으로_생성() {
+        // when
+        DuplicateCategoryNameException childException = new DuplicateCategoryNameException(new CategoryId(1L), "스마트폰");
+        DuplicateCategoryNameException rootException = new DuplicateCategoryNameException(null, "전자제품");
+
+        // then
+        assertThat(childException.getMessage()).isEqualTo("Category name already exists under parent 1: 스마트폰");
+        assertThat(rootException.getMessage()).isEqualTo("Category name already exists under root: 전자제품");
+    }
+
+    @Test
+    void CatalogVersionExpiredException_버전으로_생성() {
+        // when
+        CatalogVersionExpiredException exception = new CatalogVersionExpiredException(3L);
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("Catalog version is no longer retained: 3");
+    }
 }
\ No newline at end of file
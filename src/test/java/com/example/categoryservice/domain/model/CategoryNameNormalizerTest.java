@@ -0,0 +1,34 @@
+package com.example.categoryservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryNameNormalizer 테스트")
+class CategoryNameNormalizerTest {
+
+    @Test
+    @DisplayName("대소문자와 악센트를 무시")
+    void 대소문자와_악센트를_무시() {
+        assertThat(CategoryNameNormalizer.normalize("Café Équipement")).isEqualTo("cafe equipement");
+    }
+
+    @Test
+    @DisplayName("연속 공백을 하나로 줄이고 앞뒤 공백 제거")
+    void 연속_공백을_하나로_줄이고_앞뒤_공백_제거() {
+        assertThat(CategoryNameNormalizer.normalize("  Smart   Phones ")).isEqualTo("smart phones");
+    }
+
+    @Test
+    @DisplayName("한글은 그대로 유지")
+    void 한글은_그대로_유지() {
+        assertThat(CategoryNameNormalizer.normalize("전자제품")).isEqualTo("전자제품");
+    }
+
+    @Test
+    @DisplayName("null 은 빈 문자열")
+    void null은_빈_문자열() {
+        assertThat(CategoryNameNormalizer.normalize(null)).isEmpty();
+    }
+}
@@ -26,7 +26,7 @@ class CategoryCacheConfigIntegrationTest {
     void Spring_Context에서_캐시_매니저가_올바르게_로드되는지_확인() {
         // then
         assertThat(cacheManager).isNotNull();
-        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("categories", "categoryTree");
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("categories", "categoryTree", "categoryTreeSnapshot");
     }
 
     @Test
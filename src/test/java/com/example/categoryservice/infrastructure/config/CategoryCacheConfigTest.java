@@ -1,13 +1,19 @@
 package com.example.categoryservice.infrastructure.config;
 
+import com.example.categoryservice.application.port.out.CategoryCompactNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,7 +37,7 @@ class CategoryCacheConfigTest {
 
         // then
         assertThat(cacheManager).isNotNull();
-        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("categories", "categoryTree");
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("categories", "categoryTree", "categoryTreeSnapshot");
     }
 
     @Test
@@ -70,6 +76,65 @@ class CategoryCacheConfigTest {
         assertThat(nativeCache.stats()).isNotNull();
     }
 
+    @Test
+    @DisplayName("categoryTree 캐시는 트리 노드 수 기준 무게로 제한됨")
+    void categoryTree_캐시는_노드_수_기준_무게로_제한됨() {
+        // given
+        cacheProperties.getCategoryTree().setMaximumWeight(5L);
+        CacheManager cacheManager = new CategoryCacheConfig(cacheProperties).categoryCacheManager();
+        Cache<Object, Object> nativeCache = ((CaffeineCache) cacheManager.getCache("categoryTree")).getNativeCache();
+
+        CategoryCompactTreeResponse bigTree = new CategoryCompactTreeResponse(List.of(
+            node(1L, node(2L), node(3L), node(4L)), node(5L)));
+
+        // when
+        nativeCache.put("compact:false", bigTree);
+        nativeCache.put(9L, new CategoryCompactTreeResponse(List.of(node(9L))));
+        nativeCache.cleanUp();
+
+        // then
+        Policy.Eviction<Object, Object> eviction = nativeCache.policy().eviction().orElseThrow();
+        assertThat(eviction.isWeighted()).isTrue();
+        assertThat(eviction.getMaximum()).isEqualTo(5L);
+        assertThat(eviction.weightedSize().orElseThrow()).isLessThanOrEqualTo(5L);
+        assertThat(new CategoryTreeWeigher().weigh("compact:false", bigTree)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("무게 상한이 없으면 항목 수로 제한됨")
+    void 무게_상한이_없으면_항목_수로_제한됨() {
+        // given
+        cacheProperties.getCategoryTree().setMaximumWeight(null);
+
+        // when
+        CacheManager cacheManager = new CategoryCacheConfig(cacheProperties).categoryCacheManager();
+        Cache<Object, Object> nativeCache = ((CaffeineCache) cacheManager.getCache("categoryTree")).getNativeCache();
+
+        // then
+        Policy.Eviction<Object, Object> eviction = nativeCache.policy().eviction().orElseThrow();
+        assertThat(eviction.isWeighted()).isFalse();
+        assertThat(eviction.getMaximum()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("공유 L2 를 켜면 같은 캐시 이름의 2단계 캐시로 제공됨")
+    void 공유_L2_를_켜면_같은_캐시_이름의_2단계_캐시로_제공됨(@TempDir Path directory) {
+        // given
+        cacheProperties.getShared().setEnabled(true);
+        FileSharedCacheStore store = new FileSharedCacheStore(directory, Duration.ofMinutes(5));
+
+        // when
+        CacheManager cacheManager = new CategoryCacheConfig(cacheProperties, store).categoryCacheManager();
+        org.springframework.cache.Cache categoriesCache = cacheManager.getCache("categories");
+        categoriesCache.put(1L, "value");
+
+        // then
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("categories", "categoryTree", "categoryTreeSnapshot");
+        assertThat(categoriesCache).isInstanceOf(TwoLevelCache.class);
+        assertThat(cacheManager.getCache("categoryTree")).isInstanceOf(TwoLevelCache.class);
+        assertThat(store.get("categories", "Long:1")).isNotNull();
+    }
+
     @Test
     @DisplayName("커스텀 캐시 속성이 적용되는지 확인")
     void 커스텀_캐시_속성이_적용되는지_확인() {
@@ -99,4 +164,8 @@ class CategoryCacheConfigTest {
         // then - CaffeineCacheManager는 동적으로 캐시를 생성함
         assertThat(cacheManager.getCache("nonExistentCache")).isNotNull();
     }
+
+    private static CategoryCompactNodeResponse node(Long id, CategoryCompactNodeResponse... children) {
+        return new CategoryCompactNodeResponse(id, "카테고리" + id, null, List.of(children));
+    }
 }
\ No newline at end of file
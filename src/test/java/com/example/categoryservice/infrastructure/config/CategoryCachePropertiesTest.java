@@ -24,6 +24,8 @@ class CategoryCachePropertiesTest {
         assertThat(properties.getCategoryTree().getMaximumSize()).isEqualTo(100L);
         assertThat(properties.getCategoryTree().getExpireAfterAccess()).isEqualTo(Duration.ofMinutes(10));
         assertThat(properties.getCategoryTree().getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(properties.getCategoryTree().getMaximumWeight()).isEqualTo(1_000_000L);
+        assertThat(properties.getCategories().getMaximumWeight()).isNull();
     }
 
     @Test
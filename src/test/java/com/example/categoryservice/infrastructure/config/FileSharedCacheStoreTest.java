@@ -0,0 +1,163 @@
+package com.example.categoryservice.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FileSharedCacheStore 테스트")
+class FileSharedCacheStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 값을 다른 저장소 인스턴스에서도 읽을 수 있음")
+    void 저장한_값을_다른_저장소_인스턴스에서도_읽을_수_있음() {
+        // given
+        FileSharedCacheStore writer = store(NOW);
+        writer.put("categories", "Long:1", bytes("value"));
+
+        // when
+        byte[] value = store(NOW).get("categories", "Long:1");
+
+        // then
+        assertThat(new String(value, StandardCharsets.UTF_8)).isEqualTo("value");
+        assertThat(store(NOW).get("categoryTree", "Long:1")).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 미스로 처리됨")
+    void 만료된_항목은_미스로_처리됨() {
+        // given
+        store(NOW).put("categories", "Long:1", bytes("value"));
+
+        // when
+        byte[] beforeExpiry = store(NOW.plus(Duration.ofMinutes(4))).get("categories", "Long:1");
+        byte[] afterExpiry = store(NOW.plus(Duration.ofMinutes(5))).get("categories", "Long:1");
+
+        // then
+        assertThat(beforeExpiry).isNotNull();
+        assertThat(afterExpiry).isNull();
+    }
+
+    @Test
+    @DisplayName("evict 와 clear 는 해당 캐시의 항목만 제거함")
+    void evict_와_clear_는_해당_캐시의_항목만_제거함() {
+        // given
+        FileSharedCacheStore store = store(NOW);
+        store.put("categories", "Long:1", bytes("a"));
+        store.put("categories", "Long:2", bytes("b"));
+        store.put("categoryTree", "String:compact:true", bytes("c"));
+
+        // when
+        store.evict("categories", "Long:1");
+        byte[] afterEvict = store.get("categories", "Long:2");
+        store.clear("categories");
+
+        // then
+        assertThat(afterEvict).isNotNull();
+        assertThat(store.get("categories", "Long:1")).isNull();
+        assertThat(store.get("categories", "Long:2")).isNull();
+        assertThat(store.get("categoryTree", "String:compact:true")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 키에 다시 저장하면 값이 교체됨")
+    void 같은_키에_다시_저장하면_값이_교체됨() {
+        // given
+        FileSharedCacheStore store = store(NOW);
+        store.put("categories", "Long:1", bytes("old"));
+
+        // when
+        store.put("categories", "Long:1", bytes("new"));
+
+        // then
+        assertThat(new String(store.get("categories", "Long:1"), StandardCharsets.UTF_8)).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("다시 읽히지 않는 만료 항목과 남은 임시 파일은 정리 주기의 쓰기에서 지워짐")
+    void 만료_항목과_남은_임시_파일은_정리_주기의_쓰기에서_지워짐() throws Exception {
+        // given - 이전 실행이 남긴 만료 항목과 쓰다가 중단된 임시 파일
+        store(NOW).put("categories", "Long:1", bytes("old"));
+        store(NOW).put("categoryTree", "String:compact:true", bytes("old"));
+        Path orphan = Files.createTempFile(Files.createDirectories(directory.resolve("interrupted")), null, ".tmp");
+        Files.setLastModifiedTime(orphan, FileTime.from(NOW));
+        Instant start = NOW.plus(Duration.ofMinutes(10));
+        MutableClock clock = new MutableClock(start);
+        FileSharedCacheStore store = new FileSharedCacheStore(directory, Duration.ofMinutes(5), clock);
+
+        // when - 시작 후 첫 쓰기에서 정리
+        store.put("categories", "Long:2", bytes("new"));
+
+        // then
+        assertThat(entryCount()).isEqualTo(1);
+
+        // when - 정리 주기(TTL) 전의 쓰기는 훑지 않고, 주기가 지난 쓰기에서 Long:2 가 만료되어 지워짐
+        clock.now = start.plus(Duration.ofMinutes(4));
+        store.put("categories", "Long:3", bytes("new"));
+        clock.now = start.plus(Duration.ofMinutes(6));
+        long beforeSweep = entryCount();
+        store.put("categories", "Long:4", bytes("new"));
+
+        // then
+        assertThat(beforeSweep).isEqualTo(2);
+        assertThat(entryCount()).isEqualTo(2);
+        assertThat(store.get("categories", "Long:3")).isNotNull();
+        assertThat(store.get("categories", "Long:4")).isNotNull();
+    }
+
+    private long entryCount() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private FileSharedCacheStore store(Instant now) {
+        return new FileSharedCacheStore(directory, Duration.ofMinutes(5), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.categoryservice.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource 테스트")
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private ReadWriteRoutingDataSource routingDataSource;
+    private DataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기와 트랜잭션 밖 접근은 primary 로 라우팅됨")
+    void 읽기_전용_트랜잭션은_replica_쓰기와_트랜잭션_밖_접근은_primary_로_라우팅됨() {
+        // given
+        setUp(false, Duration.ZERO);
+
+        // when & then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 쓰기 이후의 읽기는 primary 로 라우팅됨")
+    void 같은_요청에서_쓰기_이후의_읽기는_primary_로_라우팅됨() {
+        // given
+        setUp(true, Duration.ZERO);
+        ReadYourWritesContext.begin();
+
+        // when
+        String beforeWrite = readOnlyTransaction.execute(status -> currentNode());
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET hits = hits + 1"));
+        String afterWrite = readOnlyTransaction.execute(status -> currentNode());
+        ReadYourWritesContext.end();
+        ReadYourWritesContext.begin();
+        String nextRequest = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(beforeWrite).isEqualTo("replica");
+        assertThat(afterWrite).isEqualTo("primary");
+        assertThat(nextRequest).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("이전 요청이 요구한 카탈로그 버전을 replica 가 따라올 때까지 읽기는 primary 로 라우팅됨")
+    void 요구한_카탈로그_버전을_replica_가_따라올_때까지_읽기는_primary_로_라우팅됨() {
+        // given - 이전 요청의 쓰기로 primary 는 버전 2
+        setUp(true, Duration.ZERO);
+        ReadYourWritesContext.begin(2L);
+        new JdbcTemplate(replica).update("UPDATE catalog_version SET version = 1");
+        routingDataSource.refreshReplicaCatalogVersion();
+
+        // when
+        String lagging = readOnlyTransaction.execute(status -> currentNode());
+        new JdbcTemplate(replica).update("UPDATE catalog_version SET version = 2");
+        routingDataSource.refreshReplicaCatalogVersion();
+        String caughtUp = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(lagging).isEqualTo("primary");
+        assertThat(caughtUp).isEqualTo("replica");
+        assertThat(routingDataSource.replicaCatalogVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("replica 버전 확인에 실패하면 이전 값을 유지")
+    void replica_버전_확인에_실패하면_이전_값을_유지() {
+        // given
+        setUp(true, Duration.ZERO);
+        new JdbcTemplate(replica).update("UPDATE catalog_version SET version = 3");
+        routingDataSource.refreshReplicaCatalogVersion();
+
+        // when
+        new JdbcTemplate(replica).execute("DROP TABLE catalog_version");
+        routingDataSource.refreshReplicaCatalogVersion();
+
+        // then
+        assertThat(routingDataSource.replicaCatalogVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("stickiness 를 끄면 같은 요청에서도 쓰기 이후 읽기가 replica 로 라우팅됨")
+    void stickiness_를_끄면_같은_요청에서도_쓰기_이후_읽기가_replica_로_라우팅됨() {
+        // given
+        setUp(false, Duration.ZERO);
+        ReadYourWritesContext.begin();
+
+        // when
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET hits = hits + 1"));
+
+        // then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 직후 일정 시간 동안은 모든 읽기가 primary 로 라우팅됨")
+    void 쓰기_커밋_직후_일정_시간_동안은_모든_읽기가_primary_로_라우팅됨() {
+        // given
+        setUp(false, Duration.ofSeconds(1));
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET hits = hits + 1"));
+
+        // when
+        nanoTime.addAndGet(Duration.ofMillis(999).toNanos());
+        String withinWindow = readOnlyTransaction.execute(status -> currentNode());
+        nanoTime.addAndGet(Duration.ofMillis(1).toNanos());
+        String afterWindow = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(withinWindow).isEqualTo("primary");
+        assertThat(afterWindow).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 primary 고정 시간을 시작하지 않음")
+    void 롤백된_쓰기는_primary_고정_시간을_시작하지_않음() {
+        // given
+        setUp(false, Duration.ofSeconds(1));
+
+        // when
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET hits = hits + 1");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 같은 요청의 이후 읽기를 primary 로 보내지 않음")
+    void 롤백된_쓰기는_같은_요청의_이후_읽기를_primary_로_보내지_않음() {
+        // given
+        setUp(true, Duration.ZERO);
+        ReadYourWritesContext.begin();
+
+        // when
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET hits = hits + 1");
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(ReadYourWritesContext.hasWritten()).isFalse();
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private void setUp(boolean stickyAfterWrite, Duration primaryAfterWrite) {
+        DataSource primary = h2("primary");
+        replica = h2("replica");
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, stickyAfterWrite, primaryAfterWrite, nanoTime::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    // 서로 다른 두 H2 인메모리 DB 에 각자 이름을 넣어 어느 쪽으로 라우팅되었는지 구분
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20), hits INT)");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, 0)", name);
+        jdbcTemplate.execute("CREATE TABLE catalog_version (id BIGINT PRIMARY KEY, version BIGINT)");
+        jdbcTemplate.update("INSERT INTO catalog_version VALUES (1, 0)");
+        return dataSource;
+    }
+}
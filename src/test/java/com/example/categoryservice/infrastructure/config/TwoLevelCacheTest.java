@@ -0,0 +1,190 @@
+package com.example.categoryservice.infrastructure.config;
+
+import com.example.categoryservice.application.port.out.CategoryCompactNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+    private InMemorySharedCacheStore sharedCacheStore;
+    private SharedCacheSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheStore = new InMemorySharedCacheStore();
+        serializer = new SharedCacheSerializer();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 L2 에 저장한 값으로 콜드 L1 을 채움")
+    void 다른_노드가_L2_에_저장한_값으로_콜드_L1_을_채움() {
+        // given
+        CategoryResponse category = new CategoryResponse(1L, "전자제품", "설명", null,
+            LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 2, 0, 0));
+        newCache("categories").put(1L, category);
+        TwoLevelCache coldCache = newCache("categories");
+
+        // when
+        CategoryResponse first = coldCache.get(1L, CategoryResponse.class);
+        CategoryResponse second = coldCache.get(1L, CategoryResponse.class);
+
+        // then
+        assertThat(first).isEqualTo(category);
+        assertThat(second).isSameAs(first);
+        assertThat(coldCache.localMissCount()).isEqualTo(1);
+        assertThat(coldCache.localHitCount()).isEqualTo(1);
+        assertThat(coldCache.sharedHitCount()).isEqualTo(1);
+        assertThat(coldCache.sharedMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 단계 모두 미스면 로더로 적재하고 L2 에도 저장함")
+    void 두_단계_모두_미스면_로더로_적재하고_L2_에도_저장함() {
+        // given
+        TwoLevelCache cache = newCache("categoryTree");
+        CategoryCompactTreeResponse tree = new CategoryCompactTreeResponse(List.of(
+            new CategoryCompactNodeResponse(1L, "전자제품", null, List.of())));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        CategoryCompactTreeResponse loaded = cache.get("compact:false", () -> {
+            loads.incrementAndGet();
+            return tree;
+        });
+        CategoryCompactTreeResponse fromOtherNode = newCache("categoryTree").get("compact:false", () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // then
+        assertThat(loaded).isSameAs(tree);
+        assertThat(fromOtherNode).isEqualTo(tree);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.sharedMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전별 전체 트리를 L2 를 거쳐 다른 노드에서 복원")
+    void 카탈로그_버전별_전체_트리를_L2_를_거쳐_복원() {
+        // given
+        LocalDateTime at = LocalDateTime.of(2026, 1, 1, 0, 0);
+        CategoryTreeResponse tree = new CategoryTreeResponse(List.of(
+            new CategoryNodeResponse(1L, "전자제품", "설명", at, at, List.of(
+                new CategoryNodeResponse(2L, "스마트폰", null, at, at, List.of())))));
+        newCache("categoryTreeSnapshot").put(7L, tree);
+
+        // when
+        CategoryTreeResponse restored = newCache("categoryTreeSnapshot").get(7L, CategoryTreeResponse.class);
+
+        // then
+        assertThat(restored).isEqualTo(tree);
+        assertThat(sharedCacheStore.get("categoryTreeSnapshot", "Long:7")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("clear 는 L1 과 L2 를 모두 비움")
+    void clear_는_L1_과_L2_를_모두_비움() {
+        // given
+        TwoLevelCache cache = newCache("categories");
+        cache.put(1L, "value");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(sharedCacheStore.entries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("L2 오류는 미스로 처리되고 요청은 실패하지 않음")
+    void L2_오류는_미스로_처리되고_요청은_실패하지_않음() {
+        // given
+        sharedCacheStore.failing = true;
+        TwoLevelCache cache = newCache("categories");
+
+        // when
+        cache.put(1L, "value");
+        String value = cache.get(1L, String.class);
+        cache.evict(1L);
+
+        // then
+        assertThat(value).isEqualTo("value");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.sharedErrorCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 타입의 L2 값은 복원하지 않음")
+    void 허용되지_않은_타입의_L2_값은_복원하지_않음() {
+        // given
+        TwoLevelCache cache = newCache("categories");
+        sharedCacheStore.put("categories", "Long:1", serializer.serialize("value"));
+        byte[] forged = sharedCacheStore.entries.get("categories/Long:1");
+        forged[2] = 'x'; // "java.lang.String" -> "xava.lang.String"
+
+        // when
+        Object value = cache.get(1L);
+
+        // then
+        assertThat(value).isNull();
+        assertThat(cache.sharedErrorCount()).isEqualTo(1);
+    }
+
+    private TwoLevelCache newCache(String name) {
+        CaffeineCache localCache = new CaffeineCache(name, Caffeine.newBuilder().build());
+        return new TwoLevelCache(localCache, sharedCacheStore, serializer);
+    }
+
+    private static final class InMemorySharedCacheStore implements SharedCacheStore {
+
+        private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+        private boolean failing;
+
+        @Override
+        public byte[] get(String cacheName, String key) {
+            check();
+            return entries.get(cacheName + "/" + key);
+        }
+
+        @Override
+        public void put(String cacheName, String key, byte[] value) {
+            check();
+            entries.put(cacheName + "/" + key, value);
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+            check();
+            entries.remove(cacheName + "/" + key);
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            check();
+            entries.keySet().removeIf(key -> key.startsWith(cacheName + "/"));
+        }
+
+        private void check() {
+            if (failing) {
+                throw new IllegalStateException("shared cache unavailable");
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.domain.repository.CatalogVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(CatalogVersionRepositoryImpl.class)
+@ActiveProfiles("test")
+class CatalogVersionRepositoryImplTest {
+
+    @Autowired
+    private CatalogVersionRepository catalogVersionRepository;
+
+    @Test
+    void 스키마에서_만든_행을_1씩_증가() {
+        // given
+        long before = catalogVersionRepository.current();
+
+        // when
+        long first = catalogVersionRepository.increment();
+        long second = catalogVersionRepository.increment();
+
+        // then
+        assertThat(before).isZero();
+        assertThat(first).isEqualTo(before + 1);
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(catalogVersionRepository.current()).isEqualTo(second);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryChangeType;
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryView;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import(CategoryChangeLogRepositoryImpl.class)
+@ActiveProfiles("test")
+class CategoryChangeLogRepositoryImplTest {
+
+    @Autowired
+    private CategoryChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 시퀀스는_추가_순서대로_증가하고_카탈로그_버전을_기록() {
+        // given
+        long since = changeLogRepository.latestSequence();
+        changeLogRepository.appendAll(1L, List.of(
+            CategoryChange.of(CategoryChangeType.CREATED, Category.createRoot(new CategoryId(1L), "전자제품", null))));
+
+        // when
+        changeLogRepository.appendAll(2L, List.of(CategoryChange.deleted(new CategoryId(1L))));
+
+        // then
+        List<CategoryChange> appended = changeLogRepository.findSince(since, 10);
+        CategoryChange created = appended.get(0);
+        CategoryChange deleted = appended.get(1);
+        assertThat(created.getSequence()).isNotNull();
+        assertThat(deleted.getSequence()).isGreaterThan(created.getSequence());
+        assertThat(created.getCatalogVersion()).isEqualTo(1L);
+        assertThat(deleted.getCatalogVersion()).isEqualTo(2L);
+        assertThat(changeLogRepository.latestSequence()).isEqualTo(deleted.getSequence());
+    }
+
+    @Test
+    void 추가_수정_항목은_카테고리의_변경_후_상태를_그대로_기록() {
+        // given - 저장 시 채워진 생성/수정 일시
+        Category category = Category.create(new CategoryId(7L), "스마트폰", "휴대전화", new CategoryId(1L));
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 2, 9, 0);
+        ReflectionTestUtils.setField(category, "createdAt", createdAt);
+        ReflectionTestUtils.setField(category, "updatedAt", updatedAt);
+        long since = changeLogRepository.latestSequence();
+
+        // when
+        changeLogRepository.appendAll(3L, List.of(CategoryChange.of(CategoryChangeType.UPDATED, category)));
+
+        // then
+        CategoryView view = changeLogRepository.findSince(since, 10).get(0).toView();
+        assertThat(view).isEqualTo(new CategoryView(7L, "스마트폰", "휴대전화", 1L, createdAt, updatedAt));
+        assertThat(CategoryChange.deleted(new CategoryId(7L)).toView()).isNull();
+    }
+
+    @Test
+    void 카탈로그_버전까지의_마지막_시퀀스와_최신_카탈로그_버전_조회() {
+        // given - 버전 5 는 두 건, 버전 6 은 한 건
+        long since = changeLogRepository.latestSequence();
+        changeLogRepository.appendAll(5L, List.of(
+            CategoryChange.deleted(new CategoryId(1L)),
+            CategoryChange.deleted(new CategoryId(2L))));
+        changeLogRepository.appendAll(6L, List.of(CategoryChange.deleted(new CategoryId(3L))));
+        List<CategoryChange> appended = changeLogRepository.findSince(since, 10);
+
+        // when & then
+        assertThat(changeLogRepository.sequenceAtVersion(5L)).isEqualTo(appended.get(1).getSequence());
+        assertThat(changeLogRepository.sequenceAtVersion(6L)).isEqualTo(appended.get(2).getSequence());
+        assertThat(changeLogRepository.findSince(changeLogRepository.sequenceAtVersion(5L), 10))
+            .extracting(CategoryChange::getCatalogVersion)
+            .containsExactly(6L);
+        assertThat(changeLogRepository.latestCatalogVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    void since_이후_항목을_limit_만큼_순서대로_조회() {
+        // given
+        long since = changeLogRepository.latestSequence();
+        changeLogRepository.appendAll(1L, List.of(
+            CategoryChange.deleted(new CategoryId(1L)),
+            CategoryChange.deleted(new CategoryId(2L)),
+            CategoryChange.deleted(new CategoryId(3L))));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CategoryChange> firstPage = changeLogRepository.findSince(since, 2);
+        List<CategoryChange> secondPage = changeLogRepository.findSince(firstPage.get(1).getSequence(), 2);
+
+        // then
+        assertThat(firstPage).extracting(CategoryChange::getCategoryId).containsExactly(1L, 2L);
+        assertThat(secondPage).extracting(CategoryChange::getCategoryId).containsExactly(3L);
+        assertThat(secondPage.get(0).getType()).isEqualTo(CategoryChangeType.DELETED);
+        assertThat(secondPage.get(0).getChangedAt()).isNotNull();
+    }
+
+    @Test
+    void 배치_크기를_넘는_항목도_순서대로_추가() {
+        // given
+        long since = changeLogRepository.latestSequence();
+        int count = CategoryChangeLogRepositoryImpl.INSERT_BATCH_SIZE + 3;
+        List<CategoryChange> changes = LongStream.rangeClosed(1, count)
+            .mapToObj(id -> CategoryChange.of(CategoryChangeType.CREATED,
+                Category.createRoot(new CategoryId(id), "카테고리 " + id, null)))
+            .toList();
+
+        // when
+        changeLogRepository.appendAll(1L, changes);
+
+        // then
+        List<CategoryChange> appended = changeLogRepository.findSince(since, count + 1);
+        assertThat(appended).hasSize(count);
+        assertThat(appended).extracting(CategoryChange::getCategoryId)
+            .containsExactlyElementsOf(LongStream.rangeClosed(1, count).boxed().toList());
+        assertThat(appended.get(0).getName()).isEqualTo("카테고리 1");
+        assertThat(appended.get(0).getParentId()).isNull();
+        assertThat(changeLogRepository.latestSequence()).isEqualTo(appended.get(count - 1).getSequence());
+    }
+}
@@ -2,10 +2,14 @@ package com.example.categoryservice.infrastructure.persistence;
 
 import com.example.categoryservice.domain.model.Category;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryView;
 import com.example.categoryservice.domain.repository.CategoryRepository;
+import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -22,6 +26,9 @@ class CategoryRepositoryImplTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void 카테고리_저장_및_조회() {
         // given
@@ -39,6 +46,29 @@ class CategoryRepositoryImplTest {
         assertThat(foundCategory.get().getName()).isEqualTo("전자제품");
     }
 
+    @Test
+    void 프로젝션으로_조회() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "전자제품", "전자제품 카테고리"));
+        categoryRepository.save(Category.create(new CategoryId(2L), "스마트폰", null, rootId));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Optional<CategoryView> child = categoryRepository.findViewById(new CategoryId(2L));
+        List<CategoryView> all = categoryRepository.findAllViews();
+
+        // then
+        assertThat(child).isPresent();
+        assertThat(child.get().parentId()).isEqualTo(1L);
+        assertThat(child.get().createdAt()).isNotNull();
+        assertThat(all)
+            .extracting(CategoryView::id, CategoryView::parentId)
+            .containsExactlyInAnyOrder(tuple(1L, null), tuple(2L, 1L));
+        assertThat(categoryRepository.findViewById(new CategoryId(999L))).isEmpty();
+    }
+
     @Test
     void 루트_카테고리_조회() {
         // given
@@ -113,6 +143,141 @@ class CategoryRepositoryImplTest {
         assertThat(categoryRepository.findById(categoryId)).isEmpty();
     }
 
+    @Test
+    void 여러_ID로_카테고리_일괄_조회() {
+        // given
+        categoryRepository.save(Category.createRoot(new CategoryId(1L), "전자제품", "전자제품 카테고리"));
+        categoryRepository.save(Category.createRoot(new CategoryId(2L), "도서", "도서 카테고리"));
+        categoryRepository.save(Category.createRoot(new CategoryId(3L), "의류", "의류 카테고리"));
+
+        // when
+        List<CategoryView> categories = categoryRepository.findViewsByIds(
+            List.of(new CategoryId(1L), new CategoryId(3L), new CategoryId(999L)));
+
+        // then
+        assertThat(categories)
+            .extracting(CategoryView::name)
+            .containsExactlyInAnyOrder("전자제품", "의류");
+    }
+
+    @Test
+    void 하위_트리_ID_조회() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "전자제품", "전자제품 카테고리"));
+        categoryRepository.save(Category.create(new CategoryId(2L), "스마트폰", "스마트폰 카테고리", rootId));
+        categoryRepository.save(Category.create(new CategoryId(3L), "안드로이드", "안드로이드 카테고리", new CategoryId(2L)));
+        categoryRepository.save(Category.createRoot(new CategoryId(4L), "도서", "도서 카테고리"));
+
+        // when
+        List<CategoryId> subtreeIds = categoryRepository.findSubtreeIds(rootId);
+
+        // then
+        assertThat(subtreeIds)
+            .extracting(CategoryId::getValue)
+            .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(categoryRepository.findSubtreeIds(new CategoryId(999L))).isEmpty();
+    }
+
+    @Test
+    void 조상_ID_조회() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "전자제품", null));
+        categoryRepository.save(Category.create(new CategoryId(2L), "스마트폰", null, rootId));
+        categoryRepository.save(Category.create(new CategoryId(3L), "안드로이드", null, new CategoryId(2L)));
+        entityManager.flush();
+
+        // when
+        List<CategoryId> ancestorIds = categoryRepository.findAncestorIds(new CategoryId(3L));
+
+        // then
+        assertThat(ancestorIds)
+            .extracting(CategoryId::getValue)
+            .containsExactlyInAnyOrder(3L, 2L, 1L);
+        assertThat(categoryRepository.findAncestorIds(new CategoryId(999L))).isEmpty();
+    }
+
+    @Test
+    void 형제_이름_중복_여부를_정규화된_이름으로_확인() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "전자제품", null));
+        categoryRepository.save(Category.create(new CategoryId(2L), "Smart Phone", null, rootId));
+        entityManager.flush();
+
+        // when & then
+        String nameKey = CategoryNameNormalizer.normalize("smart  phone");
+        assertThat(categoryRepository.existsByParentIdAndNameKey(rootId, nameKey, null)).isTrue();
+        assertThat(categoryRepository.existsByParentIdAndNameKey(rootId, nameKey, new CategoryId(2L))).isFalse();
+        assertThat(categoryRepository.existsByParentIdAndNameKey(new CategoryId(2L), nameKey, null)).isFalse();
+        assertThat(categoryRepository.existsByParentIdAndNameKey(null, CategoryNameNormalizer.normalize("전자제품"), null))
+            .isTrue();
+    }
+
+    @Test
+    void 여러_카테고리_배치_삭제() {
+        // given
+        int total = CategoryRepositoryImpl.DELETE_BATCH_SIZE + 10;
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "루트", null));
+        for (long id = 2; id <= total; id++) {
+            categoryRepository.save(Category.create(new CategoryId(id), "카테고리" + id, null, rootId));
+        }
+        categoryRepository.save(Category.createRoot(new CategoryId(total + 1L), "남는 카테고리", null));
+
+        // when
+        int deleted = categoryRepository.deleteAllById(categoryRepository.findSubtreeIds(rootId));
+
+        // then
+        assertThat(deleted).isEqualTo(total);
+        assertThat(categoryRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void 같은_부모_아래_정규화된_이름_중복시_제약조건_위반() {
+        // given
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "전자제품", null));
+        categoryRepository.save(Category.create(new CategoryId(2L), "Smart Phone", null, rootId));
+        categoryRepository.save(Category.create(new CategoryId(3L), "smart  phone", null, rootId));
+
+        // when & then
+        assertThatThrownBy(() -> entityManager.flush())
+            .isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    void 루트끼리_정규화된_이름_중복시_제약조건_위반() {
+        // given
+        categoryRepository.save(Category.createRoot(new CategoryId(1L), "Electronics", null));
+        categoryRepository.save(Category.createRoot(new CategoryId(2L), "electronics", null));
+
+        // when & then
+        assertThatThrownBy(() -> entityManager.flush())
+            .isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    void 다른_부모로_이동하면_부모_키도_함께_변경() {
+        // given - 루트에서 같은 이름이 없는 부모 아래로 이동
+        CategoryId rootId = new CategoryId(1L);
+        categoryRepository.save(Category.createRoot(rootId, "전자제품", null));
+        Category phones = categoryRepository.save(Category.createRoot(new CategoryId(2L), "스마트폰", null));
+        entityManager.flush();
+
+        // when
+        phones.changeParent(rootId);
+        categoryRepository.save(phones);
+        entityManager.flush();
+
+        // then - 이동 후 빈 루트 자리에 같은 이름을 다시 만들 수 있음
+        categoryRepository.save(Category.createRoot(new CategoryId(3L), "스마트폰", null));
+        entityManager.flush();
+        assertThat(categoryRepository.existsByParentIdAndNameKey(rootId, CategoryNameNormalizer.normalize("스마트폰"), null))
+            .isTrue();
+    }
+
     @Test
     void 다음_ID_생성() {
         // given
@@ -0,0 +1,122 @@
+package com.example.categoryservice.infrastructure.persistence;
+
+import com.example.categoryservice.application.service.CategoryTreeSnapshot;
+import com.example.categoryservice.domain.model.Category;
+import com.example.categoryservice.domain.model.CategoryNameNormalizer;
+import com.example.categoryservice.domain.model.CategoryNodeView;
+import com.example.categoryservice.domain.repository.CategoryRepository;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10만 노드 트리 인덱스 적재 비용 비교 (엔티티 findAll 대 ID/이름/부모 ID 프로젝션, 읽기 전용 대 읽기-쓰기 트랜잭션)
+ * 측정마다 트랜잭션을 새로 열고 커밋하므로, 읽기-쓰기 트랜잭션의 엔티티 경로는 커밋 시 flush 의 더티 체킹 비용까지 포함합니다.
+ * 시간과 함께 측정 스레드의 할당 바이트(ThreadMXBean)를 출력합니다.
+ * 시간은 환경에 따라 달라지므로 ./gradlew benchmark 에서만 실행합니다.
+ */
+@DataJpaTest
+@Import(CategoryRepositoryImpl.class)
+@ActiveProfiles("test")
+@Tag("benchmark")
+// 측정마다 트랜잭션 종류를 직접 정하도록 테스트 트랜잭션을 열지 않음 (넣은 행은 AfterEach 에서 지움)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("카테고리 트리 적재 벤치마크")
+class CategoryTreeLoadBenchmarkTest {
+
+    private static final int NODES = 100_000;
+    private static final int FAN_OUT = 10;
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    void setUp() {
+        // 처음 FAN_OUT 개는 루트, 나머지는 (id - 1) / FAN_OUT 번 노드의 자식 (깊이 약 5)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 10, 0));
+        List<Object[]> rows = new ArrayList<>(NODES);
+        for (long id = 1; id <= NODES; id++) {
+            String name = "카테고리 " + id;
+            Long parentId = id <= FAN_OUT ? null : (id - 1) / FAN_OUT;
+            rows.add(new Object[]{id, name, CategoryNameNormalizer.normalize(name), name + " 설명", parentId,
+                parentId != null ? parentId : Category.ROOT_PARENT_KEY, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO categories (id, name, name_key, description, parent_id, parent_key, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """, rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM categories");
+    }
+
+    @Test
+    void 엔티티와_프로젝션_적재_비교() {
+        Supplier<CategoryTreeSnapshot> entities = () -> CategoryTreeSnapshot.build(
+            categoryRepository.findAll().stream().map(CategoryNodeView::from).toList());
+        Supplier<CategoryTreeSnapshot> projection = () -> CategoryTreeSnapshot.build(categoryRepository.findAllNodeViews());
+
+        CategoryTreeSnapshot entitiesReadWrite = measure("entities", false, entities);
+        CategoryTreeSnapshot entitiesReadOnly = measure("entities", true, entities);
+        CategoryTreeSnapshot projectionReadWrite = measure("projection", false, projection);
+        CategoryTreeSnapshot projectionReadOnly = measure("projection", true, projection);
+
+        assertThat(entitiesReadWrite.size()).isEqualTo(NODES);
+        assertThat(entitiesReadOnly.size()).isEqualTo(NODES);
+        assertThat(projectionReadWrite.size()).isEqualTo(NODES);
+        assertThat(projectionReadOnly.size()).isEqualTo(NODES);
+    }
+
+    private CategoryTreeSnapshot measure(String label, boolean readOnly, Supplier<CategoryTreeSnapshot> load) {
+        // 측정마다 새 트랜잭션(새 영속성 컨텍스트)에서 적재하고 커밋까지 포함. 워밍업 1회 후 평균
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        CategoryTreeSnapshot result = transaction.execute(status -> load.get());
+
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startBytes = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            result = transaction.execute(status -> load.get());
+            totalNanos += System.nanoTime() - start;
+            totalBytes += threads.getCurrentThreadAllocatedBytes() - startBytes;
+        }
+        System.out.printf("%-10s %-10s nodes=%,d  load=%,8.2f ms  allocated=%,8.1f MB%n",
+            label, readOnly ? "read-only" : "read-write", NODES,
+            totalNanos / ITERATIONS / 1_000_000.0, totalBytes / ITERATIONS / (1024.0 * 1024.0));
+        return result;
+    }
+}
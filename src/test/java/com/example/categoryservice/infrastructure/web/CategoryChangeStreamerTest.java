@@ -0,0 +1,242 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.in.CategoryUseCase;
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.service.CategoryChangeBroadcaster;
+import com.example.categoryservice.application.service.CategoryMapper;
+import com.example.categoryservice.domain.model.CategoryChange;
+import com.example.categoryservice.domain.model.CategoryId;
+import com.example.categoryservice.domain.repository.CategoryChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CategoryChangeStreamer 테스트")
+class CategoryChangeStreamerTest {
+
+    private final CategoryUseCase categoryUseCase = mock(CategoryUseCase.class);
+    private final CategoryChangeLogRepository changeLogRepository = mock(CategoryChangeLogRepository.class);
+    private final CategoryMapper categoryMapper = mock(CategoryMapper.class);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+
+    private final QueuedExecutor executor = new QueuedExecutor();
+    private final AtomicLong nanoTime = new AtomicLong(1L);
+    private CategoryChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new CategoryChangeBroadcaster(changeLogRepository, categoryMapper);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 버전 이후 변경을 재전송한 뒤 실시간 변경을 중복 없이 이어서 전송")
+    void 재전송_후_실시간_변경을_중복_없이_전송() {
+        // given - 버전 5 까지 받은 클라이언트, 버전 5 의 마지막 변경은 시퀀스 10
+        when(changeLogRepository.sequenceAtVersion(5L)).thenReturn(10L);
+        when(categoryUseCase.getChanges(10L, CategoryChangeStreamer.REPLAY_PAGE_SIZE))
+            .thenReturn(new CategoryChangeFeedResponse(List.of(change(11L, 6L), change(12L, 7L)), 12L, false));
+        CapturingEmitter emitter = new CapturingEmitter();
+        streamer(16, 100).open(emitter, 5L);
+
+        // when - 재전송 조회 전에 커밋된 12 가 변경 로그 폴링으로 버퍼에도 들어옴
+        broadcaster.publish(published(change(12L, 7L), change(13L, 8L)));
+        executor.runAll();
+
+        // then - 이벤트 ID 는 카탈로그 버전
+        assertThat(emitter.eventIds("change")).containsExactly("6", "7", "8");
+        assertThat(emitter.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 버전의 변경은 마지막 변경에만 이벤트 ID 를 붙임")
+    void 한_버전의_마지막_변경에만_이벤트_ID_를_붙임() {
+        // given - 버전 3 은 하위 트리 삭제로 변경 두 건
+        CapturingEmitter emitter = new CapturingEmitter();
+        streamer(16, 100).open(emitter, null);
+
+        // when
+        broadcaster.publish(published(change(1L, 3L), change(2L, 3L), change(3L, 4L)));
+        executor.runAll();
+
+        // then - ID 가 없는 이벤트는 직전 ID 를 유지하므로 끊겨도 Last-Event-ID 는 다 받은 버전
+        assertThat(emitter.eventIds("change")).containsExactly("null", "3", "4");
+    }
+
+    @Test
+    @DisplayName("버퍼가 넘친 구독자에게는 resync 를 보내고 연결 종료")
+    void 버퍼가_넘치면_resync_후_종료() {
+        // given
+        when(changeLogRepository.latestCatalogVersion()).thenReturn(3L);
+        CapturingEmitter emitter = new CapturingEmitter();
+        streamer(2, 100).open(emitter, null);
+
+        // when - 전송 스레드가 밀린 사이 버퍼 크기보다 많은 변경이 커밋됨
+        broadcaster.publish(published(change(1L, 1L), change(2L, 2L), change(3L, 3L)));
+        executor.runAll();
+
+        // then
+        assertThat(emitter.eventIds("change")).isEmpty();
+        assertThat(emitter.eventIds("resync")).containsExactly("3");
+        assertThat(emitter.completed).isTrue();
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재전송할 변경이 한도를 넘으면 resync")
+    void 재전송_한도를_넘으면_resync() {
+        // given
+        when(categoryUseCase.getChanges(0L, CategoryChangeStreamer.REPLAY_PAGE_SIZE))
+            .thenReturn(new CategoryChangeFeedResponse(
+                List.of(change(1L, 1L), change(2L, 2L), change(3L, 3L)), 3L, true));
+        when(changeLogRepository.latestCatalogVersion()).thenReturn(900L);
+        CapturingEmitter emitter = new CapturingEmitter();
+
+        // when
+        streamer(16, 2).open(emitter, 0L);
+        executor.runAll();
+
+        // then
+        assertThat(emitter.eventIds("change")).isEmpty();
+        assertThat(emitter.eventIds("resync")).containsExactly("900");
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송이 send-timeout 보다 오래 막힌 구독자는 끊고 남은 이벤트를 보내지 않음")
+    void 전송이_오래_막힌_구독자는_끊음() {
+        // given - 첫 전송이 막힌 동안 느린 구독자 정리가 실행됨
+        CategoryChangeStreamer streamer = streamer(16, 100);
+        CapturingEmitter emitter = new CapturingEmitter();
+        emitter.onSend = () -> {
+            nanoTime.addAndGet(SEND_TIMEOUT.plusSeconds(1).toNanos());
+            streamer.dropSlowSubscribers();
+        };
+        streamer.open(emitter, null);
+
+        // when
+        broadcaster.publish(published(change(1L, 1L), change(2L, 2L), change(3L, 3L)));
+        executor.runAll();
+
+        // then
+        assertThat(emitter.eventIds("change")).containsExactly("1");
+        assertThat(emitter.completed).isTrue();
+        assertThat(streamer.sessionCount()).isZero();
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 스레드가 모두 막혀 있으면 새 구독자를 끊음")
+    void 전송_스레드가_모두_막혀_있으면_구독자를_끊음() {
+        // given
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("saturated");
+        };
+        CategoryChangeStreamer streamer = new CategoryChangeStreamer(categoryUseCase, broadcaster, 16, 100,
+            Duration.ofMinutes(1), SEND_TIMEOUT, saturated, nanoTime::get);
+        CapturingEmitter emitter = new CapturingEmitter();
+
+        // when
+        streamer.open(emitter, null);
+
+        // then
+        assertThat(emitter.completed).isTrue();
+        assertThat(streamer.sessionCount()).isZero();
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    private CategoryChangeStreamer streamer(int bufferSize, int maxReplay) {
+        return new CategoryChangeStreamer(categoryUseCase, broadcaster, bufferSize, maxReplay, Duration.ofMinutes(1),
+            SEND_TIMEOUT, executor, nanoTime::get);
+    }
+
+    private List<CategoryChange> published(CategoryChangeResponse... responses) {
+        List<CategoryChange> changes = new ArrayList<>();
+        for (CategoryChangeResponse response : responses) {
+            CategoryChange change = CategoryChange.deleted(new CategoryId(response.sequence()));
+            when(categoryMapper.toChangeResponse(change)).thenReturn(response);
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private static CategoryChangeResponse change(Long sequence, long catalogVersion) {
+        return new CategoryChangeResponse(sequence, catalogVersion, "DELETED", sequence, null, null, null, null);
+    }
+
+    /**
+     * 전송 작업을 모아 두었다가 테스트에서 원하는 시점에 실행
+     */
+    private static final class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * 전송된 이벤트를 "event 이름 → id" 순서로 기록
+     */
+    private static final class CapturingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+        private Runnable onSend = () -> { };
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            onSend.run();
+            String raw = builder.build().stream()
+                .map(DataWithMediaType::getData)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .collect(Collectors.joining());
+            String id = null;
+            String name = null;
+            for (String line : raw.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            events.add(name + "=" + id);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> eventIds(String name) {
+            return events.stream()
+                .filter(event -> event.startsWith(name + "="))
+                .map(event -> event.substring(name.length() + 1))
+                .toList();
+        }
+    }
+}
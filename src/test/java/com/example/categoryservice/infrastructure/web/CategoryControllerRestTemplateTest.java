@@ -1,10 +1,13 @@
 package com.example.categoryservice.infrastructure.web;
 
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
 import com.example.categoryservice.domain.model.Category;
 import com.example.categoryservice.domain.model.CategoryId;
 import com.example.categoryservice.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +41,16 @@ class CategoryControllerRestTemplateTest {
         return "http://localhost:" + port + "/api/v1/categories";
     }
 
+    @BeforeEach
+    void setUp() {
+        // 서버 측 트랜잭션은 커밋되므로 이전 테스트 데이터를 API로 정리 (형제 이름 중복 방지)
+        CategoryTreeResponse tree = restTemplate.getForObject(baseUrl(), CategoryTreeResponse.class);
+        if (tree != null) {
+            tree.categories().forEach(root ->
+                    restTemplate.delete(baseUrl() + "/" + root.id() + "?cascade=true"));
+        }
+    }
+
     @Test
     @DisplayName("카테고리 생성 성공")
     void 카테고리_생성_성공() {
@@ -125,6 +138,22 @@ class CategoryControllerRestTemplateTest {
         assertThat(response.getBody().get("code")).isEqualTo("CATEGORY_NOT_FOUND");
     }
 
+    @Test
+    @DisplayName("형제 카테고리 이름 중복시 409")
+    void 형제_카테고리_이름_중복시_409() {
+        // given
+        CreateCategoryRequest request = new CreateCategoryRequest("전자제품", "전자제품 카테고리", null);
+        restTemplate.postForEntity(baseUrl(), request, CategoryResponse.class);
+
+        // when - 대소문자/공백만 다른 이름도 중복으로 판단
+        CreateCategoryRequest duplicate = new CreateCategoryRequest(" 전자제품 ", null, null);
+        ResponseEntity<Map> response = restTemplate.postForEntity(baseUrl(), duplicate, Map.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().get("code")).isEqualTo("DUPLICATE_CATEGORY_NAME");
+    }
+
     @Test
     @DisplayName("전체 카테고리 트리 조회")
     void 전체_카테고리_트리_조회() {
@@ -166,6 +195,57 @@ class CategoryControllerRestTemplateTest {
         assertThat(response.getBody().categories()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("버전을 지정하면 이후 변경과 무관하게 같은 트리를 조회")
+    void 버전을_지정하면_이후_변경과_무관하게_같은_트리를_조회() {
+        // given - 트리 버전 확인
+        CreateCategoryRequest parentRequest = new CreateCategoryRequest("전자제품", "전자제품 카테고리", null);
+        Long parentId = restTemplate.postForEntity(baseUrl(), parentRequest, CategoryResponse.class).getBody().id();
+        ResponseEntity<CategoryTreeResponse> before = restTemplate.getForEntity(baseUrl(), CategoryTreeResponse.class);
+        String version = before.getHeaders().getFirst("X-Catalog-Version");
+
+        // when - 트리 변경 후 이전 버전으로 조회
+        restTemplate.postForEntity(baseUrl(), new CreateCategoryRequest("스마트폰", null, parentId), CategoryResponse.class);
+        ResponseEntity<CategoryTreeResponse> latest = restTemplate.getForEntity(
+                baseUrl() + "/" + parentId + "/tree", CategoryTreeResponse.class);
+        ResponseEntity<CategoryTreeResponse> pinned = restTemplate.getForEntity(
+                baseUrl() + "/" + parentId + "/tree?version=" + version, CategoryTreeResponse.class);
+
+        // then
+        assertThat(version).isNotNull();
+        assertThat(latest.getHeaders().getFirst("X-Catalog-Version")).isNotEqualTo(version);
+        assertThat(latest.getBody().categories().get(0).children()).hasSize(1);
+        assertThat(pinned.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(pinned.getHeaders().getFirst("X-Catalog-Version")).isEqualTo(version);
+        assertThat(pinned.getBody().categories().get(0).children()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 피드로 생성과 삭제를 순서대로 조회")
+    void 변경_피드로_생성과_삭제를_순서대로_조회() {
+        // given - 현재까지의 변경은 이미 반영했다고 가정
+        CategoryChangeFeedResponse caughtUp = restTemplate.getForObject(baseUrl() + "/changes?limit=1000", CategoryChangeFeedResponse.class);
+        while (caughtUp.hasMore()) {
+            caughtUp = restTemplate.getForObject(
+                    baseUrl() + "/changes?limit=1000&since=" + caughtUp.nextSince(), CategoryChangeFeedResponse.class);
+        }
+        long since = caughtUp.nextSince();
+        CreateCategoryRequest request = new CreateCategoryRequest("전자제품", "전자제품 카테고리", null);
+        Long categoryId = restTemplate.postForEntity(baseUrl(), request, CategoryResponse.class).getBody().id();
+        restTemplate.delete(baseUrl() + "/" + categoryId);
+
+        // when
+        CategoryChangeFeedResponse feed = restTemplate.getForObject(
+                baseUrl() + "/changes?since=" + since, CategoryChangeFeedResponse.class);
+
+        // then
+        assertThat(feed.changes()).extracting(CategoryChangeResponse::type).containsExactly("CREATED", "DELETED");
+        assertThat(feed.changes()).allSatisfy(change -> assertThat(change.categoryId()).isEqualTo(categoryId));
+        assertThat(feed.changes().get(0).name()).isEqualTo("전자제품");
+        assertThat(feed.nextSince()).isEqualTo(feed.changes().get(1).sequence());
+        assertThat(feed.hasMore()).isFalse();
+    }
+
     @Test
     @DisplayName("카테고리 수정 성공")
     void 카테고리_수정_성공() {
@@ -3,23 +3,44 @@ package com.example.categoryservice.infrastructure.web;
 import com.example.categoryservice.application.port.in.CategoryUseCase;
 import com.example.categoryservice.application.port.in.CreateCategoryCommand;
 import com.example.categoryservice.application.port.in.UpdateCategoryCommand;
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryCompactTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFacetTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryFlatTreeResponse;
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryPathResponse;
 import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategorySuggestionResponse;
+import com.example.categoryservice.application.port.out.CategorySummaryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffEntryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeDiffResponse;
 import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.application.port.out.VersionedCategoryTreeResponse;
+import com.example.categoryservice.domain.exception.CatalogVersionExpiredException;
 import com.example.categoryservice.domain.exception.CategoryHasChildrenException;
 import com.example.categoryservice.domain.exception.CategoryNotFoundException;
+import com.example.categoryservice.domain.exception.DuplicateCategoryNameException;
 import com.example.categoryservice.domain.model.CategoryId;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -76,6 +97,59 @@ class CategoryControllerTest {
         verify(categoryUseCase, never()).createCategory(any());
     }
 
+    @Test
+    @DisplayName("형제 카테고리 이름 중복시 409")
+    void 형제_카테고리_이름_중복시_409() throws Exception {
+        // given
+        CreateCategoryRequest request = new CreateCategoryRequest("스마트폰", null, 1L);
+
+        when(categoryUseCase.createCategory(any(CreateCategoryCommand.class)))
+                .thenThrow(new DuplicateCategoryNameException(new CategoryId(1L), "스마트폰"));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_CATEGORY_NAME"));
+    }
+
+    @Test
+    @DisplayName("동시 생성으로 형제 이름 유니크 제약 위반시 같은 중복 코드로 409")
+    void 동시_생성으로_형제_이름_유니크_제약_위반시_같은_중복_코드로_409() throws Exception {
+        // given
+        CreateCategoryRequest request = new CreateCategoryRequest("스마트폰", null, 1L);
+
+        when(categoryUseCase.createCategory(any(CreateCategoryCommand.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("Unique index or primary key violation: \"PUBLIC.UK_CATEGORIES_PARENT_NAME_INDEX_4\"")));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_CATEGORY_NAME"));
+    }
+
+    @Test
+    @DisplayName("다른 무결성 제약 위반은 일반 충돌 코드로 409")
+    void 다른_무결성_제약_위반은_일반_충돌_코드로_409() throws Exception {
+        // given
+        CreateCategoryRequest request = new CreateCategoryRequest("스마트폰", null, 1L);
+
+        when(categoryUseCase.createCategory(any(CreateCategoryCommand.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("Unique index or primary key violation: \"PUBLIC.PRIMARY_KEY_4\"")));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/categories")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DATA_INTEGRITY_VIOLATION"));
+    }
+
     @Test
     @DisplayName("카테고리 단일 조회 API 성공")
     void 카테고리_단일_조회_API_성공() throws Exception {
@@ -95,6 +169,156 @@ class CategoryControllerTest {
         verify(categoryUseCase).getCategory(new CategoryId(categoryId));
     }
 
+    @Test
+    @DisplayName("카테고리 단일 조회 API - 요청한 필드만 반환")
+    void 카테고리_단일_조회_API_필드_선택() throws Exception {
+        // given
+        CategoryResponse response = new CategoryResponse(1L, "전자제품", "전자제품 카테고리", null,
+                LocalDateTime.now(), LocalDateTime.now());
+
+        when(categoryUseCase.getCategory(new CategoryId(1L))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}", 1L).param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.name").value("전자제품"))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.created_at").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 CBOR 이면 CBOR 로 응답")
+    void 카테고리_단일_조회_API_CBOR_응답() throws Exception {
+        // given
+        when(categoryUseCase.getCategory(new CategoryId(1L)))
+                .thenReturn(new CategoryResponse(1L, "전자제품", "전자제품 카테고리", null, null, null));
+
+        // when
+        byte[] body = mockMvc.perform(get("/api/v1/categories/{id}", 1L).accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode node = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(node.get("id").asLong()).isEqualTo(1L);
+        assertThat(node.get("name").asText()).isEqualTo("전자제품");
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 protobuf 이면 protobuf wire format 으로 응답")
+    void 카테고리_트리_조회_API_protobuf_응답() throws Exception {
+        // given
+        CategoryTreeResponse response = new CategoryTreeResponse(List.of(
+                new CategoryNodeResponse(1L, "전자제품", null, null, null, List.of())));
+
+        when(categoryUseCase.getAllCategoriesAtVersion(null)).thenReturn(new VersionedCategoryTreeResponse(1L, response));
+
+        // when
+        byte[] body = mockMvc.perform(get("/api/v1/categories").accept(CategoryProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CategoryProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertThat(CategoryProtoCodec.decodeTree(body)).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("Accept 헤더가 없으면 JSON 으로 응답")
+    void Accept_헤더가_없으면_JSON_응답() throws Exception {
+        // given
+        when(categoryUseCase.getCategory(new CategoryId(1L)))
+                .thenReturn(new CategoryResponse(1L, "전자제품", null, null, null, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("카테고리 단일 조회 API - 알 수 없는 필드 요청시 400")
+    void 카테고리_단일_조회_API_알_수_없는_필드_400() throws Exception {
+        // given
+        when(categoryUseCase.getCategory(new CategoryId(1L)))
+                .thenReturn(new CategoryResponse(1L, "전자제품", null, null, null, null));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}", 1L).param("fields", "id,price"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+    }
+
+    @Test
+    @DisplayName("전체 카테고리 간략 트리 조회 API 성공")
+    void 전체_카테고리_간략_트리_조회_API_성공() throws Exception {
+        // given
+        CategoryCompactTreeResponse response = new CategoryCompactTreeResponse(List.of(
+                new CategoryCompactNodeResponse(1L, "전자제품", 1, List.of(
+                        new CategoryCompactNodeResponse(2L, "스마트폰", 0, List.of())))));
+
+        when(categoryUseCase.getAllCategoriesCompact(true)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories").param("view", "compact").param("child_count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[0].name").value("전자제품"))
+                .andExpect(jsonPath("$.categories[0].length()").value(4)) // id, name, child count, children
+                .andExpect(jsonPath("$.categories[0].description").doesNotExist())
+                .andExpect(jsonPath("$.categories[0].children[0].id").value(2L));
+
+        verify(categoryUseCase, never()).getAllCategoriesAtVersion(any());
+    }
+
+    @Test
+    @DisplayName("하위 간략 트리 조회 API는 하위 개수를 기본으로 생략")
+    void 하위_간략_트리_조회_API_성공() throws Exception {
+        // given
+        CategoryCompactTreeResponse response = new CategoryCompactTreeResponse(List.of(
+                new CategoryCompactNodeResponse(1L, "전자제품", null, List.of())));
+
+        when(categoryUseCase.getCategoryTreeCompact(new CategoryId(1L), false)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}/tree", 1L).param("view", "compact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[0].id").value(1L))
+                .andExpect(jsonPath("$.categories[0].length()").value(3)); // id, name, children
+    }
+
+    @Test
+    @DisplayName("전체 카테고리 평면 트리 조회 API 성공")
+    void 전체_카테고리_평면_트리_조회_API_성공() throws Exception {
+        // given
+        CategoryFlatTreeResponse response = new CategoryFlatTreeResponse(
+                new long[]{1L, 2L}, new String[]{"전자제품", "스마트폰"}, new int[]{-1, 0});
+
+        when(categoryUseCase.getAllCategoriesFlat()).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories").param("format", "flat"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3)) // ids, names, parent indexes
+                .andExpect(jsonPath("$.ids[1]").value(2L))
+                .andExpect(jsonPath("$.names[0]").value("전자제품"));
+
+        verify(categoryUseCase, never()).getAllCategoriesAtVersion(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 루트로 평면 트리 조회시 404")
+    void 존재하지_않는_루트로_평면_트리_조회시_404() throws Exception {
+        // given
+        when(categoryUseCase.getCategoryTreeFlat(new CategoryId(999L)))
+                .thenThrow(new CategoryNotFoundException(new CategoryId(999L)));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}/tree", 999L).param("format", "flat"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("존재하지 않는 카테고리 조회시 404")
     void 존재하지_않는_카테고리_조회시_404() throws Exception {
@@ -111,20 +335,90 @@ class CategoryControllerTest {
         verify(categoryUseCase).getCategory(new CategoryId(categoryId));
     }
 
+    @Test
+    @DisplayName("카테고리 다건 조회 API 성공")
+    void 카테고리_다건_조회_API_성공() throws Exception {
+        // given
+        List<CategoryId> ids = List.of(new CategoryId(1L), new CategoryId(2L));
+        List<CategoryResponse> responses = List.of(
+                new CategoryResponse(1L, "전자제품", "전자제품 카테고리", null, LocalDateTime.now(), LocalDateTime.now()),
+                new CategoryResponse(2L, "도서", "도서 카테고리", null, LocalDateTime.now(), LocalDateTime.now()));
+
+        when(categoryUseCase.getCategories(ids)).thenReturn(responses);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories.length()").value(2))
+                .andExpect(jsonPath("$.categories[0].name").value("전자제품"));
+
+        verify(categoryUseCase).getCategories(ids);
+        verify(categoryUseCase, never()).getAllCategoriesAtVersion(any());
+    }
+
+    @Test
+    @DisplayName("카테고리 대량 조회 API 성공")
+    void 카테고리_대량_조회_API_성공() throws Exception {
+        // given
+        List<CategoryId> ids = List.of(new CategoryId(3L), new CategoryId(1L));
+        CategoryIdsRequest request = new CategoryIdsRequest(List.of(3L, 1L));
+
+        when(categoryUseCase.getCategories(ids)).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories").isArray());
+
+        verify(categoryUseCase).getCategories(ids);
+    }
+
+    @Test
+    @DisplayName("카테고리 대량 조회시 빈 목록이면 400")
+    void 카테고리_대량_조회시_빈_목록이면_400() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/v1/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryIdsRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(categoryUseCase, never()).getCategories(any());
+    }
+
+    @Test
+    @DisplayName("이름 경로로 카테고리 조회 API 성공")
+    void 이름_경로로_카테고리_조회_API_성공() throws Exception {
+        // given
+        CategoryResponse response = new CategoryResponse(3L, "Android", null, 2L,
+                LocalDateTime.now(), LocalDateTime.now());
+
+        when(categoryUseCase.getCategoryByPath(List.of("Electronics", "Phones", "Android"))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/by-path/Electronics/Phones/Android"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(3L));
+
+        verify(categoryUseCase).getCategoryByPath(List.of("Electronics", "Phones", "Android"));
+    }
+
     @Test
     @DisplayName("전체 카테고리 트리 조회 API 성공")
     void 전체_카테고리_트리_조회_API_성공() throws Exception {
         // given
         CategoryTreeResponse response = new CategoryTreeResponse(List.of());
 
-        when(categoryUseCase.getAllCategories()).thenReturn(response);
+        when(categoryUseCase.getAllCategoriesAtVersion(null)).thenReturn(new VersionedCategoryTreeResponse(3L, response));
 
         // when & then
         mockMvc.perform(get("/api/v1/categories"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Catalog-Version", "3"))
                 .andExpect(jsonPath("$.categories").isArray());
 
-        verify(categoryUseCase).getAllCategories();
+        verify(categoryUseCase).getAllCategoriesAtVersion(null);
     }
 
     @Test
@@ -134,14 +428,204 @@ class CategoryControllerTest {
         Long categoryId = 1L;
         CategoryTreeResponse response = new CategoryTreeResponse(List.of());
 
-        when(categoryUseCase.getCategoryTree(new CategoryId(categoryId))).thenReturn(response);
+        when(categoryUseCase.getCategoryTreeAtVersion(new CategoryId(categoryId), null))
+                .thenReturn(new VersionedCategoryTreeResponse(3L, response));
 
         // when & then
         mockMvc.perform(get("/api/v1/categories/{id}/tree", categoryId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.categories").isArray());
 
-        verify(categoryUseCase).getCategoryTree(new CategoryId(categoryId));
+        verify(categoryUseCase).getCategoryTreeAtVersion(new CategoryId(categoryId), null);
+    }
+
+    @Test
+    @DisplayName("버전을 지정하면 해당 버전의 하위 트리를 조회")
+    void 버전을_지정하면_해당_버전의_하위_트리를_조회() throws Exception {
+        // given
+        CategoryTreeResponse response = new CategoryTreeResponse(List.of(
+                new CategoryNodeResponse(1L, "전자제품", null, null, null, List.of())));
+
+        when(categoryUseCase.getCategoryTreeAtVersion(new CategoryId(1L), 2L))
+                .thenReturn(new VersionedCategoryTreeResponse(2L, response));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}/tree", 1L).param("version", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Catalog-Version", "2"))
+                .andExpect(jsonPath("$.categories[0].name").value("전자제품"));
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 버전 조회시 410")
+    void 보존_기간이_지난_버전_조회시_410() throws Exception {
+        // given
+        when(categoryUseCase.getAllCategoriesAtVersion(1L)).thenThrow(new CatalogVersionExpiredException(1L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories").param("version", "1"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.code").value("CATALOG_VERSION_EXPIRED"));
+    }
+
+    @Test
+    @DisplayName("간략/평면 트리에 버전을 지정하면 400")
+    void 간략_평면_트리에_버전을_지정하면_400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/categories").param("view", "compact").param("version", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+        mockMvc.perform(get("/api/v1/categories/{id}/tree", 1L).param("format", "flat").param("version", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+
+        verify(categoryUseCase, never()).getAllCategoriesCompact(anyBoolean());
+        verify(categoryUseCase, never()).getCategoryTreeFlat(any());
+    }
+
+    @Test
+    @DisplayName("ids 와 view 를 함께 지정하면 모호한 매핑 없이 400")
+    void ids_와_view_를_함께_지정하면_모호한_매핑_없이_400() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/categories").param("ids", "1,2").param("view", "compact"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_ARGUMENT"));
+
+        verify(categoryUseCase, never()).getCategories(any());
+        verify(categoryUseCase, never()).getAllCategoriesCompact(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전 간 트리 차이 조회 API 성공")
+    void 카탈로그_버전_간_트리_차이_조회_API_성공() throws Exception {
+        // given
+        when(categoryUseCase.getTreeDiff(3L, null)).thenReturn(new CategoryTreeDiffResponse(3L, 5L, List.of(
+                new CategoryTreeDiffEntryResponse("MOVED", 2L, "스마트폰", null, 4L),
+                new CategoryTreeDiffEntryResponse("DELETED", 7L, null, null, null))));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/diff").param("from", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Catalog-Version", "5"))
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].type").value("MOVED"))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETED"));
+
+        verify(categoryUseCase).getTreeDiff(3L, null);
+    }
+
+    @Test
+    @DisplayName("카테고리 경로 조회 API 성공")
+    void 카테고리_경로_조회_API_성공() throws Exception {
+        // given
+        CategoryPathResponse response = new CategoryPathResponse(2L, List.of(
+                new CategorySummaryResponse(1L, "전자제품"),
+                new CategorySummaryResponse(2L, "스마트폰")));
+
+        when(categoryUseCase.getAncestors(new CategoryId(2L))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}/ancestors", 2L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.path.length()").value(2))
+                .andExpect(jsonPath("$.path[0].name").value("전자제품"));
+
+        verify(categoryUseCase).getAncestors(new CategoryId(2L));
+    }
+
+    @Test
+    @DisplayName("카테고리 경로 다건 조회 API 성공")
+    void 카테고리_경로_다건_조회_API_성공() throws Exception {
+        // given
+        List<CategoryId> ids = List.of(new CategoryId(2L), new CategoryId(3L));
+
+        when(categoryUseCase.getAncestorPaths(ids)).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/ancestors").param("ids", "2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths").isArray());
+
+        verify(categoryUseCase).getAncestorPaths(ids);
+    }
+
+    @Test
+    @DisplayName("카테고리 포함 관계 확인 API 성공")
+    void 카테고리_포함_관계_확인_API_성공() throws Exception {
+        // given
+        when(categoryUseCase.isAncestorOrSelf(new CategoryId(1L), new CategoryId(3L))).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/{id}/contains/{descendantId}", 1L, 3L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contains").value(true));
+
+        verify(categoryUseCase).isAncestorOrSelf(new CategoryId(1L), new CategoryId(3L));
+    }
+
+    @Test
+    @DisplayName("패싯용 최소 트리 조회 API 성공")
+    void 패싯용_최소_트리_조회_API_성공() throws Exception {
+        // given
+        CategoryFacetTreeRequest request = new CategoryFacetTreeRequest(List.of(3L, 4L), Map.of(3L, 10L));
+
+        when(categoryUseCase.getCoveringTree(List.of(new CategoryId(3L), new CategoryId(4L)), Map.of(3L, 10L)))
+                .thenReturn(new CategoryFacetTreeResponse(List.of()));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/categories/covering-tree")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories").isArray());
+
+        verify(categoryUseCase).getCoveringTree(List.of(new CategoryId(3L), new CategoryId(4L)), Map.of(3L, 10L));
+    }
+
+    @Test
+    @DisplayName("카테고리 이름 자동완성 API 성공")
+    void 카테고리_이름_자동완성_API_성공() throws Exception {
+        // given
+        when(categoryUseCase.suggestCategories("전자", 5))
+                .thenReturn(List.of(new CategorySuggestionResponse(1L, "전자제품", null, 0)));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/suggest").param("q", "전자").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions[0].name").value("전자제품"));
+
+        verify(categoryUseCase).suggestCategories("전자", 5);
+    }
+
+    @Test
+    @DisplayName("카테고리 전문 검색 API 성공")
+    void 카테고리_전문_검색_API_성공() throws Exception {
+        // given
+        when(categoryUseCase.searchCategories("스마트폰 OR 태블릿", 20)).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/search").param("q", "스마트폰 OR 태블릿"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").isArray());
+
+        verify(categoryUseCase).searchCategories("스마트폰 OR 태블릿", 20);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 피드 API 성공")
+    void 카테고리_변경_피드_API_성공() throws Exception {
+        // given
+        when(categoryUseCase.getChanges(10L, 100)).thenReturn(new CategoryChangeFeedResponse(
+                List.of(new CategoryChangeResponse(11L, 1L, "MOVED", 2L, "스마트폰", null, 1L, null)), 11L, false));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/categories/changes").param("since", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].type").value("MOVED"))
+                .andExpect(jsonPath("$.changes[0].sequence").value(11));
+
+        verify(categoryUseCase).getChanges(10L, 100);
     }
 
     @Test
@@ -181,6 +665,22 @@ class CategoryControllerTest {
         verify(categoryUseCase).deleteCategory(new CategoryId(categoryId));
     }
 
+    @Test
+    @DisplayName("cascade 옵션으로 하위 트리 삭제 API 성공")
+    void cascade_옵션으로_하위_트리_삭제_API_성공() throws Exception {
+        // given
+        Long categoryId = 1L;
+
+        when(categoryUseCase.deleteCategorySubtree(new CategoryId(categoryId))).thenReturn(3);
+
+        // when & then
+        mockMvc.perform(delete("/api/v1/categories/{id}", categoryId).param("cascade", "true"))
+                .andExpect(status().isNoContent());
+
+        verify(categoryUseCase).deleteCategorySubtree(new CategoryId(categoryId));
+        verify(categoryUseCase, never()).deleteCategory(any());
+    }
+
     @Test
     @DisplayName("하위 카테고리가 있는 카테고리 삭제시 400")
     void 하위_카테고리가_있는_카테고리_삭제시_400() throws Exception {
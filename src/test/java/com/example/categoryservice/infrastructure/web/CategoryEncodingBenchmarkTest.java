@@ -0,0 +1,118 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.infrastructure.config.ApplicationConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 트리 응답의 인코딩별 크기와 인코딩/디코딩 시간 비교
+ * 크기와 왕복 정확성은 단위 테스트로 검증하고, 시간 측정은 benchmark 태그로 분리해 ./gradlew benchmark 에서만 실행합니다.
+ */
+@DisplayName("카테고리 트리 인코딩 벤치마크")
+class CategoryEncodingBenchmarkTest {
+
+    private static final int ROOTS = 20;
+    private static final int CHILDREN_PER_NODE = 10;
+    private static final int DEPTH = 3;
+    private static final int ITERATIONS = 20;
+
+    private static CategoryTreeResponse tree;
+    private static ObjectMapper json;
+    private static ObjectMapper cbor;
+    private static ObjectMapper smile;
+
+    @BeforeAll
+    static void setUp() {
+        json = new ApplicationConfig().objectMapper();
+        cbor = json.copyWith(new CBORFactory());
+        smile = json.copyWith(new SmileFactory());
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        long[] nextId = {1};
+        List<CategoryNodeResponse> roots = new ArrayList<>();
+        for (int i = 0; i < ROOTS; i++) {
+            roots.add(buildNode(nextId, 1, now));
+        }
+        tree = new CategoryTreeResponse(roots);
+    }
+
+    private static CategoryNodeResponse buildNode(long[] nextId, int depth, LocalDateTime now) {
+        long id = nextId[0]++;
+        List<CategoryNodeResponse> children = new ArrayList<>();
+        if (depth < DEPTH) {
+            for (int i = 0; i < CHILDREN_PER_NODE; i++) {
+                children.add(buildNode(nextId, depth + 1, now));
+            }
+        }
+        return new CategoryNodeResponse(id, "카테고리 " + id, "카테고리 " + id + " 설명", now, now, children);
+    }
+
+    @Test
+    void 인코딩별_크기_비교와_왕복_검증() throws Exception {
+        // when
+        byte[] jsonBytes = json.writeValueAsBytes(tree);
+        byte[] cborBytes = cbor.writeValueAsBytes(tree);
+        byte[] smileBytes = smile.writeValueAsBytes(tree);
+        byte[] protoBytes = CategoryProtoCodec.encode(tree);
+
+        // then
+        assertThat(cbor.readValue(cborBytes, CategoryTreeResponse.class)).isEqualTo(tree);
+        assertThat(smile.readValue(smileBytes, CategoryTreeResponse.class)).isEqualTo(tree);
+        assertThat(CategoryProtoCodec.decodeTree(protoBytes)).isEqualTo(tree);
+
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+        assertThat(protoBytes.length).isLessThan(Math.min(cborBytes.length, smileBytes.length));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void 인코딩별_시간_측정() throws Exception {
+        byte[] jsonBytes = json.writeValueAsBytes(tree);
+        byte[] cborBytes = cbor.writeValueAsBytes(tree);
+        byte[] smileBytes = smile.writeValueAsBytes(tree);
+        byte[] protoBytes = CategoryProtoCodec.encode(tree);
+
+        report("json", jsonBytes.length,
+            () -> json.writeValueAsBytes(tree), () -> json.readValue(jsonBytes, CategoryTreeResponse.class));
+        report("cbor", cborBytes.length,
+            () -> cbor.writeValueAsBytes(tree), () -> cbor.readValue(cborBytes, CategoryTreeResponse.class));
+        report("smile", smileBytes.length,
+            () -> smile.writeValueAsBytes(tree), () -> smile.readValue(smileBytes, CategoryTreeResponse.class));
+        report("protobuf", protoBytes.length,
+            () -> CategoryProtoCodec.encode(tree), () -> CategoryProtoCodec.decodeTree(protoBytes));
+    }
+
+    private static void report(String format, int size, Callable<?> encode, Callable<?> decode) throws Exception {
+        long encodeNanos = measure(encode);
+        long decodeNanos = measure(decode);
+        System.out.printf("%-8s size=%,9d bytes  encode=%,8.2f ms  decode=%,8.2f ms%n",
+            format, size, encodeNanos / 1_000_000.0, decodeNanos / 1_000_000.0);
+    }
+
+    private static long measure(Callable<?> task) throws Exception {
+        // 워밍업 후 평균
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.call();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.call();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CategoryProtoCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000);
+
+    @Test
+    void 카테고리_인코딩_디코딩_왕복() {
+        // given
+        CategoryResponse category = new CategoryResponse(2L, "스마트폰", "스마트폰 카테고리", 1L, CREATED_AT, CREATED_AT);
+
+        // when
+        CategoryResponse decoded = CategoryProtoCodec.decodeCategory(CategoryProtoCodec.encode(category));
+
+        // then
+        assertThat(decoded).isEqualTo(category);
+    }
+
+    @Test
+    void null_필드는_기록하지_않고_null_로_복원() {
+        // given
+        CategoryResponse category = new CategoryResponse(1L, "전자제품", null, null, null, null);
+
+        // when
+        byte[] encoded = CategoryProtoCodec.encode(category);
+
+        // then
+        assertThat(CategoryProtoCodec.decodeCategory(encoded)).isEqualTo(category);
+        assertThat(encoded).hasSize(2 + 2 + "전자제품".getBytes(java.nio.charset.StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void 트리_인코딩_디코딩_왕복() {
+        // given
+        CategoryNodeResponse android = new CategoryNodeResponse(3L, "안드로이드", null, CREATED_AT, CREATED_AT, List.of());
+        CategoryNodeResponse phones = new CategoryNodeResponse(2L, "스마트폰", "폰", CREATED_AT, CREATED_AT, List.of(android));
+        CategoryNodeResponse books = new CategoryNodeResponse(4L, "도서", null, CREATED_AT, CREATED_AT, List.of());
+        CategoryNodeResponse electronics = new CategoryNodeResponse(1L, "전자제품", null, CREATED_AT, CREATED_AT, List.of(phones));
+        CategoryTreeResponse tree = new CategoryTreeResponse(List.of(electronics, books));
+
+        // when
+        CategoryTreeResponse decoded = CategoryProtoCodec.decodeTree(CategoryProtoCodec.encode(tree));
+
+        // then
+        assertThat(decoded).isEqualTo(tree);
+    }
+
+    @Test
+    void 한_번에_쓴_트리는_자식을_따로_인코딩해_붙인_결과와_같음() {
+        // given - 128 바이트를 넘는 중첩 메시지(길이 varint 2바이트)와 4바이트 문자, 짝이 없는 서로게이트
+        CategoryNodeResponse leaf = new CategoryNodeResponse(300L, "이모지 \uD83D\uDCF1 " + "가".repeat(50), "끊긴 \uD83D 서로게이트",
+            CREATED_AT, null, List.of());
+        CategoryNodeResponse middle = new CategoryNodeResponse(2L, "중간", null, null, CREATED_AT, List.of(leaf, leaf));
+        CategoryTreeResponse tree = new CategoryTreeResponse(List.of(
+            new CategoryNodeResponse(-1L, "루트", "설명", CREATED_AT, CREATED_AT, List.of(middle))));
+
+        // when
+        byte[] encoded = CategoryProtoCodec.encode(tree);
+
+        // then
+        assertThat(encoded).isEqualTo(nested(1, node(tree.categories().get(0))));
+        assertThat(CategoryProtoCodec.decodeTree(encoded).categories().get(0).children().get(0).children().get(0).name())
+            .isEqualTo(leaf.name());
+    }
+
+    // 비교용: 자식 메시지를 먼저 인코딩해 부모에 붙이는 방식
+    private static byte[] node(CategoryNodeResponse node) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int64(out, 1, node.id());
+        string(out, 2, node.name());
+        string(out, 3, node.description());
+        int64(out, 4, micros(node.createdAt()));
+        int64(out, 5, micros(node.updatedAt()));
+        for (CategoryNodeResponse child : node.children()) {
+            out.writeBytes(nested(6, node(child)));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] nested(int field, byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        varint(out, field << 3 | 2);
+        varint(out, body.length);
+        out.writeBytes(body);
+        return out.toByteArray();
+    }
+
+    private static void int64(ByteArrayOutputStream out, int field, Long value) {
+        if (value != null) {
+            varint(out, field << 3);
+            varint(out, value);
+        }
+    }
+
+    private static void string(ByteArrayOutputStream out, int field, String value) {
+        if (value != null) {
+            out.writeBytes(nested(field, value.getBytes(java.nio.charset.StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static void varint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static Long micros(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000 : null;
+    }
+
+    @Test
+    void 알_수_없는_필드는_건너뜀() {
+        // given - 필드 15 (varint) 와 필드 16 (length-delimited) 을 앞에 추가
+        byte[] known = CategoryProtoCodec.encode(new CategoryResponse(1L, "전자제품", null, null, null, null));
+        byte[] unknown = {(byte) 0x78, 0x01, (byte) 0x82, 0x01, 0x02, 0x41, 0x42};
+        byte[] payload = Arrays.copyOf(unknown, unknown.length + known.length);
+        System.arraycopy(known, 0, payload, unknown.length, known.length);
+
+        // when
+        CategoryResponse decoded = CategoryProtoCodec.decodeCategory(payload);
+
+        // then
+        assertThat(decoded.id()).isEqualTo(1L);
+        assertThat(decoded.name()).isEqualTo("전자제품");
+    }
+
+    @Test
+    void 잘린_메시지는_예외발생() {
+        // given
+        byte[] encoded = CategoryProtoCodec.encode(new CategoryResponse(1L, "전자제품", null, null, null, null));
+
+        // when & then
+        assertThatThrownBy(() -> CategoryProtoCodec.decodeCategory(Arrays.copyOf(encoded, encoded.length - 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryNodeResponse;
+import com.example.categoryservice.application.port.out.CategoryTreeResponse;
+import com.example.categoryservice.infrastructure.web.PrecompressedCategoryTreeHttpMessageConverter.ContentCoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PrecompressedCategoryTreeHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = spy(new ObjectMapper());
+    private final PrecompressedCategoryTreeHttpMessageConverter converter =
+        new PrecompressedCategoryTreeHttpMessageConverter(objectMapper);
+
+    private final CategoryTreeResponse tree = new CategoryTreeResponse(List.of(
+        new CategoryNodeResponse(1L, "전자제품", null, null, null, List.of(
+            new CategoryNodeResponse(2L, "스마트폰", null, null, null, List.of())))));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void gzip_요청에는_미리_압축한_본문을_반환() throws IOException {
+        // given
+        acceptEncoding("gzip, deflate, br");
+
+        // when
+        MockHttpOutputMessage first = write(tree);
+        MockHttpOutputMessage second = write(tree);
+
+        // then
+        assertThat(first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(first.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(first.getHeaders().getContentLength()).isEqualTo(first.getBodyAsBytes().length);
+        assertThat(gunzip(first.getBodyAsBytes())).isEqualTo(objectMapper.writeValueAsBytes(tree));
+        assertThat(second.getBodyAsBytes()).isEqualTo(first.getBodyAsBytes());
+        // 같은 응답 인스턴스는 한 번만 직렬화 (검증용 호출 포함 2회)
+        verify(objectMapper, times(2)).writeValueAsBytes(tree);
+    }
+
+    @Test
+    void Accept_Encoding_이_없으면_압축하지_않음() throws IOException {
+        // when
+        MockHttpOutputMessage output = write(tree);
+
+        // then
+        assertThat(output.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(output.getBodyAsBytes()).isEqualTo(objectMapper.writeValueAsBytes(tree));
+    }
+
+    @Test
+    void 압축본은_그_인코딩이_처음_요청될_때만_만들고_가중치에_반영() throws IOException {
+        // given
+        byte[] json = objectMapper.writeValueAsBytes(tree);
+
+        // when - 압축 없이 요청한 뒤 gzip 요청
+        write(tree);
+        long identityOnly = converter.estimatedBytes();
+        acceptEncoding("gzip");
+        MockHttpOutputMessage gzip = write(tree);
+
+        // then - deflate 는 요청되지 않았으므로 만들지 않음
+        assertThat(identityOnly).isEqualTo(json.length);
+        assertThat(converter.estimatedBytes()).isEqualTo(json.length + gzip.getBodyAsBytes().length);
+    }
+
+    @Test
+    void 보관하는_본문은_바이트_상한을_넘지_않음() throws IOException {
+        // given
+        acceptEncoding("gzip");
+        byte[] json = objectMapper.writeValueAsBytes(tree);
+        PrecompressedCategoryTreeHttpMessageConverter bounded =
+            new PrecompressedCategoryTreeHttpMessageConverter(objectMapper, json.length * 3L);
+        List<CategoryTreeResponse> trees = List.of(
+            new CategoryTreeResponse(List.of(new CategoryNodeResponse(1L, "전자제품", null, null, null, List.of()))),
+            new CategoryTreeResponse(List.of(new CategoryNodeResponse(2L, "스마트폰", null, null, null, List.of()))),
+            new CategoryTreeResponse(List.of(new CategoryNodeResponse(3L, "도서", null, null, null, List.of()))));
+
+        // when
+        for (CategoryTreeResponse response : trees) {
+            bounded.write(response, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        }
+
+        // then
+        assertThat(bounded.estimatedBytes()).isPositive().isLessThanOrEqualTo(json.length * 3L);
+    }
+
+    @Test
+    void q_값에_따라_인코딩을_선택() {
+        assertThat(ContentCoding.negotiate(null)).isEqualTo(ContentCoding.IDENTITY);
+        assertThat(ContentCoding.negotiate("br")).isEqualTo(ContentCoding.IDENTITY);
+        assertThat(ContentCoding.negotiate("gzip;q=0, deflate")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ContentCoding.negotiate("deflate;q=0.5, gzip;q=0.8")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("*")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("*;q=0")).isEqualTo(ContentCoding.IDENTITY);
+    }
+
+    private MockHttpOutputMessage write(CategoryTreeResponse response) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+        return output;
+    }
+
+    private void acceptEncoding(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, value);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.infrastructure.config.ReadWriteRoutingDataSource;
+import com.example.categoryservice.infrastructure.config.ReadYourWritesContext;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesFilter 테스트")
+class ReadYourWritesFilterTest {
+
+    private ReadYourWritesFilter filter;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2();
+        ReadWriteRoutingDataSource routingDataSource =
+            new ReadWriteRoutingDataSource(primary, h2(), true, Duration.ZERO);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        filter = new ReadYourWritesFilter(routingDataSource, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("쓰기를 실행한 요청의 응답에 primary 카탈로그 버전을 헤더와 쿠키로 담음")
+    void 쓰기_응답에_카탈로그_버전을_담음() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/categories");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE catalog_version SET version = version + 1"));
+            res.getWriter().write("{\"id\":1}");
+        });
+
+        // then
+        assertThat(response.getHeader(ReadYourWritesFilter.CATALOG_VERSION_HEADER)).isEqualTo("8");
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+            .startsWith(ReadYourWritesFilter.CATALOG_VERSION_COOKIE + "=8")
+            .contains("Max-Age=300");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("쓰기가 없는 요청에는 카탈로그 버전을 담지 않음")
+    void 쓰기가_없는_요청에는_카탈로그_버전을_담지_않음() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/categories");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // then
+        assertThat(response.getHeader(ReadYourWritesFilter.CATALOG_VERSION_HEADER)).isNull();
+        assertThat(response.getCookie(ReadYourWritesFilter.CATALOG_VERSION_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더와 쿠키로 돌려받은 카탈로그 버전 중 큰 값을 요구 버전으로 사용")
+    void 돌려받은_카탈로그_버전_중_큰_값을_요구_버전으로_사용() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories");
+        request.addHeader(ReadYourWritesFilter.CATALOG_VERSION_HEADER, "5");
+        request.setCookies(new Cookie(ReadYourWritesFilter.CATALOG_VERSION_COOKIE, "9"));
+        AtomicLong required = new AtomicLong();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> required.set(ReadYourWritesContext.requiredCatalogVersion()));
+
+        // then
+        assertThat(required).hasValue(9L);
+        assertThat(ReadYourWritesContext.requiredCatalogVersion()).isZero();
+    }
+
+    private static DataSource h2() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:ryw-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE catalog_version (id BIGINT PRIMARY KEY, version BIGINT)");
+        jdbcTemplate.update("INSERT INTO catalog_version VALUES (1, 7)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.categoryservice.infrastructure.web;
+
+import com.example.categoryservice.application.port.out.CategoryChangeFeedResponse;
+import com.example.categoryservice.application.port.out.CategoryChangeResponse;
+import com.example.categoryservice.application.port.out.CategoryResponse;
+import com.example.categoryservice.infrastructure.config.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:ryw-primary;DB_CLOSE_DELAY=-1",
+    "app.datasource.routing.enabled=true",
+    "app.datasource.routing.primary-after-write=PT0S",
+    "app.datasource.routing.replica.url=jdbc:h2:mem:ryw-replica;DB_CLOSE_DELAY=-1",
+    "app.datasource.routing.replica.username=sa",
+    "app.datasource.routing.replica.password="
+})
+@ActiveProfiles("test")
+@DisplayName("read-your-writes 라우팅 통합 테스트")
+class ReadYourWritesRoutingIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private String baseUrl() {
+        return "http://localhost:" + port + "/api/v1/categories";
+    }
+
+    @BeforeEach
+    void setUp() {
+        // replica 를 primary 의 현재 상태로 맞춘 뒤, 이후 쓰기는 복제하지 않아 뒤처진 replica 를 만듦
+        replicate();
+        routingDataSource.refreshReplicaCatalogVersion();
+    }
+
+    @Test
+    @DisplayName("쓰기 응답의 카탈로그 버전을 헤더나 쿠키로 돌려보낸 읽기는 replica 가 뒤처진 동안 primary 에서 읽음")
+    void 카탈로그_버전을_돌려보낸_읽기는_replica_가_뒤처진_동안_primary_에서_읽음() {
+        // given
+        ResponseEntity<CategoryResponse> created = restTemplate.postForEntity(
+                baseUrl(), new CreateCategoryRequest("전자제품", null, null), CategoryResponse.class);
+        Long categoryId = created.getBody().id();
+        String version = created.getHeaders().getFirst(ReadYourWritesFilter.CATALOG_VERSION_HEADER);
+        String cookie = created.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+
+        // when
+        HttpHeaders byHeader = new HttpHeaders();
+        byHeader.set(ReadYourWritesFilter.CATALOG_VERSION_HEADER, version);
+        HttpHeaders byCookie = new HttpHeaders();
+        byCookie.set(HttpHeaders.COOKIE, cookie.split(";")[0]);
+        List<Long> fromHeader = changedCategoryIds(byHeader);
+        List<Long> fromCookie = changedCategoryIds(byCookie);
+        List<Long> withoutMarker = changedCategoryIds(new HttpHeaders());
+
+        // then - 표시가 없는 읽기만 아직 생성을 복제하지 않은 replica 로 감
+        assertThat(version).isNotNull();
+        assertThat(Long.parseLong(version)).isGreaterThan(routingDataSource.replicaCatalogVersion());
+        assertThat(fromHeader).contains(categoryId);
+        assertThat(fromCookie).contains(categoryId);
+        assertThat(withoutMarker).doesNotContain(categoryId);
+    }
+
+    @Test
+    @DisplayName("replica 가 요구 버전을 따라오면 같은 표시를 보낸 읽기도 replica 에서 읽음")
+    void replica_가_요구_버전을_따라오면_replica_에서_읽음() {
+        // given
+        ResponseEntity<CategoryResponse> created = restTemplate.postForEntity(
+                baseUrl(), new CreateCategoryRequest("도서", null, null), CategoryResponse.class);
+        Long categoryId = created.getBody().id();
+        HttpHeaders byHeader = new HttpHeaders();
+        byHeader.set(ReadYourWritesFilter.CATALOG_VERSION_HEADER,
+                created.getHeaders().getFirst(ReadYourWritesFilter.CATALOG_VERSION_HEADER));
+
+        // when - replica 가 생성을 따라잡은 뒤, 어느 쪽에서 읽었는지 구분하도록 replica 에서만 변경 로그 행을 지움
+        replicate();
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM category_change_log WHERE category_id = ?", categoryId);
+        routingDataSource.refreshReplicaCatalogVersion();
+
+        // then
+        assertThat(changedCategoryIds(byHeader)).doesNotContain(categoryId);
+    }
+
+    private List<Long> changedCategoryIds(HttpHeaders headers) {
+        ResponseEntity<CategoryChangeFeedResponse> response = restTemplate.exchange(
+                baseUrl() + "/changes?since=0&limit=1000", HttpMethod.GET, new HttpEntity<>(headers),
+                CategoryChangeFeedResponse.class);
+        return response.getBody().changes().stream().map(CategoryChangeResponse::categoryId).toList();
+    }
+
+    // H2 SCRIPT 로 primary 의 스키마와 데이터를 replica 에 그대로 옮김 (복제 한 번)
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+}